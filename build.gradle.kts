@@ -2,6 +2,7 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -23,19 +24,40 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
+    implementation(libs.caffeine)
+    implementation(libs.redisson)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    testImplementation(libs.jol.core)
+}
+
+// load test source set
+// NOTE: 애플리케이션을 같은 JVM 에서 실행하여 HTTP 부하를 주는 코드로, main 의 코드와 의존성을 그대로 사용합니다.
+val loadTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "loadTestImplementation"(libs.hdr.histogram)
 }
 
 // about source and compilation
+// NOTE: virtual thread 모드는 -Papp.java.version=21 로 Java 21 toolchain 을 사용해야 합니다.
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(property("app.java.version").toString())
+    }
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
-    toolVersion = "0.8.7"
+    toolVersion = "0.8.11"
 }
 
 // bundling tasks
@@ -48,5 +70,60 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+// benchmark tasks
+tasks.register<Test>("benchmark") {
+    description = "Runs tests tagged with @Tag(\"benchmark\")."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    maxHeapSize = "4g"
+    // NOTE: JOL 이 record 의 크기를 측정할 수 있도록 자기 자신에 대한 agent attach 를 허용합니다.
+    jvmArgs("-Djdk.attach.allowAttachSelf=true")
+    systemProperties(System.getProperties().filterKeys { it.toString().startsWith("benchmark.") }
+        .mapKeys { it.key.toString() })
+    testLogging {
+        showStandardStreams = true
+    }
+    outputs.upToDateWhen { false }
+}
+// jmh tasks
+// NOTE: ./gradlew jmh -Pjmh.includes=PointServiceBenchmark 처럼 실행할 benchmark 를 정규식으로 지정할 수 있으며,
+//  결과와 gc profiler 의 할당량(gc.alloc.rate.norm)은 build/results/jmh 에 기록됩니다.
+jmh {
+    jmhVersion.set(libs.versions.jmh.asProvider())
+    findProperty("jmh.includes")?.let { includes.add(it.toString()) }
+    // NOTE: -Pjmh.params="table=THROTTLED;users=16" 처럼 benchmark 의 @Param 기본값을 바꿀 수 있습니다.
+    findProperty("jmh.params")?.toString()?.split(";")?.forEach { param ->
+        val (name, values) = param.split("=", limit = 2)
+        benchmarkParameters.put(name, objects.listProperty<String>().value(values.split(",")))
+    }
+    fork.set(1)
+    warmupIterations.set(3)
+    warmup.set("1s")
+    iterations.set(5)
+    timeOnIteration.set("1s")
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    jvmArgs.add("-Xmx4g")
+}
+// load test tasks
+// NOTE: ./gradlew loadTest -Dloadtest.rate=500 -Dpoint.lock.registry=striped 처럼 부하 설정(loadtest.*)과
+//  애플리케이션 설정(point.*)을 지정하며, 결과는 build/reports/loadtest 에 기록됩니다.
+tasks.register<JavaExec>("loadTest") {
+    description = "Runs an open-model HTTP load test against the application started in the same JVM."
+    group = "verification"
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("io.hhplus.tdd.loadtest.PointLoadTest")
+    maxHeapSize = "2g"
+    systemProperty("loadtest.report-dir", layout.buildDirectory.dir("reports/loadtest").get().asFile)
+    systemProperties(System.getProperties()
+        .filterKeys { it.toString().startsWith("loadtest.") || it.toString().startsWith("point.") }
+        .mapKeys { it.key.toString() })
 }
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link PointHistoryTable} 과 같은 결과를 지연 없이 반환하는 Table
+ * <p>
+ * 조회 비용이 실제 Table 과 같도록 사용자별로 나누지 않고 전체 내역을 탐색하며, 동시 기록을 위해 read/write lock 을
+ * 사용합니다.
+ */
+class StubPointHistoryTable extends PointHistoryTable {
+
+  private final List<PointHistory> table = new ArrayList<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private long cursor = 1;
+
+  @Override
+  public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+    lock.writeLock().lock();
+    try {
+      final PointHistory pointHistory =
+          new PointHistory(cursor++, userId, amount, type, updateMillis);
+      table.add(pointHistory);
+      return pointHistory;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public List<PointHistory> selectAllByUserId(long userId) {
+    lock.readLock().lock();
+    try {
+      return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.UserPoint;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link UserPointTable} 과 같은 결과를 지연 없이 반환하는 Table
+ */
+class StubUserPointTable extends UserPointTable {
+
+  private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+  @Override
+  public UserPoint selectById(Long id) {
+    final UserPoint userPoint = table.get(id);
+    return userPoint != null ? userPoint : UserPoint.empty(id);
+  }
+
+  @Override
+  public UserPoint insertOrUpdate(long id, long amount) {
+    final UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+    table.put(id, userPoint);
+    return userPoint;
+  }
+}
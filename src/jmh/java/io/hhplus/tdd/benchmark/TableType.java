@@ -0,0 +1,46 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+
+/**
+ * benchmark 에서 사용할 Table
+ */
+public enum TableType {
+
+  /**
+   * 지연 없이 동시 접근이 가능한 Table - Table 이외의 코드 비용을 측정합니다.
+   */
+  STUB {
+    @Override
+    public UserPointTable userPointTable() {
+      return new StubUserPointTable();
+    }
+
+    @Override
+    public PointHistoryTable pointHistoryTable() {
+      return new StubPointHistoryTable();
+    }
+  },
+
+  /**
+   * 조회/기록마다 최대 200/300ms 지연되는 실제 Table
+   * <p>
+   * 초기 잔액과 내역도 지연을 거쳐 기록되므로 -p users=16 처럼 사용자 수를 줄여 실행합니다.
+   */
+  THROTTLED {
+    @Override
+    public UserPointTable userPointTable() {
+      return new UserPointTable();
+    }
+
+    @Override
+    public PointHistoryTable pointHistoryTable() {
+      return new PointHistoryTable();
+    }
+  };
+
+  public abstract UserPointTable userPointTable();
+
+  public abstract PointHistoryTable pointHistoryTable();
+}
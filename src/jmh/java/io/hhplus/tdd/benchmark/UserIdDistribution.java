@@ -0,0 +1,53 @@
+package io.hhplus.tdd.benchmark;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * benchmark 요청이 사용자를 선택하는 분포
+ */
+public enum UserIdDistribution {
+
+  /**
+   * 모든 사용자를 같은 확률로 선택합니다.
+   */
+  UNIFORM {
+    @Override
+    long[] sample(int users, int count, SplittableRandom random) {
+      final long[] userIds = new long[count];
+      for (int i = 0; i < count; i++) {
+        userIds[i] = random.nextInt(users) + 1;
+      }
+      return userIds;
+    }
+  },
+
+  /**
+   * Zipfian 분포(theta 0.99)로 선택하여 소수의 사용자에게 요청이 몰립니다. - 1번 사용자가 가장 많이 선택됩니다.
+   */
+  HOT {
+    @Override
+    long[] sample(int users, int count, SplittableRandom random) {
+      final double[] cumulative = new double[users];
+      double sum = 0;
+      for (int rank = 0; rank < users; rank++) {
+        sum += 1 / Math.pow(rank + 1, THETA);
+        cumulative[rank] = sum;
+      }
+
+      final long[] userIds = new long[count];
+      for (int i = 0; i < count; i++) {
+        final int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+        userIds[i] = Math.min(index < 0 ? -index - 1 : index, users - 1) + 1;
+      }
+      return userIds;
+    }
+  };
+
+  private static final double THETA = 0.99;
+
+  /**
+   * 1 ~ users 범위의 사용자 id 를 count 개 선택합니다.
+   */
+  abstract long[] sample(int users, int count, SplittableRandom random);
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.benchmark;
+
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * 스레드마다 미리 선택해 둔 사용자 id 를 순서대로 반환합니다.
+ * <p>
+ * 측정 중 난수 생성 비용이 섞이지 않도록 benchmark 의 users, distribution 파라미터로 id 를 미리 선택하며, 이 state 를
+ * 사용하는 benchmark 는 두 파라미터를 선언해야 합니다.
+ */
+@State(Scope.Thread)
+public class UserIds {
+
+  private static final int SIZE = 1 << 16;
+  private static final int MASK = SIZE - 1;
+
+  private long[] userIds;
+  private int cursor;
+
+  @Setup
+  public void setUp(BenchmarkParams benchmarkParams, ThreadParams threadParams) {
+    final int users = Integer.parseInt(benchmarkParams.getParam("users"));
+    final UserIdDistribution distribution =
+        UserIdDistribution.valueOf(benchmarkParams.getParam("distribution"));
+    // NOTE: 스레드마다 다른 순서로 선택하되, 실행마다 같은 순서가 되도록 스레드 번호를 seed 로 사용합니다.
+    userIds = distribution.sample(users, SIZE, new SplittableRandom(threadParams.getThreadIndex()));
+  }
+
+  public long next() {
+    return userIds[cursor++ & MASK];
+  }
+}
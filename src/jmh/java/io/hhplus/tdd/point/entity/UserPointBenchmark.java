@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point.entity;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 잔액 계산과 새 {@link UserPoint} 생성 비용을 측정합니다. - gc profiler 의 gc.alloc.rate.norm 이 호출당 할당량입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserPointBenchmark {
+
+  // NOTE: 상수로 접어 계산이 제거되지 않도록 state 의 필드로 전달합니다.
+  private UserPoint userPoint = new UserPoint(1L, 1_000_000L, System.currentTimeMillis());
+  private Long amount = 1L;
+
+  @Benchmark
+  public UserPoint addPoint() {
+    return userPoint.addPoint(amount);
+  }
+
+  @Benchmark
+  public UserPoint usePoint() {
+    return userPoint.usePoint(amount);
+  }
+}
@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.benchmark.TableType;
+import io.hhplus.tdd.benchmark.UserIdDistribution;
+import io.hhplus.tdd.benchmark.UserIds;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 내역 저장소 구현별 기록/조회 처리량을 단일 스레드에서 측정합니다.
+ * <p>
+ * 조회는 사용자마다 histories 개씩 미리 기록한 내역을 대상으로 하며, 기록 benchmark 가 추가한 내역은 다음 trial 에 남지
+ * 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class PointHistoryRepositoryBenchmark {
+
+  @Param({"1000"})
+  public int users;
+
+  @Param({"UNIFORM", "HOT"})
+  public UserIdDistribution distribution;
+
+  @Param({"STUB"})
+  public TableType table;
+
+  @Param({"10"})
+  public int histories;
+
+  @Param({"TABLE", "INDEXED", "COLUMNAR"})
+  public RepositoryType repository;
+
+  private PointHistoryRepository pointHistoryRepository;
+
+  @Setup
+  public void setUp() {
+    final PointHistoryRepository pointHistoryRepositoryImpl =
+        new PointHistoryRepositoryImpl(table.pointHistoryTable());
+    pointHistoryRepository = switch (repository) {
+      case TABLE -> pointHistoryRepositoryImpl;
+      case INDEXED -> new IndexedPointHistoryRepository(pointHistoryRepositoryImpl);
+      case COLUMNAR -> new ColumnarPointHistoryRepository();
+    };
+
+    final long now = System.currentTimeMillis();
+    for (int i = 0; i < histories; i++) {
+      for (long userId = 1; userId <= users; userId++) {
+        pointHistoryRepository.insert(PointHistory.from(userId, 1L, TransactionType.CHARGE, now));
+      }
+    }
+  }
+
+  @Benchmark
+  public PointHistory insert(UserIds userIds) {
+    return pointHistoryRepository.insert(
+        PointHistory.from(userIds.next(), 1L, TransactionType.CHARGE, System.currentTimeMillis()));
+  }
+
+  @Benchmark
+  public List<PointHistory> findAllByUserId(UserIds userIds) {
+    return pointHistoryRepository.findAllByUserId(userIds.next());
+  }
+
+  public enum RepositoryType {
+    TABLE, INDEXED, COLUMNAR
+  }
+}
@@ -0,0 +1,88 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.tdd.benchmark.TableType;
+import io.hhplus.tdd.benchmark.UserIdDistribution;
+import io.hhplus.tdd.benchmark.UserIds;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointRepository;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 잔액 저장소 구현별 조회/갱신 처리량을 측정합니다.
+ * <p>
+ * TABLE 은 Table 을 그대로 사용하는 {@link PointRepositoryImpl} 이고, 나머지는 같은 Table 앞에 두는 구현입니다. 여러
+ * 스레드가 동시에 요청하는 경우는 {@link PointRepositoryContendedBenchmark} 가 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class PointRepositoryBenchmark {
+
+  @Param({"1000"})
+  public int users;
+
+  @Param({"UNIFORM", "HOT"})
+  public UserIdDistribution distribution;
+
+  @Param({"STUB"})
+  public TableType table;
+
+  @Param({"TABLE", "CACHING", "COALESCING", "VERSIONED"})
+  public RepositoryType repository;
+
+  private ExecutorService executor;
+  private PointRepository pointRepository;
+
+  @Setup
+  public void setUp() {
+    executor = Executors.newSingleThreadExecutor();
+    final PointRepository pointRepositoryImpl = new PointRepositoryImpl(table.userPointTable());
+    pointRepository = switch (repository) {
+      case TABLE -> pointRepositoryImpl;
+      case CACHING -> new CachingPointRepository(pointRepositoryImpl,
+          Caffeine.newBuilder().maximumSize(users).build());
+      case COALESCING -> new CoalescingPointRepository(pointRepositoryImpl, executor);
+      case VERSIONED -> new VersionedPointRepository(pointRepositoryImpl);
+    };
+
+    final long now = System.currentTimeMillis();
+    for (long userId = 1; userId <= users; userId++) {
+      pointRepository.update(UserPoint.from(userId, 0, now));
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public Optional<UserPoint> findById(UserIds userIds) {
+    return pointRepository.findById(userIds.next());
+  }
+
+  @Benchmark
+  public UserPoint update(UserIds userIds) {
+    return pointRepository.update(UserPoint.from(userIds.next(), 1, System.currentTimeMillis()));
+  }
+
+  public enum RepositoryType {
+    TABLE, CACHING, COALESCING, VERSIONED
+  }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * {@link PointRepositoryBenchmark} 를 8개 스레드가 동시에 요청하며 측정합니다.
+ */
+@Threads(8)
+public class PointRepositoryContendedBenchmark extends PointRepositoryBenchmark {
+
+}
@@ -0,0 +1,100 @@
+package io.hhplus.tdd.point.service.impl;
+
+import io.hhplus.tdd.benchmark.TableType;
+import io.hhplus.tdd.benchmark.UserIdDistribution;
+import io.hhplus.tdd.benchmark.UserIds;
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.lock.impl.RefCountedLockRegistry;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointRepository;
+import io.hhplus.tdd.point.repository.impl.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.impl.PointRepositoryImpl;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * 기본(lock) 모드 {@link PointServiceImpl} 의 충전/사용/조회 처리량을 단일 스레드에서 측정합니다.
+ * <p>
+ * 사용자 분포(distribution)와 Table(table)을 파라미터로 바꿀 수 있으며, 여러 스레드가 동시에 요청하는 경우는
+ * {@link PointServiceContendedBenchmark} 가 같은 benchmark 를 측정합니다. 실제 Table 은 요청마다 수백 ms 지연되므로
+ * ./gradlew jmh -Pjmh.params="table=THROTTLED;users=16" 처럼 명시해야 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class PointServiceBenchmark {
+
+  private static final long INITIAL_POINT = Long.MAX_VALUE / 2;
+
+  @Param({"1000"})
+  public int users;
+
+  @Param({"UNIFORM", "HOT"})
+  public UserIdDistribution distribution;
+
+  @Param({"STUB"})
+  public TableType table;
+
+  @Param({"10"})
+  public int histories;
+
+  private PointServiceImpl pointService;
+
+  @Setup
+  public void setUp(BenchmarkParams benchmarkParams) {
+    final PointRepository pointRepository = new PointRepositoryImpl(table.userPointTable());
+    final PointHistoryRepository pointHistoryRepository =
+        new PointHistoryRepositoryImpl(table.pointHistoryTable());
+    pointService = new PointServiceImpl(pointRepository, pointHistoryRepository,
+        new RefCountedLockRegistry(), Runnable::run);
+
+    final long now = System.currentTimeMillis();
+    for (long userId = 1; userId <= users; userId++) {
+      pointRepository.update(UserPoint.from(userId, INITIAL_POINT, now));
+    }
+    // NOTE: 내역 기록도 Table 지연을 거치므로 내역 조회를 측정할 때만 미리 기록합니다.
+    if (benchmarkParams.getBenchmark().endsWith("getUserPointHistories")) {
+      for (int i = 0; i < histories; i++) {
+        for (long userId = 1; userId <= users; userId++) {
+          pointHistoryRepository.insert(
+              PointHistory.from(userId, 1L, TransactionType.CHARGE, now));
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  public UserPoint charge(UserIds userIds) {
+    return pointService.charge(UserPointCommand.Charge.from(userIds.next(), 1L));
+  }
+
+  @Benchmark
+  public UserPoint use(UserIds userIds) {
+    return pointService.use(UserPointCommand.Use.from(userIds.next(), 1L));
+  }
+
+  @Benchmark
+  public UserPoint getUserPoint(UserIds userIds) {
+    return pointService.getUserPoint(UserPointCommand.GetUserPoint.from(userIds.next()));
+  }
+
+  @Benchmark
+  public List<PointHistory> getUserPointHistories(UserIds userIds) {
+    return pointService.getUserPointHistories(
+        UserPointCommand.GetUserPointHistories.from(userIds.next()));
+  }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.service.impl;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * {@link PointServiceBenchmark} 를 8개 스레드가 동시에 요청하며 측정합니다. - HOT 분포에서는 같은 사용자의 lock 을
+ * 기다리는 비용이 포함됩니다.
+ */
+@Threads(8)
+public class PointServiceContendedBenchmark extends PointServiceBenchmark {
+
+}
@@ -0,0 +1,49 @@
+package io.hhplus.tdd.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+
+/**
+ * 부하를 주는 API
+ */
+enum Endpoint {
+
+  POINT {
+    @Override
+    HttpRequest request(String baseUrl, long userId, long amount, Duration timeout) {
+      return builder(baseUrl + "/point/" + userId, timeout).GET().build();
+    }
+  },
+  HISTORIES {
+    @Override
+    HttpRequest request(String baseUrl, long userId, long amount, Duration timeout) {
+      return builder(baseUrl + "/point/" + userId + "/histories", timeout).GET().build();
+    }
+  },
+  CHARGE {
+    @Override
+    HttpRequest request(String baseUrl, long userId, long amount, Duration timeout) {
+      return builder(baseUrl + "/point/" + userId + "/charge", timeout)
+          .header("Content-Type", "application/json")
+          .method("PATCH", BodyPublishers.ofString(Long.toString(amount)))
+          .build();
+    }
+  },
+  USE {
+    @Override
+    HttpRequest request(String baseUrl, long userId, long amount, Duration timeout) {
+      return builder(baseUrl + "/point/" + userId + "/use", timeout)
+          .header("Content-Type", "application/json")
+          .method("PATCH", BodyPublishers.ofString(Long.toString(amount)))
+          .build();
+    }
+  };
+
+  abstract HttpRequest request(String baseUrl, long userId, long amount, Duration timeout);
+
+  private static HttpRequest.Builder builder(String url, Duration timeout) {
+    return HttpRequest.newBuilder(URI.create(url)).timeout(timeout);
+  }
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 설정 - loadtest.* system property 로 지정합니다.
+ *
+ * @param rate          초당 요청 수 - 응답을 기다리지 않고 일정한 간격으로 요청합니다.
+ * @param warmup        결과에 포함하지 않는 요청 시간
+ * @param duration      결과에 포함하는 요청 시간
+ * @param mix           API 별 요청 비율 (예: point=60,histories=10,charge=20,use=10)
+ * @param users         요청할 사용자 수
+ * @param theta         사용자 분포의 치우침 (0 : 균등, 0.99 : 소수의 사용자에게 집중)
+ * @param initialPoint  요청 전에 사용자마다 충전해 두는 포인트 - 사용 요청이 잔액 부족으로 실패하지 않도록 합니다.
+ * @param amount        충전/사용 요청의 포인트
+ * @param timeout       요청별 응답 대기 시간 - 초과한 요청은 실패로 기록합니다.
+ * @param reportDir     결과(JSON, HdrHistogram 백분위 분포)를 기록할 directory
+ * @param label         결과 파일 이름에 붙일 이름 - 비교할 설정(예: striped-lock)을 지정합니다.
+ */
+record LoadTestOptions(
+    int rate,
+    Duration warmup,
+    Duration duration,
+    Map<Endpoint, Integer> mix,
+    int users,
+    double theta,
+    long initialPoint,
+    long amount,
+    Duration timeout,
+    Path reportDir,
+    String label
+) {
+
+  static LoadTestOptions fromSystemProperties() {
+    return new LoadTestOptions(
+        Integer.parseInt(property("rate", "200")),
+        Duration.parse(property("warmup", "PT5S")),
+        Duration.parse(property("duration", "PT30S")),
+        parseMix(property("mix", "point=60,histories=10,charge=20,use=10")),
+        Integer.parseInt(property("users", "1000")),
+        Double.parseDouble(property("theta", "0.99")),
+        Long.parseLong(property("initial-point", "1000000")),
+        Long.parseLong(property("amount", "10")),
+        Duration.parse(property("timeout", "PT30S")),
+        Path.of(property("report-dir", "build/reports/loadtest")),
+        property("label", "default"));
+  }
+
+  private static String property(String name, String defaultValue) {
+    return System.getProperty("loadtest." + name, defaultValue);
+  }
+
+  private static Map<Endpoint, Integer> parseMix(String mix) {
+    final Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+    for (String entry : mix.split(",")) {
+      final String[] nameAndWeight = entry.trim().split("=");
+      final int weight = Integer.parseInt(nameAndWeight[1].trim());
+      if (weight < 0) {
+        throw new IllegalArgumentException("mix weight must not be negative: " + entry);
+      }
+      weights.put(Endpoint.valueOf(nameAndWeight[0].trim().toUpperCase()), weight);
+    }
+    if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+      throw new IllegalArgumentException("mix must have at least one positive weight: " + mix);
+    }
+    return weights;
+  }
+}
@@ -0,0 +1,62 @@
+package io.hhplus.tdd.loadtest;
+
+import java.time.Instant;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 부하 결과 - 실행마다 JSON 으로 기록하여 lock/cache 설정별 결과를 비교합니다.
+ *
+ * @param applicationProperties 실행 시 지정한 애플리케이션 설정(point.*)
+ */
+record LoadTestReport(
+    String label,
+    Instant startedAt,
+    LoadTestOptions options,
+    Map<String, String> applicationProperties,
+    Result total,
+    Map<Endpoint, Result> endpoints
+) {
+
+  /**
+   * @param statuses   응답 상태 코드별 요청 수
+   * @param failed     응답을 받지 못한 요청 수 (timeout, 연결 실패)
+   * @param throughput 결과에 포함한 시간 동안 초당 완료된 요청 수
+   */
+  record Result(
+      long requests,
+      Map<Integer, Long> statuses,
+      long failed,
+      double throughput,
+      Latency latencyMillis
+  ) {
+
+  }
+
+  /**
+   * 예정된 요청 시각부터 응답을 받은 시각까지의 시간 - 요청이 밀려 늦게 보낸 시간도 포함합니다.
+   */
+  record Latency(
+      double p50,
+      double p90,
+      double p99,
+      double p999,
+      double max,
+      double mean
+  ) {
+
+    static Latency from(Histogram histogramMicros) {
+      return new Latency(
+          millis(histogramMicros.getValueAtPercentile(50)),
+          millis(histogramMicros.getValueAtPercentile(90)),
+          millis(histogramMicros.getValueAtPercentile(99)),
+          millis(histogramMicros.getValueAtPercentile(99.9)),
+          millis(histogramMicros.getMaxValue()),
+          histogramMicros.getMean() / 1_000);
+    }
+
+    private static double millis(long micros) {
+      return micros / 1_000.0;
+    }
+  }
+}
@@ -0,0 +1,314 @@
+package io.hhplus.tdd.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.hhplus.tdd.TddApplication;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 애플리케이션을 임의의 port 로 실행한 뒤, 정해진 간격마다 응답을 기다리지 않고 요청하는(open model) 부하를 줍니다.
+ * <p>
+ * 요청마다 예정된 시각을 먼저 정하고 응답 시간을 그 시각부터 측정하므로, 응답이 늦어 요청을 늦게 보낸 시간도 응답
+ * 시간에 포함됩니다(coordinated omission 방지). 결과는 loadtest.report-dir 에 JSON 과 API 별 HdrHistogram 백분위
+ * 분포(.hgrm)로 기록합니다.
+ */
+public class PointLoadTest {
+
+  private static final DateTimeFormatter FILE_TIMESTAMP =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneId.systemDefault());
+  private static final int SIGNIFICANT_DIGITS = 3;
+  private static final int SEED_CONCURRENCY = 64;
+
+  private final LoadTestOptions options;
+  private final String baseUrl;
+  private final HttpClient httpClient;
+  private final UserIdSampler userIdSampler;
+  private final Endpoint[] endpoints;
+  private final int[] cumulativeWeights;
+  private final Map<Endpoint, EndpointRecorder> recorders = new EnumMap<>(Endpoint.class);
+  private final AtomicInteger inFlight = new AtomicInteger();
+  /**
+   * 응답을 기다리는 요청 - 응답을 받거나 timeout 으로 기록할 때 먼저 제거한 쪽만 기록합니다.
+   */
+  private final ConcurrentHashMap<Long, PendingRequest> pending = new ConcurrentHashMap<>();
+
+  PointLoadTest(LoadTestOptions options, String baseUrl) {
+    this.options = options;
+    this.baseUrl = baseUrl;
+    this.httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(options.timeout())
+        .build();
+    this.userIdSampler = new UserIdSampler(options.users(), options.theta());
+
+    final List<Endpoint> weighted = new ArrayList<>();
+    final List<Integer> cumulative = new ArrayList<>();
+    int sum = 0;
+    for (Map.Entry<Endpoint, Integer> entry : options.mix().entrySet()) {
+      if (entry.getValue() > 0) {
+        sum += entry.getValue();
+        weighted.add(entry.getKey());
+        cumulative.add(sum);
+        recorders.put(entry.getKey(), new EndpointRecorder());
+      }
+    }
+    this.endpoints = weighted.toArray(Endpoint[]::new);
+    this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  public static void main(String[] args) throws Exception {
+    final LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+    final LoadTestReport report;
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class)
+        .properties("server.port=0")
+        .run(args)) {
+      final int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      report = new PointLoadTest(options, "http://localhost:" + port).run();
+    }
+    print(report);
+  }
+
+  LoadTestReport run() throws Exception {
+    final Instant startedAt = Instant.now();
+    seed();
+
+    System.out.printf("rate=%d/s, warmup=%s, duration=%s, users=%d, theta=%.2f (hottest %.1f%%)%n",
+        options.rate(), options.warmup(), options.duration(), options.users(), options.theta(),
+        userIdSampler.hottestProbability() * 100);
+
+    final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+    final long startNanos = System.nanoTime();
+    final long measureFromNanos = startNanos + options.warmup().toNanos();
+    final long endNanos = measureFromNanos + options.duration().toNanos();
+    int maxInFlight = 0;
+    for (long sequence = 0; ; sequence++) {
+      // NOTE: 예정 시각은 이전 요청의 응답과 관계없이 정해지며, 예정 시각이 지났다면 기다리지 않고 바로 요청합니다.
+      final long intendedNanos = startNanos + sequence * intervalNanos;
+      if (intendedNanos >= endNanos) {
+        break;
+      }
+      long remainingNanos;
+      while ((remainingNanos = intendedNanos - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(remainingNanos);
+      }
+      send(nextEndpoint(), sequence, intendedNanos, intendedNanos >= measureFromNanos);
+      maxInFlight = Math.max(maxInFlight, inFlight.get());
+    }
+    awaitInFlight();
+    System.out.printf("max in-flight requests=%d%n", maxInFlight);
+
+    return report(startedAt);
+  }
+
+  /**
+   * 사용 요청이 잔액 부족으로 실패하지 않도록 모든 사용자에게 포인트를 충전합니다.
+   */
+  private void seed() {
+    if (options.initialPoint() <= 0 || !recorders.containsKey(Endpoint.USE)) {
+      return;
+    }
+
+    final Semaphore permits = new Semaphore(SEED_CONCURRENCY);
+    final List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>();
+    for (long userId = 1; userId <= options.users(); userId++) {
+      permits.acquireUninterruptibly();
+      responses.add(httpClient.sendAsync(
+              Endpoint.CHARGE.request(baseUrl, userId, options.initialPoint(), options.timeout()),
+              BodyHandlers.discarding())
+          .whenComplete((response, throwable) -> permits.release()));
+    }
+    CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+  }
+
+  private Endpoint nextEndpoint() {
+    final int value = ThreadLocalRandom.current()
+        .nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+    for (int i = 0; i < cumulativeWeights.length; i++) {
+      if (value < cumulativeWeights[i]) {
+        return endpoints[i];
+      }
+    }
+    return endpoints[endpoints.length - 1];
+  }
+
+  private void send(Endpoint endpoint, long sequence, long intendedNanos, boolean measured) {
+    final EndpointRecorder recorder = recorders.get(endpoint);
+    pending.put(sequence, new PendingRequest(recorder, intendedNanos, measured));
+    inFlight.incrementAndGet();
+    httpClient.sendAsync(
+            endpoint.request(baseUrl, userIdSampler.next(), options.amount(), options.timeout()),
+            BodyHandlers.discarding())
+        .whenComplete((response, throwable) -> {
+          // NOTE: 기다리는 시간을 초과하여 이미 timeout 으로 기록한 요청은 다시 기록하지 않습니다.
+          if (pending.remove(sequence) != null && measured) {
+            recorder.record(System.nanoTime() - intendedNanos, response, throwable);
+          }
+          inFlight.decrementAndGet();
+        });
+  }
+
+  /**
+   * 응답을 기다리는 요청이 끝나기를 기다립니다. - 기다리는 시간 안에 끝나지 않은 요청은 그 시각까지의 응답 시간으로
+   * 실패(timeout)로 기록하여, 가장 느린 요청이 결과에서 빠지지 않도록 합니다.
+   */
+  private void awaitInFlight() {
+    final long deadline = System.nanoTime() + options.timeout().toNanos()
+        + TimeUnit.SECONDS.toNanos(5);
+    while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    final LongAdder timedOut = new LongAdder();
+    pending.forEach((sequence, request) -> {
+      if (pending.remove(sequence) != null && request.measured()) {
+        request.recorder().recordTimeout(deadline - request.intendedNanos());
+        timedOut.increment();
+      }
+    });
+    if (timedOut.sum() > 0) {
+      System.out.printf("timed out requests=%d%n", timedOut.sum());
+    }
+  }
+
+  private LoadTestReport report(Instant startedAt) throws IOException {
+    final double seconds = options.duration().toNanos() / 1e9;
+    final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+    final Map<Integer, Long> totalStatuses = new TreeMap<>();
+    long totalFailed = 0;
+    final Map<Endpoint, LoadTestReport.Result> results = new EnumMap<>(Endpoint.class);
+    for (Map.Entry<Endpoint, EndpointRecorder> entry : recorders.entrySet()) {
+      final EndpointRecorder recorder = entry.getValue();
+      final Histogram histogram = recorder.histogram.copy();
+      final Map<Integer, Long> statuses = recorder.statuses();
+      total.add(histogram);
+      statuses.forEach((status, count) -> totalStatuses.merge(status, count, Long::sum));
+      totalFailed += recorder.failed.sum();
+      results.put(entry.getKey(), new LoadTestReport.Result(histogram.getTotalCount(), statuses,
+          recorder.failed.sum(), histogram.getTotalCount() / seconds,
+          LoadTestReport.Latency.from(histogram)));
+    }
+
+    final Map<String, String> applicationProperties = new TreeMap<>();
+    System.getProperties().forEach((key, value) -> {
+      if (key.toString().startsWith("point.")) {
+        applicationProperties.put(key.toString(), value.toString());
+      }
+    });
+    final LoadTestReport report = new LoadTestReport(options.label(), startedAt, options,
+        applicationProperties,
+        new LoadTestReport.Result(total.getTotalCount(), totalStatuses, totalFailed,
+            total.getTotalCount() / seconds, LoadTestReport.Latency.from(total)),
+        results);
+    write(report, startedAt);
+    return report;
+  }
+
+  private void write(LoadTestReport report, Instant startedAt) throws IOException {
+    final Path directory = options.reportDir();
+    Files.createDirectories(directory);
+    final String name = options.label() + "-" + FILE_TIMESTAMP.format(startedAt);
+
+    final ObjectMapper objectMapper = JsonMapper.builder()
+        .findAndAddModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .build();
+    final Path reportPath = directory.resolve(name + ".json");
+    objectMapper.writeValue(reportPath.toFile(), report);
+
+    // NOTE: HdrHistogram 의 백분위 분포는 HistogramLogAnalyzer 등으로 여러 실행을 겹쳐 비교할 수 있습니다.
+    for (Map.Entry<Endpoint, EndpointRecorder> entry : recorders.entrySet()) {
+      final Path histogramPath = directory.resolve(
+          name + "-" + entry.getKey().name().toLowerCase() + ".hgrm");
+      try (PrintStream out = new PrintStream(Files.newOutputStream(histogramPath))) {
+        entry.getValue().histogram.outputPercentileDistribution(out, 1_000.0);
+      }
+    }
+    System.out.printf("report=%s%n", reportPath.toAbsolutePath());
+  }
+
+  private static void print(LoadTestReport report) {
+    System.out.printf("%-10s %9s %9s %9s %9s %9s %9s %9s %9s%n", "endpoint", "requests",
+        "non-2xx", "failed", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "req/s");
+    report.endpoints().forEach((endpoint, result) -> print(endpoint.name(), result));
+    print("TOTAL", report.total());
+  }
+
+  private static void print(String name, LoadTestReport.Result result) {
+    final long non2xx = result.statuses().entrySet().stream()
+        .filter(entry -> entry.getKey() / 100 != 2)
+        .mapToLong(Map.Entry::getValue)
+        .sum();
+    final LoadTestReport.Latency latency = result.latencyMillis();
+    System.out.printf("%-10s %9d %9d %9d %9.1f %9.1f %9.1f %9.1f %9.1f%n", name,
+        result.requests(), non2xx, result.failed(), latency.p50(), latency.p99(), latency.p999(),
+        latency.max(), result.throughput());
+  }
+
+  /**
+   * API 별 응답 시간(µs)과 상태 코드별 요청 수
+   */
+  private static final class EndpointRecorder {
+
+    private final ConcurrentHistogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final ConcurrentHashMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failed = new LongAdder();
+
+    private void record(long latencyNanos, HttpResponse<?> response, Throwable throwable) {
+      histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+      if (throwable != null) {
+        failed.increment();
+      } else {
+        statuses.computeIfAbsent(response.statusCode(), k -> new LongAdder()).increment();
+      }
+    }
+
+    private void recordTimeout(long latencyNanos) {
+      histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+      failed.increment();
+    }
+
+    private Map<Integer, Long> statuses() {
+      final Map<Integer, Long> counts = new TreeMap<>();
+      statuses.forEach((status, count) -> counts.put(status, count.sum()));
+      return counts;
+    }
+  }
+
+  private record PendingRequest(
+      EndpointRecorder recorder,
+      long intendedNanos,
+      boolean measured
+  ) {
+
+  }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 1 ~ users 범위의 사용자를 Zipfian 분포로 선택합니다. - theta 가 0 이면 모든 사용자를 같은 확률로 선택하고, 클수록
+ * 1번 사용자부터 순서대로 요청이 몰립니다.
+ */
+class UserIdSampler {
+
+  private final double[] cumulative;
+
+  UserIdSampler(int users, double theta) {
+    cumulative = new double[users];
+    double sum = 0;
+    for (int rank = 0; rank < users; rank++) {
+      sum += 1 / Math.pow(rank + 1, theta);
+      cumulative[rank] = sum;
+    }
+    for (int rank = 0; rank < users; rank++) {
+      cumulative[rank] /= sum;
+    }
+  }
+
+  long next() {
+    final int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+    return Math.min(index < 0 ? -index - 1 : index, cumulative.length - 1) + 1;
+  }
+
+  /**
+   * 가장 많이 선택되는 사용자(1번)가 선택될 확률
+   */
+  double hottestProbability() {
+    return cumulative[0];
+  }
+}
@@ -1,5 +1,9 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.error.RetryLaterException;
+import java.util.concurrent.CompletionException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -7,6 +11,29 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    /**
+     * 에러 코드의 상태로 응답하며, 잠시 후 다시 시도할 수 있는 요청은 Retry-After 헤더(초)를 함께 내려줍니다.
+     */
+    @ExceptionHandler(value = BusinessException.class)
+    public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
+        final ResponseEntity.BodyBuilder builder =
+                ResponseEntity.status(e.getErrorCode().getStatus());
+        if (e instanceof RetryLaterException retryLater) {
+            // NOTE: Retry-After 는 초 단위 정수이므로 1초 미만은 올림합니다.
+            final long seconds = Math.max(1, (retryLater.getRetryAfter().toMillis() + 999) / 1000);
+            builder.header(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        }
+        return builder.body(new ErrorResponse(e.getErrorCode().getCode(), e.getMessage()));
+    }
+
+    @ExceptionHandler(value = CompletionException.class)
+    public ResponseEntity<ErrorResponse> handleCompletionException(CompletionException e) {
+        if (e.getCause() instanceof BusinessException cause) {
+            return handleBusinessException(cause);
+        }
+        return handleException(e);
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
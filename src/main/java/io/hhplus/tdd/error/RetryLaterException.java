@@ -0,0 +1,18 @@
+package io.hhplus.tdd.error;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * 잠시 후 다시 시도하면 처리될 수 있는 요청의 거절 - 응답의 Retry-After 헤더로 다시 시도할 시점을 알려줍니다.
+ */
+@Getter
+public class RetryLaterException extends BusinessException {
+
+  private final Duration retryAfter;
+
+  public RetryLaterException(ErrorCode errorCode, Duration retryAfter, Object... args) {
+    super(errorCode, args);
+    this.retryAfter = retryAfter;
+  }
+}
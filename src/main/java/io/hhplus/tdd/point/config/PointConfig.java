@@ -0,0 +1,162 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.hotspot.HotAccountTracker;
+import io.hhplus.tdd.point.hotspot.impl.SpaceSavingHotAccountTracker;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+import io.hhplus.tdd.point.idempotency.impl.CaffeineIdempotencyCache;
+import io.hhplus.tdd.point.ledger.PointLedger;
+import io.hhplus.tdd.point.ledger.impl.AtomicPointLedger;
+import io.hhplus.tdd.point.lock.LeaseLockClient;
+import io.hhplus.tdd.point.lock.LockRegistry;
+import io.hhplus.tdd.point.lock.RequestArrival;
+import io.hhplus.tdd.point.lock.impl.BoundedWaitLockRegistry;
+import io.hhplus.tdd.point.lock.impl.ConcurrentMapLockRegistry;
+import io.hhplus.tdd.point.lock.impl.InMemoryLeaseLockClient;
+import io.hhplus.tdd.point.lock.impl.LeaseLockRegistry;
+import io.hhplus.tdd.point.lock.impl.MeteredLockRegistry;
+import io.hhplus.tdd.point.lock.impl.RedisLeaseLockClient;
+import io.hhplus.tdd.point.lock.impl.RefCountedLockRegistry;
+import io.hhplus.tdd.point.lock.impl.StripedLockRegistry;
+import io.hhplus.tdd.point.metrics.PointOperationMetrics;
+import io.hhplus.tdd.point.repository.PointRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Executor;
+import org.redisson.Redisson;
+import org.redisson.config.Config;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableConfigurationProperties(PointProperties.class)
+public class PointConfig {
+
+  /**
+   * 포인트 처리 전용 executor - 요청 스레드와 분리하여 Table I/O 를 수행합니다. 작업을 적재한 요청의 도착 시각을 작업을
+   * 실행하는 스레드에 전달합니다.
+   */
+  @Bean
+  @ConditionalOnThreading(Threading.PLATFORM)
+  public ThreadPoolTaskExecutor pointTaskExecutor(PointProperties pointProperties) {
+    final PointProperties.Execution execution = pointProperties.execution();
+    final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(execution.poolSize());
+    executor.setMaxPoolSize(execution.poolSize());
+    executor.setQueueCapacity(execution.queueCapacity());
+    executor.setThreadNamePrefix("point-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setTaskDecorator(RequestArrival::decorate);
+    return executor;
+  }
+
+  /**
+   * spring.threads.virtual.enabled=true (Java 21 이상) 인 경우 작업마다 virtual thread 를 생성합니다.
+   */
+  @Bean("pointTaskExecutor")
+  @ConditionalOnThreading(Threading.VIRTUAL)
+  public SimpleAsyncTaskExecutor virtualPointTaskExecutor() {
+    final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("point-");
+    executor.setVirtualThreads(true);
+    executor.setTaskDecorator(RequestArrival::decorate);
+    return executor;
+  }
+
+  /**
+   * NOTE: registry 구현과 관계없이 lock 획득 대기 시간과 보유 시간을 기록하도록 감싸서 등록합니다. 사용자별 lock 대기
+   * 시간은 hotAccountTracker 에도 기록합니다.
+   */
+  @Bean
+  public LockRegistry lockRegistry(PointProperties pointProperties,
+      ObjectProvider<LeaseLockClient> leaseLockClient, MeterRegistry meterRegistry,
+      HotAccountTracker hotAccountTracker) {
+    final PointProperties.Lock lock = pointProperties.lock();
+    final LockRegistry lockRegistry = switch (lock.registry()) {
+      case MAP -> new ConcurrentMapLockRegistry();
+      case STRIPED -> lock.stripes() > 0 ? new StripedLockRegistry(lock.stripes())
+          : StripedLockRegistry.ofAvailableProcessors();
+      case REF_COUNTED -> new RefCountedLockRegistry();
+      case LEASE -> leaseLockRegistry(lock.lease(), leaseLockClient.getObject(), meterRegistry);
+      case BOUNDED -> new BoundedWaitLockRegistry(lock.bounded().maxPending(),
+          lock.bounded().waitTime(), lock.bounded().retryAfter());
+    };
+    return new MeteredLockRegistry(lockRegistry, meterRegistry, hotAccountTracker);
+  }
+
+  private static LeaseLockRegistry leaseLockRegistry(PointProperties.Lease lease,
+      LeaseLockClient leaseLockClient, MeterRegistry meterRegistry) {
+    final LeaseLockRegistry leaseLockRegistry = new LeaseLockRegistry(leaseLockClient,
+        lease.leaseTime(), lease.waitTime(), lease.localHandover());
+    FunctionCounter.builder("point.lock.lease.expired", leaseLockRegistry,
+            LeaseLockRegistry::expiredActionCount)
+        .description("lease 가 만료된 뒤 끝난 action 수")
+        .register(meterRegistry);
+    return leaseLockRegistry;
+  }
+
+  /**
+   * NOTE: 종료 시 요청 수를 줄이는 스레드가 정리되도록 별도의 bean 으로 등록합니다.
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "point.hot-account", name = "enabled", havingValue = "true")
+  public SpaceSavingHotAccountTracker hotAccountTracker(PointProperties pointProperties) {
+    final PointProperties.HotAccount hotAccount = pointProperties.hotAccount();
+    return new SpaceSavingHotAccountTracker(hotAccount.capacity(), hotAccount.decayInterval(),
+        hotAccount.metricRanks());
+  }
+
+  /**
+   * NOTE: 추적하지 않는 경우에도 충전/사용 처리 경로가 같도록 아무것도 기록하지 않는 tracker 를 등록합니다.
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "point.hot-account", name = "enabled", havingValue = "false",
+      matchIfMissing = true)
+  public HotAccountTracker noHotAccountTracker() {
+    return HotAccountTracker.NONE;
+  }
+
+  @Bean
+  public IdempotencyCache idempotencyCache(PointProperties pointProperties) {
+    final PointProperties.Idempotency idempotency = pointProperties.idempotency();
+    return new CaffeineIdempotencyCache(idempotency.maximumSize(), idempotency.ttl());
+  }
+
+  @Bean
+  public PointOperationMetrics pointOperationMetrics(MeterRegistry meterRegistry) {
+    return new PointOperationMetrics(meterRegistry);
+  }
+
+  /**
+   * NOTE: 종료 시 Redis 연결이 정리되도록 별도의 bean 으로 등록합니다.
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "point.lock", name = "registry", havingValue = "lease")
+  public LeaseLockClient leaseLockClient(PointProperties pointProperties) {
+    final PointProperties.Lease lease = pointProperties.lock().lease();
+    return switch (lease.server()) {
+      case REDIS -> {
+        final Config config = new Config();
+        config.useSingleServer().setAddress(lease.address());
+        yield new RedisLeaseLockClient(Redisson.create(config));
+      }
+      case IN_MEMORY -> new InMemoryLeaseLockClient();
+    };
+  }
+
+  /**
+   * NOTE: ledger 가 executor 보다 먼저 종료되어, 종료 시 반영되지 않은 잔액을 기록하는 동안 executor 가 남아 있습니다.
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "point.service", name = "mode", havingValue = "ledger")
+  public PointLedger pointLedger(PointRepository pointRepository,
+      @Qualifier("pointTaskExecutor") Executor pointTaskExecutor) {
+    return new AtomicPointLedger(pointRepository, pointTaskExecutor);
+  }
+}
@@ -0,0 +1,280 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.repository.impl.WalPointRepository.SyncMode;
+import io.hhplus.tdd.point.repository.impl.WriteBehindPointHistoryRepository.Durability;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 포인트 도메인 설정 - application.yml 의 point.* 항목과 매핑됩니다.
+ */
+@ConfigurationProperties(prefix = "point")
+public record PointProperties(
+    @DefaultValue Service service,
+    @DefaultValue Execution execution,
+    @DefaultValue Mailbox mailbox,
+    @DefaultValue Optimistic optimistic,
+    @DefaultValue Sharded sharded,
+    @DefaultValue Lock lock,
+    @DefaultValue Batch batch,
+    @DefaultValue Repository repository,
+    @DefaultValue History history,
+    @DefaultValue HotAccount hotAccount,
+    @DefaultValue Idempotency idempotency
+) {
+
+  /**
+   * 포인트 충전/사용 처리 방식 - LOCK : 사용자별 lock - MAILBOX : 사용자별 mailbox 단일 처리 - OPTIMISTIC : version 비교
+   * 후 갱신, 충돌이 반복되면 lock - LEDGER : 메모리 ledger 에서 compare-and-set 으로 갱신 후 Table 에 비동기 반영 -
+   * SHARDED : 사용자 ID 로 나눈 shard 별 단일 event loop
+   */
+  public enum ServiceMode {
+    LOCK, MAILBOX, OPTIMISTIC, LEDGER, SHARDED
+  }
+
+  /**
+   * 사용자별 lock 관리 방식 - MAP : 사용자별 lock 을 계속 보관 - STRIPED : 고정 개수의 lock 을 나누어 사용 - REF_COUNTED : 사용
+   * 중인 lock 만 보관 - LEASE : 여러 서버가 공유하는 lock 저장소의 lease - BOUNDED : 사용 중인 lock 만 보관하며 사용자별 대기
+   * 요청 수와 대기 시간을 제한
+   */
+  public enum LockRegistryType {
+    MAP, STRIPED, REF_COUNTED, LEASE, BOUNDED
+  }
+
+  /**
+   * lease 를 보관하는 lock 저장소 - REDIS : Redis - IN_MEMORY : 현재 JVM (단일 서버)
+   */
+  public enum LeaseServer {
+    REDIS, IN_MEMORY
+  }
+
+  /**
+   * 포인트 내역 저장소 - TABLE : PointHistoryTable - COLUMNAR : 항목별 primitive 배열 - MAPPED : memory-mapped
+   * segment 파일
+   */
+  public enum HistoryStore {
+    TABLE, COLUMNAR, MAPPED
+  }
+
+  public record Service(
+      @DefaultValue("lock") ServiceMode mode
+  ) {
+
+  }
+
+  public record Execution(
+      @DefaultValue("64") int poolSize,
+      @DefaultValue("10000") int queueCapacity
+  ) {
+
+  }
+
+  public record Mailbox(
+      @DefaultValue("256") int maxBatchSize
+  ) {
+
+  }
+
+  /**
+   * @param maxRetries     충돌 시 다시 시도하는 최대 횟수 - 초과하면 사용자별 lock 을 획득한 뒤 갱신합니다.
+   * @param initialBackoff 첫 번째 재시도 전 최대 대기 시간 - 재시도마다 두 배씩 늘어납니다.
+   * @param maxBackoff     재시도 전 최대 대기 시간의 상한
+   */
+  public record Optimistic(
+      @DefaultValue("3") int maxRetries,
+      @DefaultValue("1ms") Duration initialBackoff,
+      @DefaultValue("20ms") Duration maxBackoff
+  ) {
+
+  }
+
+  /**
+   * @param shards        shard(event loop 스레드) 수, 0 이하인 경우 코어 수에 맞춰 결정합니다.
+   * @param queueCapacity shard 별 처리 대기 중인 요청의 최대 개수 - 초과한 요청은 거절합니다.
+   * @param retryAfter    대기열이 가득 차거나 point executor 가 I/O 를 거절하여 거절한 요청의 Retry-After 헤더로 알려줄 시간
+   */
+  public record Sharded(
+      @DefaultValue("0") int shards,
+      @DefaultValue("10000") int queueCapacity,
+      @DefaultValue("1s") Duration retryAfter
+  ) {
+
+  }
+
+  /**
+   * @param stripes STRIPED 사용 시 lock 개수, 0 이하인 경우 코어 수 * 4 개를 사용합니다 (2 의 거듭제곱으로 올림).
+   */
+  public record Lock(
+      @DefaultValue("ref-counted") LockRegistryType registry,
+      @DefaultValue("0") int stripes,
+      @DefaultValue Lease lease,
+      @DefaultValue Bounded bounded
+  ) {
+
+  }
+
+  /**
+   * @param maxPending 사용자별로 lock 을 보유하거나 기다리는 최대 요청 수 - 초과한 요청은 기다리지 않고 거절합니다.
+   * @param waitTime   요청이 도착한 뒤 lock 획득을 기다리는 최대 시간 - point executor 의 대기열에서 기다린 시간도
+   *                   포함합니다.
+   * @param retryAfter 거절한 요청의 Retry-After 헤더로 알려줄 시간
+   */
+  public record Bounded(
+      @DefaultValue("16") int maxPending,
+      @DefaultValue("1s") Duration waitTime,
+      @DefaultValue("1s") Duration retryAfter
+  ) {
+
+  }
+
+  /**
+   * @param server        lease 를 보관하는 lock 저장소
+   * @param address       REDIS 사용 시 Redis 주소
+   * @param leaseTime     lease 만료 시간 - 요청 처리 시간보다 길어야 합니다.
+   * @param waitTime      다른 서버가 보유한 lease 를 기다리는 최대 시간
+   * @param localHandover lease 를 해제하지 않고 같은 서버에서 기다리는 다음 요청에 넘겨줄지 여부
+   */
+  public record Lease(
+      @DefaultValue("redis") LeaseServer server,
+      @DefaultValue("redis://localhost:6379") String address,
+      @DefaultValue("5s") Duration leaseTime,
+      @DefaultValue("3s") Duration waitTime,
+      @DefaultValue("true") boolean localHandover
+  ) {
+
+  }
+
+  /**
+   * @param parallelism 일괄 처리 시 동시에 처리하는 사용자 수
+   * @param maxSize     한 번에 요청할 수 있는 최대 항목 수 - 초과한 요청은 처리하지 않고 거절합니다.
+   */
+  public record Batch(
+      @DefaultValue("64") int parallelism,
+      @DefaultValue("1000") int maxSize
+  ) {
+
+  }
+
+  public record Repository(
+      @DefaultValue WriteCoalescing writeCoalescing,
+      @DefaultValue Cache cache,
+      @DefaultValue Wal wal
+  ) {
+
+  }
+
+  /**
+   * @param enabled 사용자별 잔액 갱신을 모아 마지막 값만 Table 에 기록할지 여부
+   */
+  public record WriteCoalescing(
+      @DefaultValue("false") boolean enabled
+  ) {
+
+  }
+
+  /**
+   * @param enabled     사용자 잔액을 메모리에 보관하여 조회 시 Table 을 거치지 않을지 여부
+   * @param maximumSize 보관할 최대 사용자 수
+   */
+  public record Cache(
+      @DefaultValue("false") boolean enabled,
+      @DefaultValue("100000") long maximumSize
+  ) {
+
+  }
+
+  /**
+   * @param enabled          잔액 갱신을 write-ahead log 파일에 기록하고 시작 시 복구할지 여부
+   * @param path             log 파일 경로
+   * @param sync             log fsync 방식
+   * @param snapshotInterval 전체 잔액을 snapshot 으로 기록하는 주기, 0 인 경우 기록하지 않습니다.
+   */
+  public record Wal(
+      @DefaultValue("false") boolean enabled,
+      @DefaultValue("data/point-wal/balance.log") Path path,
+      @DefaultValue("group-commit") SyncMode sync,
+      @DefaultValue("10m") Duration snapshotInterval
+  ) {
+
+  }
+
+  /**
+   * @param store 포인트 내역 저장소
+   */
+  public record History(
+      @DefaultValue("table") HistoryStore store,
+      @DefaultValue Mapped mapped,
+      @DefaultValue WriteBehind writeBehind,
+      @DefaultValue Index index
+  ) {
+
+  }
+
+  /**
+   * @param directory   MAPPED 사용 시 segment 파일을 보관할 디렉터리
+   * @param segmentSize segment 파일 하나의 최대 크기
+   */
+  public record Mapped(
+      @DefaultValue("data/point-history") Path directory,
+      @DefaultValue("64MB") DataSize segmentSize
+  ) {
+
+  }
+
+  /**
+   * @param enabled 포인트 내역을 사용자별로 보관하여 조회 시 전체 내역을 탐색하지 않을지 여부
+   *                - mapped 저장소는 파일에 사용자별 내역을 연결하여 보관하므로 적용하지 않습니다.
+   */
+  public record Index(
+      @DefaultValue("false") boolean enabled
+  ) {
+
+  }
+
+  /**
+   * @param enabled       포인트 내역을 queue 에 적재 후 background worker 가 기록할지 여부
+   * @param workers       동시에 기록하는 worker 수 - 한 사용자의 내역은 항상 같은 worker 가 기록합니다.
+   * @param queueCapacity 기록 대기 중인 내역의 최대 개수 - 가득 차면 기다리지 않고 요청 스레드에서 직접 기록합니다.
+   * @param durability    내역 적재 완료 시점
+   * @param readTimeout   조회 시 대기 중인 내역의 기록을 기다리는 최대 시간 - 초과하면 POINT_HISTORY_WRITE_PENDING
+   */
+  public record WriteBehind(
+      @DefaultValue("false") boolean enabled,
+      @DefaultValue("64") int workers,
+      @DefaultValue("10000") int queueCapacity,
+      @DefaultValue("ack-on-enqueue") Durability durability,
+      @DefaultValue("1s") Duration readTimeout
+  ) {
+
+  }
+
+  /**
+   * @param enabled       충전/사용 요청이 몰리는 사용자를 추적할지 여부
+   * @param capacity      추적할 최대 사용자 수 - 16 개의 stripe 에 나누어 보관하며, 같은 stripe 의 요청 중
+   *                      1/(capacity/16) 보다 많은 요청을 보낸 사용자는 반드시 추적됩니다.
+   * @param decayInterval 요청 수를 절반으로 줄이는 주기 - 0 인 경우 줄이지 않습니다.
+   * @param metricRanks   metric 으로 제공할 상위 사용자 수
+   */
+  public record HotAccount(
+      @DefaultValue("false") boolean enabled,
+      @DefaultValue("1024") int capacity,
+      @DefaultValue("1m") Duration decayInterval,
+      @DefaultValue("10") int metricRanks
+  ) {
+
+  }
+
+  /**
+   * @param maximumSize Idempotency-Key 별로 보관할 최대 결과 수
+   * @param ttl         결과를 보관하는 시간 - 이후 같은 key 로 보낸 요청은 새로운 요청으로 처리합니다.
+   */
+  public record Idempotency(
+      @DefaultValue("100000") long maximumSize,
+      @DefaultValue("10m") Duration ttl
+  ) {
+
+  }
+}
@@ -0,0 +1,168 @@
+package io.hhplus.tdd.point.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.tdd.point.config.PointProperties.HistoryStore;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.OptimisticPointRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointRepository;
+import io.hhplus.tdd.point.repository.impl.CachingPointRepository;
+import io.hhplus.tdd.point.repository.impl.CoalescingPointRepository;
+import io.hhplus.tdd.point.repository.impl.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.MappedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.MeteredOptimisticPointRepository;
+import io.hhplus.tdd.point.repository.impl.MeteredPointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.MeteredPointRepository;
+import io.hhplus.tdd.point.repository.impl.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.impl.PointRepositoryImpl;
+import io.hhplus.tdd.point.repository.impl.VersionedPointRepository;
+import io.hhplus.tdd.point.repository.impl.WalPointRepository;
+import io.hhplus.tdd.point.repository.impl.WriteBehindPointHistoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 설정에 따라 Table 기반 repository 구현체에 부가 기능을 덧씌운 repository 를 구성합니다.
+ * <p>
+ * 가장 바깥에서 호출별 소요 시간을 기록하므로, 서비스가 기다린 저장소 시간을 부가 기능 구성과 관계없이 비교할 수 있습니다.
+ */
+@Configuration
+public class PointRepositoryConfig {
+
+  @Bean
+  @Primary
+  public PointRepository pointRepository(PointRepositoryImpl pointRepositoryImpl,
+      ObjectProvider<CoalescingPointRepository> coalescingPointRepository,
+      Optional<WalPointRepository> walPointRepository,
+      ObjectProvider<Cache<Long, UserPoint>> userPointCache,
+      Optional<OptimisticPointRepository> optimisticPointRepository,
+      MeterRegistry meterRegistry) {
+    // NOTE: 낙관적 갱신 시에는 version 을 비교하는 repository 로 모든 잔액을 조회하고 갱신합니다.
+    if (optimisticPointRepository.isPresent()) {
+      return optimisticPointRepository.get();
+    }
+    return new MeteredPointRepository(tableRepository(pointRepositoryImpl,
+        coalescingPointRepository, walPointRepository, userPointCache), meterRegistry);
+  }
+
+  /**
+   * NOTE: 낙관적 갱신 시에는 version 을 비교할 수 있도록 가장 바깥에서 사용자별 최신 잔액을 보관하며, version 비교를
+   * 지원하지 않는 repository 로는 낙관적 갱신 서비스를 구성할 수 없도록 별도의 type 으로 등록합니다.
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "point.service", name = "mode", havingValue = "optimistic")
+  public OptimisticPointRepository optimisticPointRepository(
+      PointRepositoryImpl pointRepositoryImpl,
+      ObjectProvider<CoalescingPointRepository> coalescingPointRepository,
+      Optional<WalPointRepository> walPointRepository,
+      ObjectProvider<Cache<Long, UserPoint>> userPointCache, MeterRegistry meterRegistry) {
+    return new MeteredOptimisticPointRepository(new VersionedPointRepository(
+        tableRepository(pointRepositoryImpl, coalescingPointRepository, walPointRepository,
+            userPointCache)), meterRegistry);
+  }
+
+  private static PointRepository tableRepository(PointRepositoryImpl pointRepositoryImpl,
+      ObjectProvider<CoalescingPointRepository> coalescingPointRepository,
+      Optional<WalPointRepository> walPointRepository,
+      ObjectProvider<Cache<Long, UserPoint>> userPointCache) {
+    PointRepository pointRepository = pointRepositoryImpl;
+    final CoalescingPointRepository coalescing = coalescingPointRepository.getIfAvailable();
+    if (coalescing != null) {
+      pointRepository = coalescing;
+    }
+    if (walPointRepository.isPresent()) {
+      pointRepository = walPointRepository.get();
+    }
+
+    final Cache<Long, UserPoint> cache = userPointCache.getIfAvailable();
+    if (cache != null) {
+      pointRepository = new CachingPointRepository(pointRepository, cache);
+    }
+
+    return pointRepository;
+  }
+
+  /**
+   * NOTE: 종료 시 반영되지 않은 잔액이 기록되도록 별도의 bean 으로 등록합니다.
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "point.repository.write-coalescing", name = "enabled",
+      havingValue = "true")
+  public CoalescingPointRepository coalescingPointRepository(
+      PointRepositoryImpl pointRepositoryImpl,
+      @Qualifier("pointTaskExecutor") Executor pointTaskExecutor) {
+    return new CoalescingPointRepository(pointRepositoryImpl, pointTaskExecutor);
+  }
+
+  /**
+   * NOTE: 종료 시 대기 중인 log 가 fsync 되도록 별도의 bean 으로 등록하며, Table 반영을 모으는 repository 보다 먼저
+   * 종료됩니다.
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "point.repository.wal", name = "enabled", havingValue = "true")
+  public WalPointRepository walPointRepository(PointRepositoryImpl pointRepositoryImpl,
+      Optional<CoalescingPointRepository> coalescingPointRepository,
+      PointProperties pointProperties) {
+    final PointProperties.Wal wal = pointProperties.repository().wal();
+    return new WalPointRepository(
+        coalescingPointRepository.<PointRepository>map(it -> it).orElse(pointRepositoryImpl),
+        wal.path(), wal.sync(), wal.snapshotInterval());
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "point.repository.cache", name = "enabled", havingValue = "true")
+  public Cache<Long, UserPoint> userPointCache(PointProperties pointProperties) {
+    return Caffeine.newBuilder()
+        .maximumSize(pointProperties.repository().cache().maximumSize())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * NOTE: 종료 시 mapped 영역이 파일에 반영되도록 별도의 bean 으로 등록하며, 이를 사용하는 repository 보다 나중에
+   * 종료됩니다.
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "point.history", name = "store", havingValue = "mapped")
+  public MappedPointHistoryRepository mappedPointHistoryRepository(
+      PointProperties pointProperties) {
+    final PointProperties.Mapped mapped = pointProperties.history().mapped();
+    return new MappedPointHistoryRepository(mapped.directory(), mapped.segmentSize().toBytes());
+  }
+
+  @Bean
+  @Primary
+  public PointHistoryRepository pointHistoryRepository(
+      PointHistoryRepositoryImpl pointHistoryRepositoryImpl,
+      Optional<MappedPointHistoryRepository> mappedPointHistoryRepository,
+      PointProperties pointProperties, MeterRegistry meterRegistry) {
+    PointHistoryRepository pointHistoryRepository = switch (pointProperties.history().store()) {
+      case TABLE -> pointHistoryRepositoryImpl;
+      case COLUMNAR -> new ColumnarPointHistoryRepository();
+      case MAPPED -> mappedPointHistoryRepository.orElseThrow();
+    };
+    // NOTE: mapped 저장소는 파일에 사용자별 내역을 연결하여 보관하므로 heap 의 index 를 두지 않습니다. 재시작 후 기존
+    //  내역으로 index 를 다시 만들면 전체 내역을 heap 으로 읽어야 하기 때문입니다.
+    if (pointProperties.history().index().enabled()
+        && pointProperties.history().store() != HistoryStore.MAPPED) {
+      pointHistoryRepository = new IndexedPointHistoryRepository(pointHistoryRepository);
+    }
+
+    final PointProperties.WriteBehind writeBehind = pointProperties.history().writeBehind();
+    if (writeBehind.enabled()) {
+      pointHistoryRepository = new WriteBehindPointHistoryRepository(pointHistoryRepository,
+          writeBehind.workers(), writeBehind.queueCapacity(), writeBehind.durability(),
+          writeBehind.readTimeout());
+    }
+    return new MeteredPointHistoryRepository(pointHistoryRepository, meterRegistry);
+  }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.controller;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.hhplus.tdd.point.dto.UserPointCacheStats;
+import io.hhplus.tdd.point.entity.UserPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/point/cache")
+@ConditionalOnProperty(prefix = "point.repository.cache", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class PointCacheController {
+
+  private final Cache<Long, UserPoint> userPointCache;
+
+  /**
+   * 사용자 잔액 cache 의 적중/실패/제거 통계를 조회합니다.
+   */
+  @GetMapping("stats")
+  public UserPointCacheStats stats() {
+    return UserPointCacheStats.from(userPointCache.estimatedSize(), userPointCache.stats());
+  }
+}
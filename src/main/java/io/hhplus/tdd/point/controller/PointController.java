@@ -1,19 +1,38 @@
 package io.hhplus.tdd.point.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.UserPointBatchResult;
 import io.hhplus.tdd.point.dto.UserPointCommand;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.hotspot.HotAccountTracker;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+import io.hhplus.tdd.point.lock.RequestArrival;
+import io.hhplus.tdd.point.metrics.PointOperationMetrics;
+import io.hhplus.tdd.point.metrics.PointOperationMetrics.Operation;
+import io.hhplus.tdd.point.service.PointBatchService;
 import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/point")
@@ -22,47 +41,163 @@ public class PointController {
 
   private static final Logger log = LoggerFactory.getLogger(PointController.class);
 
+  private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(
+      "application/x-ndjson");
+  private static final int EXPORT_PAGE_SIZE = 500;
+  private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
   private final PointService pointService;
+  private final PointBatchService pointBatchService;
+  private final ObjectMapper objectMapper;
+  private final PointOperationMetrics pointOperationMetrics;
+  private final IdempotencyCache idempotencyCache;
+  private final HotAccountTracker hotAccountTracker;
 
   /**
    * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
    */
   @GetMapping("{id}")
-  public UserPoint point(
+  public CompletableFuture<UserPoint> point(
       @PathVariable long id
   ) {
-    return pointService.getUserPoint(UserPointCommand.GetUserPoint.from(id));
+    return pointOperationMetrics.record(Operation.POINT,
+        () -> pointService.getUserPointAsync(UserPointCommand.GetUserPoint.from(id)));
   }
 
   /**
    * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
    */
   @GetMapping("{id}/histories")
-  public List<PointHistory> history(
+  public CompletableFuture<List<PointHistory>> history(
       @PathVariable long id
   ) {
-    return pointService.getUserPointHistories(UserPointCommand.GetUserPointHistories.from(id));
+    return pointOperationMetrics.record(Operation.HISTORIES,
+        () -> pointService.getUserPointHistoriesAsync(
+            UserPointCommand.GetUserPointHistories.from(id)));
+  }
+
+  /**
+   * 특정 유저의 포인트 충전/이용 내역을 페이지 단위로 조회합니다. - 다음 페이지는 응답의 nextCursor 를 after 로 지정하여
+   * 조회합니다.
+   */
+  @GetMapping("{id}/histories/page")
+  public CompletableFuture<PointHistoryPage> historyPage(
+      @PathVariable long id,
+      @RequestParam(required = false) Long after,
+      @RequestParam(required = false) Long from,
+      @RequestParam(required = false) Long to,
+      @RequestParam(required = false) TransactionType type,
+      @RequestParam(defaultValue = "20") int limit
+  ) {
+    return pointOperationMetrics.record(Operation.HISTORY_PAGE,
+        () -> pointService.getUserPointHistoryPageAsync(
+            UserPointCommand.GetUserPointHistoryPage.from(id, after, from, to, type, limit)));
+  }
+
+  /**
+   * 특정 유저의 포인트 충전/이용 내역 전체를 한 줄에 하나씩 JSON 으로 내려줍니다. (NDJSON)
+   * <p>
+   * 내역을 페이지 단위로 조회하여 바로 기록합니다. 연결이 끊긴 경우 마지막으로 받은 내역 ID 를 after 로 지정하여 이어서 받을
+   * 수 있습니다.
+   * <p>
+   * 내역 수와 관계없이 한 페이지 만큼의 메모리만 사용하려면 cursor 위치부터 조회하는 저장소가 필요합니다.
+   * (point.history.index.enabled=true 또는 point.history.store=columnar/mapped) 기본 저장소(table)는 페이지마다
+   * 사용자의 전체 내역을 조회하므로 한 페이지를 기록하는 동안 전체 내역 만큼의 메모리를 사용합니다.
+   */
+  @GetMapping("{id}/histories/export")
+  public ResponseEntity<StreamingResponseBody> exportHistories(
+      @PathVariable long id,
+      @RequestParam(required = false) Long after
+  ) {
+    // NOTE: 마지막 내역을 기록할 때까지를 처리 시간으로 기록합니다.
+    final CompletableFuture<Void> exported = pointOperationMetrics.start(Operation.EXPORT);
+    // NOTE: 응답을 시작하기 전에 요청 값을 검증합니다.
+    final UserPointCommand.GetUserPointHistoryPage first;
+    try {
+      first = UserPointCommand.GetUserPointHistoryPage.from(id, after, null, null, null,
+          EXPORT_PAGE_SIZE);
+    } catch (RuntimeException e) {
+      exported.completeExceptionally(e);
+      throw e;
+    }
+
+    final StreamingResponseBody body = outputStream -> {
+      try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+        // NOTE: 내역 사이의 기본 구분자(공백) 대신 줄바꿈만 기록합니다.
+        generator.setRootValueSeparator(null);
+        UserPointCommand.GetUserPointHistoryPage command = first;
+        PointHistoryPage page;
+        do {
+          page = pointService.getUserPointHistoryPage(command);
+          for (PointHistory pointHistory : page.histories()) {
+            generator.writeObject(pointHistory);
+            generator.writeRaw('\n');
+          }
+          generator.flush();
+          command = UserPointCommand.GetUserPointHistoryPage.from(id, page.nextCursor(), null,
+              null, null, EXPORT_PAGE_SIZE);
+        } while (page.hasNext());
+      } catch (IOException | RuntimeException e) {
+        exported.completeExceptionally(e);
+        throw e;
+      }
+      exported.complete(null);
+    };
+    return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
   }
 
   /**
    * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+   * <p>
+   * Idempotency-Key 헤더가 있으면 같은 key 로 다시 보낸 요청은 다시 충전하지 않고 처음 요청의 결과를 반환합니다.
    */
   @PatchMapping("{id}/charge")
-  public UserPoint charge(
+  public CompletableFuture<UserPoint> charge(
       @PathVariable Long id,
-      @RequestBody Long amount
+      @RequestBody Long amount,
+      @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey
   ) {
-    return pointService.charge(UserPointCommand.Charge.from(id, amount));
+    final long arrivalNanos = System.nanoTime();
+    return pointOperationMetrics.record(Operation.CHARGE, () -> {
+      final UserPointCommand.Charge command = UserPointCommand.Charge.from(id, amount);
+      return RequestArrival.run(arrivalNanos, () -> hotAccountTracker.track(id,
+          () -> idempotencyKey == null
+              ? pointService.chargeAsync(command)
+              : idempotencyCache.execute(id, idempotencyKey, command,
+                  () -> pointService.chargeAsync(command))));
+    });
   }
 
   /**
    * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+   * <p>
+   * Idempotency-Key 헤더가 있으면 같은 key 로 다시 보낸 요청은 다시 사용하지 않고 처음 요청의 결과를 반환합니다.
    */
   @PatchMapping("{id}/use")
-  public UserPoint use(
+  public CompletableFuture<UserPoint> use(
       @PathVariable long id,
-      @RequestBody long amount
+      @RequestBody long amount,
+      @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey
+  ) {
+    final long arrivalNanos = System.nanoTime();
+    return pointOperationMetrics.record(Operation.USE, () -> {
+      final UserPointCommand.Use command = UserPointCommand.Use.from(id, amount);
+      return RequestArrival.run(arrivalNanos, () -> hotAccountTracker.track(id,
+          () -> idempotencyKey == null
+              ? pointService.useAsync(command)
+              : idempotencyCache.execute(id, idempotencyKey, command,
+                  () -> pointService.useAsync(command))));
+    });
+  }
+
+  /**
+   * 여러 유저의 포인트 충전/사용 요청을 한 번에 처리합니다. - 요청 항목별 성공/실패 결과를 요청 순서대로 반환합니다.
+   */
+  @PostMapping("batch")
+  public CompletableFuture<List<UserPointBatchResult>> batch(
+      @RequestBody List<UserPointCommand.BatchOperation> operations
   ) {
-    return pointService.use(UserPointCommand.Use.from(id, amount));
+    return pointOperationMetrics.record(Operation.BATCH,
+        () -> pointBatchService.executeAsync(UserPointCommand.Batch.from(operations)));
   }
 }
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.dto.HotAccount;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.hotspot.HotAccountTracker;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/point/hot-accounts")
+@ConditionalOnProperty(prefix = "point.hot-account", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class PointHotAccountController {
+
+  private final HotAccountTracker hotAccountTracker;
+
+  /**
+   * 충전/사용 요청이 많은 사용자부터 요청 수 추정치와 lock 대기 시간, 대기열 길이를 조회합니다.
+   */
+  @GetMapping
+  public List<HotAccount> top(@RequestParam(defaultValue = "10") int limit) {
+    if (limit < 1) {
+      throw new BusinessException(PointErrorCode.INVALID_PAGE_LIMIT);
+    }
+    return hotAccountTracker.top(limit);
+  }
+}
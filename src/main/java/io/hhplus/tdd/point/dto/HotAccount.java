@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * @param requests              충전/사용 요청 수 추정치 - 실제 요청 수보다 최대 overestimation 만큼 많을 수 있습니다.
+ * @param overestimation        추적을 시작하기 전에 다른 사용자에게 세어진 요청 수 (추정치의 최대 오차)
+ * @param averageLockWaitMillis lock 획득까지 기다린 평균 시간
+ * @param averageQueueLength    요청이 도착했을 때 같은 사용자의 요청 중 처리 중이거나 대기 중이던 평균 요청 수
+ * @param maxQueueLength        요청이 도착했을 때 같은 사용자의 요청 중 처리 중이거나 대기 중이던 최대 요청 수
+ * @param pending               현재 처리 중이거나 대기 중인 요청 수
+ */
+public record HotAccount(
+    long userId,
+    long requests,
+    long overestimation,
+    double averageLockWaitMillis,
+    double averageQueueLength,
+    int maxQueueLength,
+    int pending
+) {
+
+}
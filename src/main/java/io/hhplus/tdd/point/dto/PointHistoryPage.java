@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import java.util.List;
+
+/**
+ * 포인트 내역 페이지 - 다음 페이지는 nextCursor 를 after 로 지정하여 조회합니다.
+ */
+public record PointHistoryPage(
+    List<PointHistory> histories,
+    Long nextCursor,
+    boolean hasNext
+) {
+
+  /**
+   * @param histories limit 보다 하나 더 조회한 내역 - 초과분이 있으면 다음 페이지가 있는 것으로 판단합니다.
+   */
+  public static PointHistoryPage of(List<PointHistory> histories, int limit) {
+    final boolean hasNext = histories.size() > limit;
+    final List<PointHistory> page = hasNext ? histories.subList(0, limit) : histories;
+    final Long nextCursor = page.isEmpty() ? null : page.get(page.size() - 1).id();
+    return new PointHistoryPage(page, nextCursor, hasNext);
+  }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.util.concurrent.CompletionException;
+
+public record UserPointBatchResult(
+    int index,
+    Long userId,
+    TransactionType type,
+    Long amount,
+    boolean success,
+    UserPoint userPoint,
+    ErrorResponse error
+) {
+
+  public static UserPointBatchResult success(int index, UserPointCommand.BatchOperation operation,
+      UserPoint userPoint) {
+    return new UserPointBatchResult(index, operation.userId(), operation.type(),
+        operation.amount(), true, userPoint, null);
+  }
+
+  public static UserPointBatchResult failure(int index, UserPointCommand.BatchOperation operation,
+      Throwable throwable) {
+    final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause() : throwable;
+    final ErrorResponse error = cause instanceof BusinessException e
+        ? new ErrorResponse(e.getErrorCode().getCode(), e.getMessage())
+        : new ErrorResponse("500", "에러가 발생했습니다.");
+    return new UserPointBatchResult(index, operation.userId(), operation.type(),
+        operation.amount(), false, null, error);
+  }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+public record UserPointCacheStats(
+    long estimatedSize,
+    long hitCount,
+    long missCount,
+    double hitRate,
+    long evictionCount,
+    long loadFailureCount,
+    double averageLoadPenaltyMillis
+) {
+
+  public static UserPointCacheStats from(long estimatedSize, CacheStats stats) {
+    return new UserPointCacheStats(estimatedSize, stats.hitCount(), stats.missCount(),
+        stats.hitRate(), stats.evictionCount(), stats.loadFailureCount(),
+        stats.averageLoadPenalty() / 1_000_000d);
+  }
+}
@@ -2,6 +2,9 @@ package io.hhplus.tdd.point.dto;
 
 import io.hhplus.tdd.error.BusinessException;
 import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.util.List;
+import java.util.Objects;
 
 public class UserPointCommand {
 
@@ -64,4 +67,63 @@ public class UserPointCommand {
       return new GetUserPointHistories(userId);
     }
   }
+
+  /**
+   * 사용자별 포인트 내역 페이지 조회 - after 이후의 내역을 ID 오름차순으로 최대 limit 개까지 조회합니다.
+   */
+  public record GetUserPointHistoryPage(Long userId, Long after, Long fromMillis, Long toMillis,
+      TransactionType type, Integer limit) {
+
+    public static final int MAX_LIMIT = 1000;
+
+    public GetUserPointHistoryPage {
+      if (userId == null) {
+        throw new BusinessException(PointErrorCode.INVALID_USER_ID);
+      }
+
+      if (after != null && after < 1) {
+        throw new BusinessException(PointErrorCode.POINT_HISTORY_ID_INVALID);
+      }
+
+      if (fromMillis != null && toMillis != null && fromMillis >= toMillis) {
+        throw new BusinessException(PointErrorCode.INVALID_TIME_RANGE);
+      }
+
+      if (limit == null || limit < 1 || limit > MAX_LIMIT) {
+        throw new BusinessException(PointErrorCode.INVALID_PAGE_LIMIT);
+      }
+    }
+
+    public static GetUserPointHistoryPage from(Long userId, Long after, Long fromMillis,
+        Long toMillis, TransactionType type, Integer limit) {
+      return new GetUserPointHistoryPage(userId, after, fromMillis, toMillis, type, limit);
+    }
+  }
+
+  public record Batch(List<BatchOperation> operations) {
+
+    public Batch {
+      if (operations == null || operations.isEmpty()) {
+        throw new BusinessException(PointErrorCode.INVALID_BATCH_SIZE);
+      }
+      // NOTE: 비어있는 항목은 처리 결과에 반영할 수 없으므로 요청 전체를 거절합니다.
+      if (operations.stream().anyMatch(Objects::isNull)) {
+        throw new BusinessException(PointErrorCode.INVALID_BATCH_OPERATION);
+      }
+    }
+
+    public static Batch from(List<BatchOperation> operations) {
+      return new Batch(operations);
+    }
+  }
+
+  /**
+   * 일괄 처리 요청의 개별 항목 - 항목별 검증은 처리 시점에 수행하여 실패한 항목만 결과에 반영합니다.
+   */
+  public record BatchOperation(Long userId, TransactionType type, Long amount) {
+
+    public static BatchOperation from(Long userId, TransactionType type, Long amount) {
+      return new BatchOperation(userId, type, amount);
+    }
+  }
 }
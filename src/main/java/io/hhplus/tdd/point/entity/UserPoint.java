@@ -3,10 +3,14 @@ package io.hhplus.tdd.point.entity;
 import io.hhplus.tdd.error.BusinessException;
 import io.hhplus.tdd.point.exception.PointErrorCode;
 
+/**
+ * @param version 잔액이 갱신될 때마다 1씩 증가하는 값 - 낙관적 갱신 시 조회 이후 다른 요청이 먼저 갱신했는지 확인합니다.
+ */
 public record UserPoint(
     long id,
     long point,
-    long updateMillis
+    long updateMillis,
+    long version
 ) {
 
   public UserPoint {
@@ -23,6 +27,13 @@ public record UserPoint(
     }
   }
 
+  /**
+   * version 을 관리하지 않는 저장소(Table)에서 사용하며 version 은 0 입니다.
+   */
+  public UserPoint(long id, long point, long updateMillis) {
+    this(id, point, updateMillis, 0);
+  }
+
   public static UserPoint from(long id, long point, long updateMillis) {
     return new UserPoint(id, point, updateMillis);
   }
@@ -36,7 +47,7 @@ public record UserPoint(
       throw new BusinessException(PointErrorCode.EXCEED_MAX_POINT);
     }
 
-    return new UserPoint(id, point + amount, System.currentTimeMillis());
+    return new UserPoint(id, point + amount, System.currentTimeMillis(), version);
   }
 
   public UserPoint usePoint(Long amount) {
@@ -44,6 +55,6 @@ public record UserPoint(
       throw new BusinessException(PointErrorCode.POINT_NOT_ENOUGH);
     }
 
-    return new UserPoint(id, point - amount, System.currentTimeMillis());
+    return new UserPoint(id, point - amount, System.currentTimeMillis(), version);
   }
 }
@@ -17,6 +17,18 @@ public enum PointErrorCode implements ErrorCode {
   INVALID_TRANSACTION_TYPE(HttpStatus.BAD_REQUEST, "유효하지 않은 거래 유형입니다."),
   POINT_NOT_ENOUGH(HttpStatus.BAD_REQUEST, "포인트가 부족합니다."),
   EXCEED_MAX_POINT(HttpStatus.BAD_REQUEST, "포인트가 최대치를 초과했습니다."),
+  INVALID_BATCH_SIZE(HttpStatus.BAD_REQUEST, "유효하지 않은 일괄 처리 요청 수입니다."),
+  INVALID_BATCH_OPERATION(HttpStatus.BAD_REQUEST, "유효하지 않은 일괄 처리 요청 항목입니다."),
+  INVALID_PAGE_LIMIT(HttpStatus.BAD_REQUEST, "유효하지 않은 조회 개수입니다."),
+  INVALID_TIME_RANGE(HttpStatus.BAD_REQUEST, "유효하지 않은 조회 기간입니다."),
+  POINT_HISTORY_WRITER_CLOSED(HttpStatus.SERVICE_UNAVAILABLE, "포인트 내역 기록이 종료되었습니다."),
+  POINT_HISTORY_WRITE_PENDING(HttpStatus.SERVICE_UNAVAILABLE, "기록 중인 포인트 내역이 있어 잠시 후 다시 조회해야 합니다."),
+  POINT_LOCK_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "다른 요청이 처리 중이어서 포인트를 처리하지 못했습니다."),
+  POINT_TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "처리 중인 요청이 많아 잠시 후 다시 시도해야 합니다."),
+  POINT_SHARD_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "처리 대기 중인 요청이 많아 잠시 후 다시 시도해야 합니다."),
+  POINT_SERVICE_CLOSED(HttpStatus.SERVICE_UNAVAILABLE, "포인트 처리가 종료되었습니다."),
+  INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "유효하지 않은 Idempotency-Key 입니다."),
+  IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "다른 요청에 사용한 Idempotency-Key 입니다."),
   ;
 
   private final HttpStatus status;
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point.hotspot;
+
+import io.hhplus.tdd.point.dto.HotAccount;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 충전/사용 요청이 몰리는 사용자를 고정된 메모리 안에서 추적합니다.
+ */
+public interface HotAccountTracker {
+
+  /**
+   * 추적하지 않는 경우 사용합니다. - 아무것도 기록하지 않습니다.
+   */
+  HotAccountTracker NONE = new HotAccountTracker() {
+    @Override
+    public Ticket enter(long userId) {
+      return () -> {
+      };
+    }
+
+    @Override
+    public void lockAcquired(long userId, long waitNanos) {
+    }
+
+    @Override
+    public List<HotAccount> top(int limit) {
+      return List.of();
+    }
+  };
+
+  /**
+   * 사용자의 요청이 도착했음을 기록합니다. - 반환된 ticket 으로 처리 종료를 알려야 합니다.
+   */
+  Ticket enter(long userId);
+
+  /**
+   * 사용자별 lock 을 획득하기까지 기다린 시간을 기록합니다. - 추적 중인 사용자인 경우에만 기록합니다.
+   */
+  void lockAcquired(long userId, long waitNanos);
+
+  /**
+   * 요청 수가 많은 사용자부터 최대 limit 명을 조회합니다.
+   */
+  List<HotAccount> top(int limit);
+
+  /**
+   * operation 을 실행하고 반환된 작업이 끝날 때까지를 사용자의 요청 하나로 기록합니다. - 반환된 작업을 그대로 반환합니다.
+   */
+  default <T> CompletableFuture<T> track(long userId, Supplier<CompletableFuture<T>> operation) {
+    final Ticket ticket = enter(userId);
+    final CompletableFuture<T> future;
+    try {
+      future = operation.get();
+    } catch (RuntimeException e) {
+      ticket.exit();
+      throw e;
+    }
+    future.whenComplete((result, throwable) -> ticket.exit());
+    return future;
+  }
+
+  interface Ticket {
+
+    /**
+     * 요청 처리가 끝났음을 기록합니다. - 처리에 실패한 경우에도 호출해야 합니다.
+     */
+    void exit();
+  }
+}
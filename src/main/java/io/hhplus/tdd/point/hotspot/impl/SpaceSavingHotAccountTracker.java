@@ -0,0 +1,374 @@
+package io.hhplus.tdd.point.hotspot.impl;
+
+import io.hhplus.tdd.point.dto.HotAccount;
+import io.hhplus.tdd.point.hotspot.HotAccountTracker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Space-Saving 알고리즘으로 요청이 가장 많은 사용자를 추적합니다.
+ * <p>
+ * 사용자 ID 를 hash 하여 나눈 16 개의 stripe 마다 capacity/16 개의 counter 를 두고, 추적 중이 아닌 사용자의 요청이 오면
+ * 요청 수가 가장 적은 counter 를 넘겨받아 그 요청 수부터 셉니다. 따라서 메모리는 사용자 수와 관계없이 일정합니다. 추적이
+ * 보장되는 것은 같은 stripe 에 속한 요청 중 1/(stripe 의 counter 수) 보다 많은 요청을 보낸 사용자이며, 사용자가 stripe 에
+ * 고르게 나뉘는 경우 대략 전체 요청의 1/capacity 보다 많은 요청을 보낸 사용자에 해당합니다. 오래된 요청이 계속 순위를
+ * 차지하지 않도록 주기적으로 요청 수를 절반으로 줄입니다.
+ */
+public class SpaceSavingHotAccountTracker implements HotAccountTracker, MeterBinder {
+
+  private static final int STRIPE_SHIFT = 4;
+  private static final int STRIPES = 1 << STRIPE_SHIFT;
+  private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+  private static final long METRIC_SNAPSHOT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private static final VarHandle PENDING;
+  private static final VarHandle WAIT_NANOS;
+  private static final VarHandle WAITS;
+
+  static {
+    try {
+      final MethodHandles.Lookup lookup = MethodHandles.lookup();
+      PENDING = lookup.findVarHandle(Counter.class, "pending", int.class);
+      WAIT_NANOS = lookup.findVarHandle(Counter.class, "waitNanos", long.class);
+      WAITS = lookup.findVarHandle(Counter.class, "waits", long.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final Stripe[] stripes = new Stripe[STRIPES];
+  private final int metricRanks;
+  private final ScheduledExecutorService decayer;
+  private volatile MetricSnapshot metricSnapshot = new MetricSnapshot(List.of(), 0);
+
+  /**
+   * @param capacity      추적할 최대 사용자 수 - stripe 별로 나누어 보관합니다.
+   * @param decayInterval 요청 수를 절반으로 줄이는 주기 - 0 이하인 경우 줄이지 않습니다.
+   * @param metricRanks   metric 으로 제공할 상위 사용자 수
+   */
+  public SpaceSavingHotAccountTracker(int capacity, Duration decayInterval, int metricRanks) {
+    final int stripeCapacity = Math.max(1, (capacity + STRIPES - 1) / STRIPES);
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new Stripe(stripeCapacity);
+    }
+    this.metricRanks = metricRanks;
+
+    if (!decayInterval.isNegative() && !decayInterval.isZero()) {
+      this.decayer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "point-hot-account-decay");
+        thread.setDaemon(true);
+        return thread;
+      });
+      final long intervalMillis = decayInterval.toMillis();
+      decayer.scheduleWithFixedDelay(this::decay, intervalMillis, intervalMillis,
+          TimeUnit.MILLISECONDS);
+    } else {
+      this.decayer = null;
+    }
+  }
+
+  @Override
+  public Ticket enter(long userId) {
+    return stripe(userId).offer(userId);
+  }
+
+  @Override
+  public void lockAcquired(long userId, long waitNanos) {
+    final Counter counter = stripe(userId).get(userId);
+    if (counter != null) {
+      WAIT_NANOS.getAndAdd(counter, waitNanos);
+      WAITS.getAndAdd(counter, 1L);
+    }
+  }
+
+  @Override
+  public List<HotAccount> top(int limit) {
+    final List<HotAccount> accounts = new ArrayList<>();
+    for (Stripe stripe : stripes) {
+      stripe.snapshot(accounts);
+    }
+    accounts.sort(Comparator.comparingLong(HotAccount::requests).reversed());
+    return List.copyOf(accounts.subList(0, Math.min(limit, accounts.size())));
+  }
+
+  /**
+   * 모든 사용자의 요청 수를 절반으로 줄입니다. - 순위는 바뀌지 않습니다.
+   */
+  public void decay() {
+    for (Stripe stripe : stripes) {
+      stripe.decay();
+    }
+  }
+
+  /**
+   * 순위별 사용자 ID, 요청 수, 평균 lock 대기 시간, 평균 대기열 길이를 rank tag 로 구분하여 제공합니다.
+   */
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    for (int rank = 1; rank <= metricRanks; rank++) {
+      gauge("point.hot.account.user", "순위별 사용자 ID", rank, HotAccount::userId,
+          meterRegistry);
+      gauge("point.hot.account.requests", "순위별 요청 수 추정치", rank, HotAccount::requests,
+          meterRegistry);
+      gauge("point.hot.account.lock.wait", "순위별 평균 lock 대기 시간(ms)", rank,
+          HotAccount::averageLockWaitMillis, meterRegistry);
+      gauge("point.hot.account.queue", "순위별 평균 대기열 길이", rank,
+          HotAccount::averageQueueLength, meterRegistry);
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    if (decayer != null) {
+      decayer.shutdownNow();
+    }
+  }
+
+  private Stripe stripe(long userId) {
+    final long hash = userId * HASH_MULTIPLIER;
+    return stripes[(int) (hash >>> (Long.SIZE - STRIPE_SHIFT))];
+  }
+
+  private void gauge(String name, String description, int rank,
+      ToDoubleFunction<HotAccount> value, MeterRegistry meterRegistry) {
+    final int index = rank - 1;
+    Gauge.builder(name, this, tracker -> {
+          final List<HotAccount> accounts = tracker.rankedForMetrics();
+          return index < accounts.size() ? value.applyAsDouble(accounts.get(index)) : 0;
+        })
+        .description(description)
+        .tag("rank", Integer.toString(rank))
+        .register(meterRegistry);
+  }
+
+  /**
+   * NOTE: 한 번의 수집에서 순위별 gauge 가 모두 같은 순위를 보도록 잠시 동안 같은 결과를 사용합니다.
+   */
+  private List<HotAccount> rankedForMetrics() {
+    final MetricSnapshot snapshot = metricSnapshot;
+    final long now = System.nanoTime();
+    if (now - snapshot.takenNanos < METRIC_SNAPSHOT_NANOS && !snapshot.accounts.isEmpty()) {
+      return snapshot.accounts;
+    }
+    final List<HotAccount> accounts = top(metricRanks);
+    metricSnapshot = new MetricSnapshot(accounts, now);
+    return accounts;
+  }
+
+  private record MetricSnapshot(List<HotAccount> accounts, long takenNanos) {
+
+  }
+
+  /**
+   * 요청 수 기준 min-heap 과 사용자 ID 기준 open addressing 배열로 counter 를 보관합니다. - 모두 lock 안에서만 변경합니다.
+   */
+  private static final class Stripe {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Counter[] heap;
+    private final Counter[] table;
+    private final int mask;
+    private int size;
+
+    private Stripe(int capacity) {
+      this.heap = new Counter[capacity];
+      this.table = new Counter[Integer.highestOneBit(capacity * 2 - 1) << 1];
+      this.mask = table.length - 1;
+    }
+
+    private Counter offer(long userId) {
+      lock.lock();
+      try {
+        Counter counter = find(userId);
+        if (counter != null) {
+          counter.count++;
+          siftDown(counter.heapIndex);
+        } else if (size < heap.length) {
+          counter = new Counter(userId, 1, 0);
+          counter.heapIndex = size;
+          heap[size++] = counter;
+          insert(counter);
+          siftUp(counter.heapIndex);
+        } else {
+          // NOTE: 요청 수가 가장 적은 사용자를 제외하고, 그 요청 수를 새 사용자의 최대 오차로 넘겨받습니다.
+          final Counter evicted = heap[0];
+          remove(evicted);
+          counter = new Counter(userId, evicted.count + 1, evicted.count);
+          counter.heapIndex = 0;
+          heap[0] = counter;
+          insert(counter);
+          siftDown(0);
+        }
+
+        final int queued = (int) PENDING.getAndAdd(counter, 1);
+        counter.arrivals++;
+        counter.queueSum += queued;
+        counter.maxQueue = Math.max(counter.maxQueue, queued);
+        return counter;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private Counter get(long userId) {
+      lock.lock();
+      try {
+        return find(userId);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void snapshot(List<HotAccount> accounts) {
+      lock.lock();
+      try {
+        for (int i = 0; i < size; i++) {
+          accounts.add(heap[i].toHotAccount());
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void decay() {
+      lock.lock();
+      try {
+        for (int i = 0; i < size; i++) {
+          heap[i].count >>= 1;
+          heap[i].error >>= 1;
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private Counter find(long userId) {
+      for (int i = home(userId); ; i = (i + 1) & mask) {
+        final Counter counter = table[i];
+        if (counter == null || counter.userId == userId) {
+          return counter;
+        }
+      }
+    }
+
+    private void insert(Counter counter) {
+      int i = home(counter.userId);
+      while (table[i] != null) {
+        i = (i + 1) & mask;
+      }
+      table[i] = counter;
+    }
+
+    /**
+     * 제거한 자리 뒤에 이어진 counter 를 앞으로 당겨, 삭제 표시 없이도 조회가 끊기지 않도록 합니다.
+     */
+    private void remove(Counter counter) {
+      int hole = home(counter.userId);
+      while (table[hole] != counter) {
+        hole = (hole + 1) & mask;
+      }
+      table[hole] = null;
+
+      for (int i = (hole + 1) & mask; table[i] != null; i = (i + 1) & mask) {
+        final int home = home(table[i].userId);
+        final boolean reachable = hole <= i ? hole < home && home <= i : hole < home || home <= i;
+        if (!reachable) {
+          table[hole] = table[i];
+          table[i] = null;
+          hole = i;
+        }
+      }
+    }
+
+    private int home(long userId) {
+      return (int) (userId * HASH_MULTIPLIER >>> Integer.SIZE) & mask;
+    }
+
+    private void siftUp(int index) {
+      final Counter counter = heap[index];
+      while (index > 0) {
+        final int parent = (index - 1) >>> 1;
+        if (heap[parent].count <= counter.count) {
+          break;
+        }
+        place(heap[parent], index);
+        index = parent;
+      }
+      place(counter, index);
+    }
+
+    private void siftDown(int index) {
+      final Counter counter = heap[index];
+      while (true) {
+        int child = (index << 1) + 1;
+        if (child >= size) {
+          break;
+        }
+        if (child + 1 < size && heap[child + 1].count < heap[child].count) {
+          child++;
+        }
+        if (counter.count <= heap[child].count) {
+          break;
+        }
+        place(heap[child], index);
+        index = child;
+      }
+      place(counter, index);
+    }
+
+    private void place(Counter counter, int index) {
+      heap[index] = counter;
+      counter.heapIndex = index;
+    }
+  }
+
+  /**
+   * 사용자별 요청 수와 경합 통계 - 요청 수와 대기열 통계는 stripe lock 안에서, 대기 시간과 처리 중인 요청 수는 lock 없이
+   * 갱신합니다. 제외된 counter 에 남은 요청의 종료 기록은 더 이상 조회되지 않는 counter 에 반영됩니다.
+   */
+  private static final class Counter implements Ticket {
+
+    private final long userId;
+    private long count;
+    private long error;
+    private int heapIndex;
+    private long arrivals;
+    private long queueSum;
+    private int maxQueue;
+    private volatile int pending;
+    private volatile long waitNanos;
+    private volatile long waits;
+
+    private Counter(long userId, long count, long error) {
+      this.userId = userId;
+      this.count = count;
+      this.error = error;
+    }
+
+    @Override
+    public void exit() {
+      PENDING.getAndAdd(this, -1);
+    }
+
+    private HotAccount toHotAccount() {
+      final long waits = this.waits;
+      return new HotAccount(userId, count, error,
+          waits == 0 ? 0 : waitNanos / 1_000_000d / waits,
+          arrivals == 0 ? 0 : (double) queueSum / arrivals,
+          maxQueue, pending);
+    }
+  }
+}
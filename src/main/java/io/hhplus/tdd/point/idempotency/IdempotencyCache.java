@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 같은 Idempotency-Key 로 다시 보낸 충전/사용 요청을 한 번만 처리합니다.
+ */
+public interface IdempotencyCache {
+
+  /**
+   * key 로 처리한 결과가 있으면 그 결과를, 처리 중이면 처리 중인 결과를 반환하고, 없으면 operation 을 실행합니다.
+   * <p>
+   * 같은 key 를 다른 요청에 사용하면 IDEMPOTENCY_KEY_REUSED 로 거절합니다. 잔액을 변경하기 전에 거절된 결과는 보관하지
+   * 않으므로 같은 key 로 다시 시도할 수 있으며, 그 밖의 실패는 잔액이 변경되었을 수 있으므로 실패한 결과를 그대로 반환합니다.
+   *
+   * @param userId    요청 사용자 ID - key 는 사용자별로 구분합니다.
+   * @param key       Idempotency-Key 헤더 값
+   * @param request   같은 key 로 보낸 요청이 같은 요청인지 비교할 값 (equals)
+   * @param operation 처음 받은 요청인 경우 실행할 작업
+   */
+  CompletableFuture<UserPoint> execute(long userId, String key, Object request,
+      Supplier<CompletableFuture<UserPoint>> operation);
+}
@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point.idempotency.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 처리가 끝난 요청 결과를 최대 개수와 보관 시간이 정해진 Caffeine cache 에 보관합니다.
+ * <p>
+ * 처리 중인 요청은 cache 와 별도의 map 에 보관하여 개수 제한이나 보관 시간 때문에 제거되지 않도록 하고, 처리가 끝나면 cache
+ * 로 옮깁니다. 처음 받은 요청이 아직 처리 중이면 같은 key 의 요청은 사용자별 lock 을 기다리지 않고 처리 중인 결과를 함께
+ * 기다리므로, 재시도가 몰려도 조회 한 번으로 끝납니다.
+ */
+public class CaffeineIdempotencyCache implements IdempotencyCache {
+
+  public static final int MAX_KEY_LENGTH = 255;
+
+  /**
+   * 잔액을 변경하기 전에 거절되는 에러 - 이 에러로 실패한 결과만 보관하지 않고 같은 key 로 다시 처리합니다.
+   */
+  private static final Set<PointErrorCode> REJECTED_BEFORE_UPDATE = EnumSet.of(
+      PointErrorCode.INVALID_USER_ID,
+      PointErrorCode.INVALID_AMOUNT,
+      PointErrorCode.USER_POINT_NOT_FOUND,
+      PointErrorCode.POINT_NOT_ENOUGH,
+      PointErrorCode.EXCEED_MAX_POINT,
+      PointErrorCode.POINT_LOCK_TIMEOUT,
+      PointErrorCode.POINT_TOO_MANY_REQUESTS,
+      PointErrorCode.POINT_SHARD_BUSY,
+      PointErrorCode.POINT_SERVICE_CLOSED);
+
+  private final ConcurrentHashMap<Key, Execution> inFlight = new ConcurrentHashMap<>();
+  private final Cache<Key, Execution> completed;
+
+  /**
+   * @param maximumSize 보관할 최대 결과 수 - 초과 시 사용 빈도가 낮은 결과부터 제거합니다. 처리 중인 요청은 포함하지 않습니다.
+   * @param ttl         처리가 끝난 결과를 보관하는 시간
+   */
+  public CaffeineIdempotencyCache(long maximumSize, Duration ttl) {
+    this.completed = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> execute(long userId, String key, Object request,
+      Supplier<CompletableFuture<UserPoint>> operation) {
+    if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      throw new BusinessException(PointErrorCode.INVALID_IDEMPOTENCY_KEY);
+    }
+
+    final Key cacheKey = new Key(userId, key);
+    final Execution created = new Execution(request, new CompletableFuture<>());
+    final Execution execution = register(cacheKey, created);
+    if (execution != created) {
+      if (!Objects.equals(execution.request(), request)) {
+        throw new BusinessException(PointErrorCode.IDEMPOTENCY_KEY_REUSED);
+      }
+      return execution.result().copy();
+    }
+
+    // NOTE: map 의 compute 안에서 실행하지 않도록, 등록한 뒤 작업을 실행하여 결과를 전달합니다.
+    final CompletableFuture<UserPoint> result;
+    try {
+      result = operation.get();
+    } catch (RuntimeException e) {
+      complete(cacheKey, created, null, e);
+      throw e;
+    }
+    result.whenComplete((userPoint, throwable) -> complete(cacheKey, created, userPoint,
+        throwable));
+    return result;
+  }
+
+  /**
+   * 보관 중인 결과 수 (처리 중인 요청 포함)
+   */
+  public long size() {
+    completed.cleanUp();
+    return completed.estimatedSize() + inFlight.size();
+  }
+
+  /**
+   * 같은 key 로 처리 중이거나 처리가 끝난 요청이 있으면 그 요청을, 없으면 created 를 처리 중인 요청으로 등록하여 반환합니다.
+   */
+  private Execution register(Key key, Execution created) {
+    final Execution[] found = new Execution[1];
+    // NOTE: 처리가 끝난 요청은 cache 에 먼저 등록된 뒤 map 에서 제거되므로, 같은 key 의 compute 안에서 두 곳을 모두 확인하면
+    // 처리가 끝나는 도중에도 놓치지 않습니다.
+    inFlight.compute(key, (k, current) -> {
+      if (current != null) {
+        found[0] = current;
+        return current;
+      }
+      final Execution done = completed.getIfPresent(k);
+      found[0] = done != null ? done : created;
+      return done != null ? null : created;
+    });
+    return found[0];
+  }
+
+  private void complete(Key key, Execution execution, UserPoint userPoint, Throwable throwable) {
+    if (throwable == null) {
+      completed.put(key, execution);
+    } else if (!rejectedBeforeUpdate(throwable)) {
+      // NOTE: 잔액이 변경되었을 수 있는 실패는 보관하여, 같은 key 로 다시 보낸 요청이 한 번 더 반영되지 않도록 합니다.
+      completed.put(key, execution);
+    }
+    inFlight.remove(key, execution);
+
+    if (throwable == null) {
+      execution.result().complete(userPoint);
+    } else {
+      execution.result().completeExceptionally(throwable);
+    }
+  }
+
+  private static boolean rejectedBeforeUpdate(Throwable throwable) {
+    final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause() : throwable;
+    return cause instanceof BusinessException e
+        && e.getErrorCode() instanceof PointErrorCode code
+        && REJECTED_BEFORE_UPDATE.contains(code);
+  }
+
+  private record Key(long userId, String key) {
+
+  }
+
+  private record Execution(Object request, CompletableFuture<UserPoint> result) {
+
+  }
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * 사용자 잔액을 메모리에서 관리하며 충전/사용을 바로 반영합니다.
+ */
+public interface PointLedger {
+
+  /**
+   * 잔액을 amount 만큼 늘립니다. - 최대 잔액을 초과하면 EXCEED_MAX_POINT 예외가 발생합니다.
+   *
+   * @return 충전 후 잔액
+   */
+  UserPoint charge(long userId, long amount);
+
+  /**
+   * 잔액을 amount 만큼 줄입니다. - 잔액이 부족하면 POINT_NOT_ENOUGH 예외가 발생합니다.
+   *
+   * @return 사용 후 잔액
+   */
+  UserPoint use(long userId, long amount);
+
+  /**
+   * 현재 잔액 - 보관되지 않은 사용자는 저장소에서 읽어 보관합니다.
+   */
+  UserPoint get(long userId);
+
+  /**
+   * 현재 잔액을 보관 중인 사용자 수
+   */
+  int size();
+}
@@ -0,0 +1,255 @@
+package io.hhplus.tdd.point.ledger.impl;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.ledger.PointLedger;
+import io.hhplus.tdd.point.repository.PointRepository;
+import jakarta.annotation.PreDestroy;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 사용자별 잔액을 primitive long 으로 보관하는 cell 에 두고, 충전/사용을 compare-and-set 반복으로 반영합니다.
+ * <p>
+ * cell 은 userId(long) 를 key 로 하는 open addressing 배열에 보관하며, 조회는 lock 없이 수행합니다. 새 사용자 등록과
+ * 배열 확장만 segment 별 lock 안에서 수행하고, 등록된 cell 은 제거하지 않습니다. 변경된 잔액은 사용자당 하나의 작업이
+ * 최신 값만 비동기로 저장소(Table)에 기록하므로, 기록 전의 잔액은 {@link #get(long)} 으로 조회합니다.
+ */
+public class AtomicPointLedger implements PointLedger {
+
+  private static final Logger log = LoggerFactory.getLogger(AtomicPointLedger.class);
+
+  private static final int SEGMENT_SHIFT = 6;
+  private static final int SEGMENTS = 1 << SEGMENT_SHIFT;
+  private static final int INITIAL_CAPACITY = 16;
+  private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  private static final VarHandle CELLS = MethodHandles.arrayElementVarHandle(Cell[].class);
+  private static final VarHandle POINT;
+  private static final VarHandle PUSHING;
+
+  static {
+    try {
+      final MethodHandles.Lookup lookup = MethodHandles.lookup();
+      POINT = lookup.findVarHandle(Cell.class, "point", long.class);
+      PUSHING = lookup.findVarHandle(Cell.class, "pushing", boolean.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final PointRepository pointRepository;
+  private final Executor executor;
+  private final Segment[] segments = new Segment[SEGMENTS];
+
+  public AtomicPointLedger(PointRepository pointRepository, Executor executor) {
+    this.pointRepository = pointRepository;
+    this.executor = executor;
+    for (int i = 0; i < SEGMENTS; i++) {
+      segments[i] = new Segment();
+    }
+  }
+
+  @Override
+  public UserPoint charge(long userId, long amount) {
+    final Cell cell = cellOf(userId);
+    long current;
+    do {
+      current = cell.point;
+      if (Long.MAX_VALUE - current < amount) {
+        throw new BusinessException(PointErrorCode.EXCEED_MAX_POINT);
+      }
+    } while (!POINT.compareAndSet(cell, current, current + amount));
+    return applied(cell, current + amount);
+  }
+
+  @Override
+  public UserPoint use(long userId, long amount) {
+    final Cell cell = cellOf(userId);
+    long current;
+    do {
+      current = cell.point;
+      if (current < amount) {
+        throw new BusinessException(PointErrorCode.POINT_NOT_ENOUGH);
+      }
+    } while (!POINT.compareAndSet(cell, current, current - amount));
+    return applied(cell, current - amount);
+  }
+
+  @Override
+  public UserPoint get(long userId) {
+    final Cell cell = cellOf(userId);
+    return new UserPoint(userId, cell.point, cell.updateMillis);
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      size += segment.size;
+    }
+    return size;
+  }
+
+  /**
+   * 저장소에 기록되지 않은 잔액을 모두 기록합니다. - 이미 기록 중인 사용자는 해당 작업이 마저 기록합니다.
+   */
+  @PreDestroy
+  public void flush() {
+    for (Segment segment : segments) {
+      for (Cell cell : segment.table) {
+        if (cell != null && cell.dirty && PUSHING.compareAndSet(cell, false, true)) {
+          push(cell);
+        }
+      }
+    }
+  }
+
+  private UserPoint applied(Cell cell, long point) {
+    final long updateMillis = System.currentTimeMillis();
+    cell.updateMillis = updateMillis;
+    cell.dirty = true;
+    if (PUSHING.compareAndSet(cell, false, true)) {
+      schedule(cell);
+    }
+    return new UserPoint(cell.userId, point, updateMillis);
+  }
+
+  private void schedule(Cell cell) {
+    try {
+      executor.execute(() -> push(cell));
+    } catch (RejectedExecutionException e) {
+      // NOTE: 기록하지 못한 잔액은 남겨두고 다음 변경 또는 종료 시 다시 기록합니다.
+      log.warn("failed to schedule user point push. userId={}", cell.userId, e);
+      cell.pushing = false;
+    }
+  }
+
+  /**
+   * 마지막으로 기록한 이후 변경이 없을 때까지 최신 잔액을 기록합니다.
+   */
+  private void push(Cell cell) {
+    do {
+      while (cell.dirty) {
+        cell.dirty = false;
+        try {
+          pointRepository.update(UserPoint.from(cell.userId, cell.point, cell.updateMillis));
+        } catch (RuntimeException e) {
+          log.warn("failed to push user point. userId={}", cell.userId, e);
+          cell.dirty = true;
+          cell.pushing = false;
+          return;
+        }
+      }
+      cell.pushing = false;
+      // NOTE: 반납 직전에 변경된 잔액은 변경한 요청이 작업을 등록하지 못했으므로 다시 확인합니다.
+    } while (cell.dirty && PUSHING.compareAndSet(cell, false, true));
+  }
+
+  private Cell cellOf(long userId) {
+    final long hash = userId * HASH_MULTIPLIER;
+    final Segment segment = segments[(int) (hash >>> (Long.SIZE - SEGMENT_SHIFT))];
+    final int index = (int) (hash >>> Integer.SIZE);
+    final Cell cell = segment.find(userId, index);
+    if (cell != null) {
+      return cell;
+    }
+
+    // NOTE: 저장소 조회는 lock 밖에서 수행하여 같은 segment 의 다른 사용자 등록을 막지 않습니다.
+    final UserPoint userPoint = pointRepository.findById(userId)
+        .orElseGet(() -> UserPoint.empty(userId));
+    segment.lock.lock();
+    try {
+      return segment.putIfAbsent(new Cell(userPoint), index);
+    } finally {
+      segment.lock.unlock();
+    }
+  }
+
+  /**
+   * 사용자 cell 을 linear probing 으로 보관하는 배열 - 배열 교체와 원소 등록은 lock 안에서만 수행합니다.
+   */
+  private static final class Segment {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Cell[] table = new Cell[INITIAL_CAPACITY];
+    private volatile int size;
+
+    private Cell find(long userId, int index) {
+      final Cell[] table = this.table;
+      final int mask = table.length - 1;
+      for (int i = index & mask; ; i = (i + 1) & mask) {
+        final Cell cell = (Cell) CELLS.getAcquire(table, i);
+        if (cell == null || cell.userId == userId) {
+          return cell;
+        }
+      }
+    }
+
+    private Cell putIfAbsent(Cell cell, int index) {
+      final Cell existing = find(cell.userId, index);
+      if (existing != null) {
+        return existing;
+      }
+
+      if ((size + 1) * 4L > table.length * 3L) {
+        resize();
+      }
+      final Cell[] table = this.table;
+      final int mask = table.length - 1;
+      int i = index & mask;
+      while (table[i] != null) {
+        i = (i + 1) & mask;
+      }
+      // NOTE: cell 의 초기화가 끝난 뒤 배열에 노출되어 lock 없이 조회하는 스레드도 초기 잔액을 봅니다.
+      CELLS.setRelease(table, i, cell);
+      size = size + 1;
+      return cell;
+    }
+
+    /**
+     * 두 배 크기의 배열에 cell 을 옮긴 뒤 교체합니다. - 이전 배열을 조회 중인 스레드는 기존 cell 을 그대로 찾습니다.
+     */
+    private void resize() {
+      final Cell[] resized = new Cell[table.length << 1];
+      final int mask = resized.length - 1;
+      for (Cell cell : table) {
+        if (cell != null) {
+          int i = (int) (cell.userId * HASH_MULTIPLIER >>> Integer.SIZE) & mask;
+          while (resized[i] != null) {
+            i = (i + 1) & mask;
+          }
+          resized[i] = cell;
+        }
+      }
+      table = resized;
+    }
+  }
+
+  private static final class Cell {
+
+    private final long userId;
+    private volatile long point;
+    private volatile long updateMillis;
+    /**
+     * 저장소에 기록되지 않은 변경이 있는지 여부
+     */
+    private volatile boolean dirty;
+    /**
+     * 기록 작업이 등록되었거나 실행 중인지 여부 - 사용자당 하나의 작업만 기록합니다.
+     */
+    private volatile boolean pushing;
+
+    private Cell(UserPoint userPoint) {
+      this.userId = userPoint.id();
+      this.point = userPoint.point();
+      this.updateMillis = userPoint.updateMillis();
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.lock;
+
+/**
+ * 여러 서버가 공유하는 lock 저장소(Redis 등)에서 만료 시간이 있는 lock(lease)을 획득/해제합니다.
+ * <p>
+ * lease 를 획득할 때마다 key 별로 증가하는 fencing token 을 발급합니다. lease 가 만료된 뒤에도 작업을 계속한 이전 보유자의
+ * 기록은, 저장소가 더 큰 token 을 이미 받았는지 비교하여 거절할 수 있습니다.
+ */
+public interface LeaseLockClient {
+
+  /**
+   * key 의 lease 를 owner 가 leaseMillis 동안 보유하도록 한 번 시도합니다.
+   *
+   * @return 획득한 경우 fencing token (1 이상), 다른 owner 가 보유 중인 경우 0
+   */
+  long tryAcquire(String key, String owner, long leaseMillis);
+
+  /**
+   * owner 가 보유한 key 의 lease 를 해제합니다.
+   *
+   * @return 해제 여부 - lease 가 이미 만료되어 해제할 lease 가 없는 경우 false
+   */
+  boolean release(String key, String owner);
+}
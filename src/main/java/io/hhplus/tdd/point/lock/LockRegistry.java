@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.function.Supplier;
+
+/**
+ * 사용자 ID 단위의 lock 을 관리합니다.
+ */
+public interface LockRegistry {
+
+  /**
+   * key 에 해당하는 lock 을 획득한 상태에서 action 을 실행합니다.
+   */
+  <T> T executeWithLock(long key, Supplier<T> action);
+
+  /**
+   * 현재 registry 가 보관하고 있는 lock 의 개수
+   */
+  int size();
+}
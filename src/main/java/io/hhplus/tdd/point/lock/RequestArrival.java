@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+/**
+ * 처리 중인 요청이 도착한 시각을 현재 스레드에 보관합니다.
+ * <p>
+ * lock 획득을 기다리는 시간을 요청이 도착한 시각부터 계산하면, point executor 의 대기열에서 기다린 시간도 대기 시간에
+ * 포함됩니다. point executor 는 {@link #decorate(Runnable)} 로 작업을 적재한 스레드의 도착 시각을 작업을 실행하는 스레드에
+ * 전달합니다.
+ */
+public final class RequestArrival {
+
+  private static final ThreadLocal<Long> ARRIVAL_NANOS = new ThreadLocal<>();
+
+  private RequestArrival() {
+  }
+
+  /**
+   * 요청이 도착한 시각(System.nanoTime)을 보관한 상태에서 action 을 실행합니다.
+   */
+  public static <T> T run(long arrivalNanos, Supplier<T> action) {
+    final Long previous = ARRIVAL_NANOS.get();
+    ARRIVAL_NANOS.set(arrivalNanos);
+    try {
+      return action.get();
+    } finally {
+      restore(previous);
+    }
+  }
+
+  /**
+   * 현재 스레드가 처리 중인 요청이 도착한 시각 - 요청을 처리 중이 아닌 경우 empty 입니다.
+   */
+  public static OptionalLong current() {
+    final Long arrivalNanos = ARRIVAL_NANOS.get();
+    return arrivalNanos == null ? OptionalLong.empty() : OptionalLong.of(arrivalNanos);
+  }
+
+  /**
+   * 적재하는 시점의 도착 시각을 작업을 실행하는 스레드에 전달합니다. - TaskDecorator 로 사용합니다.
+   */
+  public static Runnable decorate(Runnable task) {
+    final Long arrivalNanos = ARRIVAL_NANOS.get();
+    if (arrivalNanos == null) {
+      return task;
+    }
+    return () -> {
+      final Long previous = ARRIVAL_NANOS.get();
+      ARRIVAL_NANOS.set(arrivalNanos);
+      try {
+        task.run();
+      } finally {
+        restore(previous);
+      }
+    };
+  }
+
+  private static void restore(Long previous) {
+    if (previous == null) {
+      ARRIVAL_NANOS.remove();
+    } else {
+      ARRIVAL_NANOS.set(previous);
+    }
+  }
+}
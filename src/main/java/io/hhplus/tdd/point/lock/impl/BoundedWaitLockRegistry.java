@@ -0,0 +1,96 @@
+package io.hhplus.tdd.point.lock.impl;
+
+import io.hhplus.tdd.error.RetryLaterException;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.lock.LockRegistry;
+import io.hhplus.tdd.point.lock.RequestArrival;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별로 lock 을 보유하거나 기다리는 요청 수와 기다리는 시간을 제한합니다.
+ * <p>
+ * 한 사용자에게 요청이 몰려도 그 사용자의 요청만 POINT_TOO_MANY_REQUESTS 로 거절되므로, 기다리는 스레드가 쌓여 다른
+ * 사용자의 요청을 처리할 스레드가 부족해지지 않습니다. 아무도 사용하지 않는 lock 은 RefCountedLockRegistry 와 같이 즉시
+ * 제거합니다.
+ * <p>
+ * 대기 시간은 요청이 도착한 시각({@link RequestArrival})부터 계산하므로 point executor 의 대기열에서 기다린 시간도
+ * 포함됩니다. 도착 시각을 알 수 없는 호출은 lock 획득을 시작한 시각부터 계산합니다.
+ */
+public class BoundedWaitLockRegistry implements LockRegistry {
+
+  private final ConcurrentHashMap<Long, CountedLock> locks = new ConcurrentHashMap<>();
+  private final int maxPending;
+  private final long waitNanos;
+  private final Duration retryAfter;
+
+  /**
+   * @param maxPending 사용자별로 lock 을 보유하거나 기다리는 최대 요청 수 - 초과한 요청은 기다리지 않고 거절합니다.
+   * @param waitTime   요청이 도착한 뒤 lock 획득을 기다리는 최대 시간
+   * @param retryAfter 거절한 요청에 알려줄 다시 시도할 때까지의 시간
+   */
+  public BoundedWaitLockRegistry(int maxPending, Duration waitTime, Duration retryAfter) {
+    this.maxPending = maxPending;
+    this.waitNanos = waitTime.toNanos();
+    this.retryAfter = retryAfter;
+  }
+
+  @Override
+  public <T> T executeWithLock(long key, Supplier<T> action) {
+    final long deadline = RequestArrival.current().orElseGet(System::nanoTime) + waitNanos;
+    final CountedLock lock = acquire(key);
+    if (lock == null) {
+      throw new RetryLaterException(PointErrorCode.POINT_TOO_MANY_REQUESTS, retryAfter);
+    }
+    try {
+      // NOTE: 대기 시간을 이미 초과했다면 lock 이 비어 있는 경우에만 기다리지 않고 획득합니다.
+      if (!lock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+        throw new RetryLaterException(PointErrorCode.POINT_TOO_MANY_REQUESTS, retryAfter);
+      }
+      try {
+        return action.get();
+      } finally {
+        lock.unlock();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RetryLaterException(PointErrorCode.POINT_TOO_MANY_REQUESTS, retryAfter);
+    } finally {
+      release(key);
+    }
+  }
+
+  @Override
+  public int size() {
+    return locks.size();
+  }
+
+  /**
+   * 참조 수가 maxPending 에 도달한 경우 참조하지 않고 null 을 반환합니다.
+   */
+  private CountedLock acquire(long key) {
+    final CountedLock[] acquired = new CountedLock[1];
+    // NOTE: 참조 수는 compute 안에서만 변경되므로 별도의 동기화가 필요하지 않습니다.
+    locks.compute(key, (k, current) -> {
+      final CountedLock lock = current == null ? new CountedLock() : current;
+      if (lock.references < maxPending) {
+        lock.references++;
+        acquired[0] = lock;
+      }
+      return lock;
+    });
+    return acquired[0];
+  }
+
+  private void release(long key) {
+    locks.computeIfPresent(key, (k, current) -> --current.references == 0 ? null : current);
+  }
+
+  private static final class CountedLock extends ReentrantLock {
+
+    private int references;
+  }
+}
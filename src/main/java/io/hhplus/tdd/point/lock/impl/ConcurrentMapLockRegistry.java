@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point.lock.impl;
+
+import io.hhplus.tdd.point.lock.LockRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 ID 별 lock 을 생성 후 제거하지 않습니다. - 사용자 수에 비례하여 메모리가 증가합니다.
+ */
+public class ConcurrentMapLockRegistry implements LockRegistry {
+
+  private final ConcurrentHashMap<Long, Lock> locks = new ConcurrentHashMap<>();
+
+  @Override
+  public <T> T executeWithLock(long key, Supplier<T> action) {
+    Lock lock = locks.computeIfAbsent(key, k -> new ReentrantLock());
+    lock.lock();
+    try {
+      return action.get();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    return locks.size();
+  }
+}
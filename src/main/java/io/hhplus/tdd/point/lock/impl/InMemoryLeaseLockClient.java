@@ -0,0 +1,59 @@
+package io.hhplus.tdd.point.lock.impl;
+
+import io.hhplus.tdd.point.lock.LeaseLockClient;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 하나의 JVM 안에서 lock 저장소 역할을 하는 {@link LeaseLockClient} - Redis 없이 실행하는 단일 서버 환경이나, 여러 서버를
+ * 흉내 내는 테스트에서 registry 들이 공유하는 저장소로 사용합니다.
+ */
+public class InMemoryLeaseLockClient implements LeaseLockClient {
+
+  private final ConcurrentHashMap<String, Lease> leases = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, AtomicLong> tokens = new ConcurrentHashMap<>();
+
+  @Override
+  public long tryAcquire(String key, String owner, long leaseMillis) {
+    final long now = System.nanoTime();
+    final long[] token = new long[1];
+    leases.compute(key, (k, current) -> {
+      if (current != null && current.expiresAtNanos - now > 0) {
+        return current;
+      }
+      token[0] = tokens.computeIfAbsent(k, it -> new AtomicLong()).incrementAndGet();
+      return new Lease(owner, now + TimeUnit.MILLISECONDS.toNanos(leaseMillis));
+    });
+    return token[0];
+  }
+
+  @Override
+  public boolean release(String key, String owner) {
+    final long now = System.nanoTime();
+    final boolean[] released = new boolean[1];
+    leases.computeIfPresent(key, (k, current) -> {
+      if (current.owner.equals(owner) && current.expiresAtNanos - now > 0) {
+        released[0] = true;
+        return null;
+      }
+      return current.expiresAtNanos - now > 0 ? current : null;
+    });
+    return released[0];
+  }
+
+  /**
+   * 현재 보유 중인(만료되지 않은) lease 수
+   */
+  public int size() {
+    final long now = System.nanoTime();
+    return (int) leases.values().stream().filter(lease -> lease.expiresAtNanos - now > 0).count();
+  }
+
+  private record Lease(
+      String owner,
+      long expiresAtNanos
+  ) {
+
+  }
+}
@@ -0,0 +1,201 @@
+package io.hhplus.tdd.point.lock.impl;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.lock.LeaseLockClient;
+import io.hhplus.tdd.point.lock.LockRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 여러 서버가 공유하는 lock 저장소의 lease 를 획득한 상태에서 action 을 실행하여, 서버가 여러 대여도 사용자별로 하나의
+ * 요청만 처리합니다.
+ * <p>
+ * 같은 서버의 요청은 먼저 서버 안의 lock 으로 순서를 정하므로, lock 저장소에는 서버마다 하나의 요청만 lease 를 요청합니다.
+ * lease 를 보유한 요청이 끝났을 때 같은 사용자의 다음 요청이 서버 안에서 기다리고 있고 lease 가 절반 이상 남아 있으면, lease
+ * 를 해제하지 않고 다음 요청에 넘겨 lock 저장소 왕복을 줄입니다. 넘겨받은 요청은 같은 fencing token 을 사용합니다. 다른
+ * 서버도 lease 를 획득할 수 있도록 lease 는 연장하지 않고, 연속으로 넘겨주는 횟수도 제한합니다.
+ */
+public class LeaseLockRegistry implements LockRegistry {
+
+  private static final Logger log = LoggerFactory.getLogger(LeaseLockRegistry.class);
+
+  private static final int MAX_HANDOVERS = 16;
+  private static final long MAX_RETRY_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final ThreadLocal<Long> FENCING_TOKEN = new ThreadLocal<>();
+
+  private final LeaseLockClient client;
+  private final String owner;
+  private final long leaseMillis;
+  private final long leaseNanos;
+  private final long waitNanos;
+  private final boolean localHandover;
+  private final ConcurrentHashMap<Long, LocalLease> leases = new ConcurrentHashMap<>();
+  private final LongAdder expiredActions = new LongAdder();
+
+  public LeaseLockRegistry(LeaseLockClient client, Duration leaseTime, Duration waitTime,
+      boolean localHandover) {
+    this(client, UUID.randomUUID().toString(), leaseTime, waitTime, localHandover);
+  }
+
+  LeaseLockRegistry(LeaseLockClient client, String owner, Duration leaseTime, Duration waitTime,
+      boolean localHandover) {
+    this.client = client;
+    this.owner = owner;
+    this.leaseMillis = leaseTime.toMillis();
+    this.leaseNanos = leaseTime.toNanos();
+    this.waitNanos = waitTime.toNanos();
+    this.localHandover = localHandover;
+  }
+
+  /**
+   * 현재 스레드가 실행 중인 action 의 fencing token - lock 밖에서 호출한 경우 0 입니다.
+   * <p>
+   * 저장소가 token 을 받을 수 있다면 함께 기록하여, lease 가 만료된 뒤 늦게 도착한 기록을 거절할 수 있습니다. - 현재 잔액과
+   * 내역 저장소는 token 을 검사하지 않습니다.
+   */
+  public static long currentFencingToken() {
+    final Long token = FENCING_TOKEN.get();
+    return token == null ? 0 : token;
+  }
+
+  @Override
+  public <T> T executeWithLock(long key, Supplier<T> action) {
+    final LocalLease lease = acquireLocal(key);
+    lease.lock();
+    try {
+      if (!lease.isValidFor(leaseNanos / 2)) {
+        // NOTE: 넘겨받은 lease 의 남은 시간이 부족하면 해제한 뒤 새로 획득합니다.
+        releaseRemote(key, lease);
+        acquireRemote(key, lease);
+      }
+
+      final Long previous = FENCING_TOKEN.get();
+      FENCING_TOKEN.set(lease.token);
+      try {
+        final T result = action.get();
+        if (!lease.isValidFor(0)) {
+          // NOTE: 저장소가 fencing token 을 검사하지 않으므로, lease 가 만료된 뒤 끝난 action 은 다른 서버의 요청과 함께
+          //  실행되었을 수 있습니다. 이미 반영된 결과를 실패로 응답하면 재시도한 요청이 한 번 더 반영되므로, 결과는 그대로
+          //  반환하고 경고와 함께 expiredActionCount 로 기록합니다.
+          expiredActions.increment();
+          log.warn("point lock lease expired before action completed. key={}, token={}", key,
+              lease.token);
+        }
+        return result;
+      } finally {
+        if (previous == null) {
+          FENCING_TOKEN.remove();
+        } else {
+          FENCING_TOKEN.set(previous);
+        }
+      }
+    } finally {
+      try {
+        if (!handOver(lease)) {
+          releaseRemote(key, lease);
+        }
+      } finally {
+        // NOTE: 참조 수를 lock 을 보유한 채로 줄여, 다음 보유자가 이미 끝난 요청을 대기 중인 요청으로 세지 않도록 합니다.
+        releaseLocal(key);
+        lease.unlock();
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    return leases.size();
+  }
+
+  /**
+   * lease 가 만료된 뒤 끝난 action 수
+   */
+  public long expiredActionCount() {
+    return expiredActions.sum();
+  }
+
+  private void acquireRemote(long key, LocalLease lease) {
+    final long start = System.nanoTime();
+    final long deadline = start + waitNanos;
+    long interval = TimeUnit.MICROSECONDS.toNanos(100);
+    long requestedAt = start;
+    long token;
+    while ((token = client.tryAcquire(String.valueOf(key), owner, leaseMillis)) == 0) {
+      if (System.nanoTime() - deadline >= 0) {
+        throw new BusinessException(PointErrorCode.POINT_LOCK_TIMEOUT);
+      }
+      // NOTE: 다른 서버가 보유한 lease 는 해제를 알 수 없으므로 간격을 늘려가며 다시 시도합니다.
+      LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(interval) + 1);
+      interval = Math.min(interval << 1, MAX_RETRY_INTERVAL_NANOS);
+      requestedAt = System.nanoTime();
+    }
+    lease.token = token;
+    lease.handovers = 0;
+    // NOTE: 요청을 보낸 시점부터 만료 시간을 계산하여, lock 저장소보다 먼저 만료된 것으로 판단합니다.
+    lease.expiresAtNanos = requestedAt + leaseNanos;
+  }
+
+  /**
+   * 같은 서버에서 기다리는 요청이 있으면 lease 를 해제하지 않고 넘겨줍니다.
+   *
+   * @return 넘겨준 경우 true
+   */
+  private boolean handOver(LocalLease lease) {
+    if (!localHandover || lease.references <= 1 || lease.handovers >= MAX_HANDOVERS
+        || !lease.isValidFor(leaseNanos / 2)) {
+      return false;
+    }
+    lease.handovers++;
+    return true;
+  }
+
+  private void releaseRemote(long key, LocalLease lease) {
+    if (lease.token == 0) {
+      return;
+    }
+
+    final boolean released = client.release(String.valueOf(key), owner);
+    if (!released) {
+      log.warn("point lock lease expired before release. key={}, token={}", key, lease.token);
+    }
+    lease.token = 0;
+  }
+
+  private LocalLease acquireLocal(long key) {
+    // NOTE: 참조 수는 compute 안에서만 변경되므로 별도의 동기화가 필요하지 않습니다.
+    return leases.compute(key, (k, current) -> {
+      final LocalLease lease = current == null ? new LocalLease() : current;
+      lease.references++;
+      return lease;
+    });
+  }
+
+  private void releaseLocal(long key) {
+    leases.computeIfPresent(key, (k, current) -> --current.references == 0 ? null : current);
+  }
+
+  /**
+   * 서버 안의 lock 과, 이 서버가 보유한 lease 정보 - lease 정보는 lock 을 보유한 스레드만 접근합니다.
+   */
+  private static final class LocalLease extends ReentrantLock {
+
+    private volatile int references;
+    private long token;
+    private long expiresAtNanos;
+    private int handovers;
+
+    private boolean isValidFor(long nanos) {
+      return token != 0 && expiresAtNanos - System.nanoTime() > nanos;
+    }
+  }
+}
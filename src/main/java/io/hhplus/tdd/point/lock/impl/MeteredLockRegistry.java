@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point.lock.impl;
+
+import io.hhplus.tdd.point.hotspot.HotAccountTracker;
+import io.hhplus.tdd.point.lock.LockRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * lock 획득을 기다린 시간과 lock 을 보유한 시간을 나누어 기록합니다.
+ * <p>
+ * action 이 실행되기 시작한 시각을 lock 을 획득한 시각으로 보므로 registry 구현과 관계없이 측정할 수 있으며, 보관 중인
+ * lock 개수(point.lock.live)와 획득을 기다리는 요청 수(point.lock.waiting)를 gauge 로 제공합니다. 사용자별 lock 대기
+ * 시간은 hotAccountTracker 에도 기록합니다.
+ */
+public class MeteredLockRegistry implements LockRegistry {
+
+  private final LockRegistry delegate;
+  private final Timer acquireTimer;
+  private final Timer holdTimer;
+  private final LongAdder waiting = new LongAdder();
+  private final HotAccountTracker hotAccountTracker;
+
+  public MeteredLockRegistry(LockRegistry delegate, MeterRegistry meterRegistry) {
+    this(delegate, meterRegistry, HotAccountTracker.NONE);
+  }
+
+  public MeteredLockRegistry(LockRegistry delegate, MeterRegistry meterRegistry,
+      HotAccountTracker hotAccountTracker) {
+    this.delegate = delegate;
+    this.hotAccountTracker = hotAccountTracker;
+    this.acquireTimer = timer("point.lock.acquire", "lock 획득을 기다린 시간", meterRegistry);
+    this.holdTimer = timer("point.lock.hold", "lock 을 보유한 시간", meterRegistry);
+    Gauge.builder("point.lock.live", delegate, LockRegistry::size)
+        .description("registry 가 보관 중인 lock 개수")
+        .register(meterRegistry);
+    Gauge.builder("point.lock.waiting", waiting, LongAdder::sum)
+        .description("lock 획득을 기다리는 요청 수")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public <T> T executeWithLock(long key, Supplier<T> action) {
+    final MeteredAction<T> meteredAction = new MeteredAction<>(action, key, System.nanoTime());
+    waiting.increment();
+    try {
+      return delegate.executeWithLock(key, meteredAction);
+    } finally {
+      // NOTE: 획득하지 못한 경우(timeout 등)에도 대기 중인 요청 수에서 제외합니다.
+      if (!meteredAction.acquired) {
+        waiting.decrement();
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    return delegate.size();
+  }
+
+  private static Timer timer(String name, String description, MeterRegistry meterRegistry) {
+    return Timer.builder(name)
+        .description(description)
+        .publishPercentileHistogram()
+        .minimumExpectedValue(Duration.ofNanos(10_000))
+        .maximumExpectedValue(Duration.ofSeconds(10))
+        .register(meterRegistry);
+  }
+
+  /**
+   * lock 을 획득한 뒤 실행되는 action - 실행 시작 시각으로 대기 시간을, 종료 시각으로 보유 시간을 기록합니다.
+   */
+  private final class MeteredAction<T> implements Supplier<T> {
+
+    private final Supplier<T> action;
+    private final long key;
+    private final long requestedNanos;
+    private boolean acquired;
+
+    private MeteredAction(Supplier<T> action, long key, long requestedNanos) {
+      this.action = action;
+      this.key = key;
+      this.requestedNanos = requestedNanos;
+    }
+
+    @Override
+    public T get() {
+      final long acquiredNanos = System.nanoTime();
+      if (!acquired) {
+        acquired = true;
+        waiting.decrement();
+        hotAccountTracker.lockAcquired(key, acquiredNanos - requestedNanos);
+      }
+      acquireTimer.record(acquiredNanos - requestedNanos, TimeUnit.NANOSECONDS);
+      try {
+        return action.get();
+      } finally {
+        holdTimer.record(System.nanoTime() - acquiredNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point.lock.impl;
+
+import io.hhplus.tdd.point.lock.LeaseLockClient;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import org.redisson.api.RScript;
+import org.redisson.api.RScript.Mode;
+import org.redisson.api.RScript.ReturnType;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Redis 에 lease 를 기록하는 {@link LeaseLockClient} - 획득과 fencing token 발급, 보유자 확인 후 해제를 각각 하나의
+ * script 로 수행하여 한 번의 왕복으로 처리합니다.
+ * <p>
+ * lease 는 스레드가 아닌 owner(서버) 단위로 보유하므로, 같은 서버의 다른 스레드가 이어서 사용할 수 있습니다. lease 와 fencing
+ * token 은 같은 hash tag 를 사용하여 Redis Cluster 에서도 같은 slot 에 저장됩니다.
+ */
+public class RedisLeaseLockClient implements LeaseLockClient {
+
+  private static final String ACQUIRE_SCRIPT = """
+      if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+        return redis.call('incr', KEYS[2])
+      end
+      return 0
+      """;
+  private static final String RELEASE_SCRIPT = """
+      if redis.call('get', KEYS[1]) == ARGV[1] then
+        return redis.call('del', KEYS[1])
+      end
+      return 0
+      """;
+
+  private final RedissonClient redissonClient;
+  private final RScript script;
+
+  public RedisLeaseLockClient(RedissonClient redissonClient) {
+    this.redissonClient = redissonClient;
+    this.script = redissonClient.getScript(StringCodec.INSTANCE);
+  }
+
+  @Override
+  public long tryAcquire(String key, String owner, long leaseMillis) {
+    final Long token = script.eval(Mode.READ_WRITE, ACQUIRE_SCRIPT, ReturnType.INTEGER,
+        List.<Object>of(leaseKey(key), leaseKey(key) + ":fence"), owner,
+        String.valueOf(leaseMillis));
+    return token == null ? 0 : token;
+  }
+
+  @Override
+  public boolean release(String key, String owner) {
+    final Long released = script.eval(Mode.READ_WRITE, RELEASE_SCRIPT, ReturnType.INTEGER,
+        List.<Object>of(leaseKey(key)), owner);
+    return released != null && released > 0;
+  }
+
+  @PreDestroy
+  public void close() {
+    redissonClient.shutdown();
+  }
+
+  private static String leaseKey(String key) {
+    return "{point:lock:" + key + "}";
+  }
+}
@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point.lock.impl;
+
+import io.hhplus.tdd.point.lock.LockRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * lock 을 보유하거나 대기 중인 스레드 수를 세어, 아무도 사용하지 않는 lock 은 즉시 제거합니다.
+ * <p>
+ * 메모리 사용량은 전체 사용자 수가 아닌 동시에 처리 중인 사용자 수에 비례합니다.
+ */
+public class RefCountedLockRegistry implements LockRegistry {
+
+  private final ConcurrentHashMap<Long, CountedLock> locks = new ConcurrentHashMap<>();
+
+  @Override
+  public <T> T executeWithLock(long key, Supplier<T> action) {
+    final CountedLock lock = acquire(key);
+    lock.lock();
+    try {
+      return action.get();
+    } finally {
+      lock.unlock();
+      release(key);
+    }
+  }
+
+  @Override
+  public int size() {
+    return locks.size();
+  }
+
+  private CountedLock acquire(long key) {
+    // NOTE: 참조 수는 compute 안에서만 변경되므로 별도의 동기화가 필요하지 않습니다.
+    // compute 안에서는 blocking 작업을 하지 않으므로 virtual thread 의 carrier 를 오래 점유하지 않습니다.
+    return locks.compute(key, (k, current) -> {
+      final CountedLock lock = current == null ? new CountedLock() : current;
+      lock.references++;
+      return lock;
+    });
+  }
+
+  private void release(long key) {
+    locks.computeIfPresent(key, (k, current) -> --current.references == 0 ? null : current);
+  }
+
+  private static final class CountedLock extends ReentrantLock {
+
+    private int references;
+  }
+}
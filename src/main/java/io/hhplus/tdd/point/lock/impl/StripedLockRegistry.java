@@ -0,0 +1,53 @@
+package io.hhplus.tdd.point.lock.impl;
+
+import io.hhplus.tdd.point.lock.LockRegistry;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 고정된 개수의 lock 을 사용자 ID 의 hash 로 나누어 사용합니다.
+ * <p>
+ * 메모리 사용량은 stripe 수로 고정되지만, 같은 stripe 에 속한 서로 다른 사용자는 순차 처리됩니다.
+ */
+public class StripedLockRegistry implements LockRegistry {
+
+  private static final int STRIPES_PER_CORE = 4;
+
+  private final ReentrantLock[] stripes;
+  private final int mask;
+
+  public StripedLockRegistry(int stripes) {
+    final int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+    this.stripes = new ReentrantLock[size];
+    for (int i = 0; i < size; i++) {
+      this.stripes[i] = new ReentrantLock();
+    }
+    this.mask = size - 1;
+  }
+
+  public static StripedLockRegistry ofAvailableProcessors() {
+    return new StripedLockRegistry(Runtime.getRuntime().availableProcessors() * STRIPES_PER_CORE);
+  }
+
+  @Override
+  public <T> T executeWithLock(long key, Supplier<T> action) {
+    final ReentrantLock lock = stripes[indexOf(key)];
+    lock.lock();
+    try {
+      return action.get();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    return stripes.length;
+  }
+
+  private int indexOf(long key) {
+    // NOTE: 연속된 사용자 ID 가 인접한 stripe 에 몰리지 않도록 상위 비트를 섞습니다.
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+}
@@ -0,0 +1,114 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 요청의 처리 시간을 point.operation timer(operation, outcome)로, 처리하지 않고 거절한 요청을 거절 사유별
+ * point.rejections counter(code)로 기록합니다.
+ * <p>
+ * 처리 시간은 요청 값 검증부터 비동기 처리가 끝날 때까지이며, 서비스 모드와 관계없이 같은 기준으로 측정합니다. meter 는
+ * 미리 등록해 두고 요청마다 조회하지 않습니다.
+ */
+public class PointOperationMetrics {
+
+  private final MeterRegistry meterRegistry;
+  private final Map<Operation, Timer[]> timers = new EnumMap<>(Operation.class);
+  private final ConcurrentHashMap<String, Counter> rejections = new ConcurrentHashMap<>();
+
+  public PointOperationMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    for (Operation operation : Operation.values()) {
+      final Timer[] outcomeTimers = new Timer[Outcome.values().length];
+      for (Outcome outcome : Outcome.values()) {
+        outcomeTimers[outcome.ordinal()] = Timer.builder("point.operation")
+            .description("포인트 요청 처리 시간")
+            .tag("operation", operation.name().toLowerCase())
+            .tag("outcome", outcome.name().toLowerCase())
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(100_000))
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(meterRegistry);
+      }
+      timers.put(operation, outcomeTimers);
+    }
+    // NOTE: 거절이 발생하기 전에도 0 으로 조회되도록 포인트 거절 사유를 미리 등록합니다.
+    for (PointErrorCode errorCode : PointErrorCode.values()) {
+      rejection(errorCode.getCode());
+    }
+  }
+
+  /**
+   * call 을 실행하고 반환된 작업이 끝나면 처리 시간을 기록합니다. - 반환된 작업을 그대로 반환합니다.
+   */
+  public <T> CompletableFuture<T> record(Operation operation,
+      Supplier<CompletableFuture<T>> call) {
+    final long startNanos = System.nanoTime();
+    final CompletableFuture<T> future;
+    try {
+      future = call.get();
+    } catch (RuntimeException e) {
+      record(operation, startNanos, e);
+      throw e;
+    }
+    future.whenComplete((result, throwable) -> record(operation, startNanos, throwable));
+    return future;
+  }
+
+  /**
+   * 처리 시간 기록을 시작합니다. - 반환된 작업을 완료하면 그때까지의 처리 시간을 기록합니다. 스트리밍 응답처럼 처리가
+   * 요청 스레드가 반환된 뒤에 끝나는 요청에 사용합니다.
+   */
+  public CompletableFuture<Void> start(Operation operation) {
+    final long startNanos = System.nanoTime();
+    final CompletableFuture<Void> completion = new CompletableFuture<>();
+    completion.whenComplete((result, throwable) -> record(operation, startNanos, throwable));
+    return completion;
+  }
+
+  private void record(Operation operation, long startNanos, Throwable throwable) {
+    final long elapsedNanos = System.nanoTime() - startNanos;
+    final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause() : throwable;
+    final Outcome outcome;
+    if (cause == null) {
+      outcome = Outcome.SUCCESS;
+    } else if (cause instanceof BusinessException e) {
+      outcome = Outcome.REJECTED;
+      rejection(e.getErrorCode().getCode()).increment();
+    } else {
+      outcome = Outcome.ERROR;
+    }
+    timers.get(operation)[outcome.ordinal()].record(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private Counter rejection(String code) {
+    return rejections.computeIfAbsent(code, key -> Counter.builder("point.rejections")
+        .description("거절 사유별 포인트 요청 수")
+        .tag("code", key)
+        .register(meterRegistry));
+  }
+
+  /**
+   * 처리 시간을 기록하는 요청 - CHARGE : 충전 - USE : 사용 - POINT : 잔액 조회 - HISTORIES : 내역 조회 - HISTORY_PAGE :
+   * 내역 페이지 조회 - EXPORT : 내역 전체 내려받기 - BATCH : 일괄 충전/사용
+   */
+  public enum Operation {
+    CHARGE, USE, POINT, HISTORIES, HISTORY_PAGE, EXPORT, BATCH
+  }
+
+  private enum Outcome {
+    SUCCESS, REJECTED, ERROR
+  }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import java.util.Optional;
+
+/**
+ * 잔액의 version 을 관리하여, 조회 이후 다른 요청이 먼저 갱신하지 않은 경우에만 갱신할 수 있는 저장소입니다.
+ */
+public interface OptimisticPointRepository extends PointRepository {
+
+  /**
+   * 저장된 잔액의 version 이 expected 의 version 과 같은 경우에만 updated 의 잔액으로 갱신합니다.
+   *
+   * @return version 이 1 증가한 잔액, 조회 이후 다른 요청이 먼저 갱신한 경우 empty
+   */
+  Optional<UserPoint> compareAndSet(UserPoint expected, UserPoint updated);
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.type.TransactionType;
+
+/**
+ * 사용자별 포인트 내역 조회 조건 - 내역 ID 오름차순으로 조건에 맞는 내역을 최대 limit 개까지 조회합니다.
+ *
+ * @param userId     사용자 ID
+ * @param after      이 ID 이후의 내역만 조회, null 인 경우 처음부터 조회
+ * @param fromMillis 이 시각 이후(포함)의 내역만 조회, null 인 경우 제한 없음
+ * @param toMillis   이 시각 이전(미포함)의 내역만 조회, null 인 경우 제한 없음
+ * @param type       이 거래 유형의 내역만 조회, null 인 경우 제한 없음
+ * @param limit      최대 조회 개수
+ */
+public record PointHistoryQuery(
+    long userId,
+    Long after,
+    Long fromMillis,
+    Long toMillis,
+    TransactionType type,
+    int limit
+) {
+
+  /**
+   * 조회 조건을 만족하는지 여부
+   */
+  public boolean matches(PointHistory pointHistory) {
+    return pointHistory.userId() == userId
+        && (after == null || pointHistory.id() > after)
+        && (fromMillis == null || pointHistory.updateMillis() >= fromMillis)
+        && (toMillis == null || pointHistory.updateMillis() < toMillis)
+        && (type == null || pointHistory.type() == type);
+  }
+}
@@ -9,4 +9,15 @@ public interface PointHistoryRepository {
 
   List<PointHistory> findAllByUserId(Long userId);
 
+  /**
+   * 조회 조건에 맞는 내역을 ID 오름차순으로 최대 limit 개까지 조회합니다.
+   * <p>
+   * 기본 구현은 사용자의 전체 내역을 조회한 뒤 걸러내므로, 사용자별 내역을 보관하는 구현체는 이를 재정의합니다.
+   */
+  default List<PointHistory> findAllByQuery(PointHistoryQuery query) {
+    return findAllByUserId(query.userId()).stream()
+        .filter(query::matches)
+        .limit(query.limit())
+        .toList();
+  }
 }
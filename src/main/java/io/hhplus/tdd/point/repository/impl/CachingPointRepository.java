@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointRepository;
+import java.util.Optional;
+
+/**
+ * 사용자 잔액을 메모리에 보관하여 한 번 조회된 사용자는 Table 을 거치지 않고 바로 반환합니다.
+ * <p>
+ * 잔액 갱신은 모두 이 repository 를 거치므로 Table 에 기록한 결과를 그대로 보관하며, 보관된 잔액이 항상 최신 잔액입니다.
+ * 보관할 사용자 수를 초과하면 cache 의 정책(W-TinyLFU)에 따라 사용 빈도가 낮은 사용자부터 제거되고, 다음 조회 시 Table 에서
+ * 다시 읽어옵니다.
+ */
+public class CachingPointRepository implements PointRepository {
+
+  private final PointRepository delegate;
+  private final Cache<Long, UserPoint> cache;
+
+  public CachingPointRepository(PointRepository delegate, Cache<Long, UserPoint> cache) {
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  @Override
+  public Optional<UserPoint> findById(long id) {
+    // NOTE: 같은 사용자를 동시에 조회하면 Table 조회는 한 번만 수행되고 나머지는 그 결과를 기다립니다.
+    return Optional.ofNullable(cache.get(id, key -> delegate.findById(key).orElse(null)));
+  }
+
+  @Override
+  public UserPoint update(UserPoint userPoint) {
+    final UserPoint savedUserPoint;
+    try {
+      savedUserPoint = delegate.update(userPoint);
+    } catch (RuntimeException e) {
+      // NOTE: 기록 여부를 알 수 없으므로 보관된 잔액을 제거하고 다음 조회 시 Table 에서 다시 읽습니다.
+      cache.invalidate(userPoint.id());
+      throw e;
+    }
+
+    cache.put(savedUserPoint.id(), savedUserPoint);
+    return savedUserPoint;
+  }
+}
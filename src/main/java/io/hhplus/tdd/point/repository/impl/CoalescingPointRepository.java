@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 사용자별로 아직 반영되지 않은 최신 잔액만 보관하고, 사용자당 하나의 flush 작업이 최신 잔액만 Table 에 기록합니다.
+ * <p>
+ * 한 사용자의 잔액이 연속으로 갱신되면 중간 값은 Table 에 기록되지 않고 마지막 값만 한 번 기록됩니다. 반영 전의 잔액은
+ * {@link #findById(long)} 에서 바로 반환하므로 이후 요청은 항상 최신 잔액을 기준으로 처리됩니다.
+ */
+public class CoalescingPointRepository implements PointRepository {
+
+  private static final Logger log = LoggerFactory.getLogger(CoalescingPointRepository.class);
+
+  private final PointRepository delegate;
+  private final Executor executor;
+  private final ConcurrentHashMap<Long, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+
+  public CoalescingPointRepository(PointRepository delegate, Executor executor) {
+    this.delegate = delegate;
+    this.executor = executor;
+  }
+
+  @Override
+  public Optional<UserPoint> findById(long id) {
+    final PendingWrite pendingWrite = pendingWrites.get(id);
+    if (pendingWrite != null) {
+      return Optional.of(pendingWrite.latest);
+    }
+    return delegate.findById(id);
+  }
+
+  @Override
+  public UserPoint update(UserPoint userPoint) {
+    final PendingWrite pendingWrite = pendingWrites.compute(userPoint.id(), (id, current) -> {
+      final PendingWrite target = current == null ? new PendingWrite() : current;
+      target.latest = userPoint;
+      return target;
+    });
+
+    if (pendingWrite.flushing.compareAndSet(false, true)) {
+      schedule(userPoint.id(), pendingWrite);
+    }
+
+    return userPoint;
+  }
+
+  /**
+   * 반영되지 않은 잔액을 모두 Table 에 기록합니다.
+   */
+  @PreDestroy
+  public void flush() {
+    pendingWrites.forEach((id, pendingWrite) -> {
+      if (pendingWrite.flushing.compareAndSet(false, true)) {
+        flush(id, pendingWrite);
+      }
+    });
+  }
+
+  /**
+   * 현재 Table 에 반영 대기 중인 사용자 수
+   */
+  public int pendingSize() {
+    return pendingWrites.size();
+  }
+
+  private void schedule(long id, PendingWrite pendingWrite) {
+    try {
+      executor.execute(() -> flush(id, pendingWrite));
+    } catch (RejectedExecutionException e) {
+      // NOTE: 기록하지 못한 잔액은 남겨두고 다음 갱신 또는 종료 시 다시 기록합니다.
+      log.warn("failed to schedule user point flush. userId={}", id, e);
+      pendingWrite.flushing.set(false);
+    }
+  }
+
+  private void flush(long id, PendingWrite pendingWrite) {
+    UserPoint written;
+    do {
+      written = pendingWrite.latest;
+      try {
+        delegate.update(written);
+      } catch (RuntimeException e) {
+        // NOTE: 반영에 실패한 잔액은 남겨두고 다음 갱신 시 다시 기록합니다.
+        log.warn("failed to flush user point. userId={}", id, e);
+        pendingWrite.flushing.set(false);
+        return;
+      }
+    } while (!release(id, pendingWrite, written));
+  }
+
+  /**
+   * 마지막으로 기록한 값 이후 갱신이 없으면 대기 항목을 제거합니다.
+   *
+   * @return 제거 여부 - false 인 경우 새로 갱신된 값을 다시 기록해야 합니다.
+   */
+  private boolean release(long id, PendingWrite pendingWrite, UserPoint written) {
+    final PendingWrite remaining = pendingWrites.computeIfPresent(id,
+        (k, current) -> current == pendingWrite && current.latest == written ? null : current);
+    if (remaining == pendingWrite) {
+      return false;
+    }
+
+    pendingWrite.flushing.set(false);
+    return true;
+  }
+
+  private static final class PendingWrite {
+
+    private volatile UserPoint latest;
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+  }
+}
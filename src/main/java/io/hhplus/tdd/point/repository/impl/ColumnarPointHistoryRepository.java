@@ -0,0 +1,147 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 내역을 항목별 primitive 배열(column)에 나누어 보관하는 저장소입니다.
+ * <p>
+ * 내역마다 객체를 만들지 않으므로 한 건당 long 4개와 byte 1개(33 byte)만 사용하며, {@link PointHistory} 는 조회 결과를
+ * 반환할 때만 생성합니다. 내역 ID 는 기록 순서대로 1부터 부여합니다.
+ */
+public class ColumnarPointHistoryRepository implements PointHistoryRepository {
+
+  private static final int INITIAL_CAPACITY = 1024;
+  private static final TransactionType[] TYPES = TransactionType.values();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private volatile Columns columns;
+  private volatile int size;
+
+  public ColumnarPointHistoryRepository() {
+    this(INITIAL_CAPACITY);
+  }
+
+  public ColumnarPointHistoryRepository(int initialCapacity) {
+    this.columns = new Columns(Math.max(initialCapacity, 1));
+  }
+
+  @Override
+  public PointHistory insert(PointHistory pointHistory) {
+    lock.lock();
+    try {
+      final int row = size;
+      if (row == columns.capacity()) {
+        columns = columns.grow();
+      }
+
+      final long id = row + 1L;
+      columns.set(row, id, pointHistory);
+      // NOTE: 값을 모두 기록한 뒤 개수를 늘려, 조회 시에는 기록이 끝난 내역만 읽도록 합니다.
+      size = row + 1;
+      return new PointHistory(id, pointHistory.userId(), pointHistory.amount(),
+          pointHistory.type(), pointHistory.updateMillis());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public List<PointHistory> findAllByUserId(Long userId) {
+    // NOTE: 개수를 먼저 읽어야 해당 개수까지의 내역이 모두 복사된 배열을 읽을 수 있습니다.
+    final int count = size;
+    final Columns snapshot = columns;
+
+    final List<PointHistory> result = new ArrayList<>();
+    for (int row = 0; row < count; row++) {
+      if (snapshot.userIds[row] == userId) {
+        result.add(snapshot.toPointHistory(row));
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public List<PointHistory> findAllByQuery(PointHistoryQuery query) {
+    final int count = size;
+    final Columns snapshot = columns;
+
+    final List<PointHistory> result = new ArrayList<>();
+    // NOTE: ID 는 기록 순서대로 1부터 부여되므로 cursor 이후의 첫 위치는 after 입니다.
+    int row = query.after() == null ? 0 : (int) Math.min(query.after(), count);
+    for (; row < count && result.size() < query.limit(); row++) {
+      if (snapshot.userIds[row] != query.userId()) {
+        continue;
+      }
+
+      final PointHistory pointHistory = snapshot.toPointHistory(row);
+      if (query.matches(pointHistory)) {
+        result.add(pointHistory);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 현재 보관된 내역 수
+   */
+  public int size() {
+    return size;
+  }
+
+  private static final class Columns {
+
+    private final long[] ids;
+    private final long[] userIds;
+    private final long[] amounts;
+    private final long[] updateMillis;
+    private final byte[] types;
+
+    private Columns(int capacity) {
+      this(new long[capacity], new long[capacity], new long[capacity], new long[capacity],
+          new byte[capacity]);
+    }
+
+    private Columns(long[] ids, long[] userIds, long[] amounts, long[] updateMillis,
+        byte[] types) {
+      this.ids = ids;
+      this.userIds = userIds;
+      this.amounts = amounts;
+      this.updateMillis = updateMillis;
+      this.types = types;
+    }
+
+    private int capacity() {
+      return ids.length;
+    }
+
+    /**
+     * 두 배 크기의 배열로 복사합니다. - 기존 배열은 이미 조회 중인 요청이 계속 읽을 수 있도록 그대로 둡니다.
+     */
+    private Columns grow() {
+      final int capacity = capacity() << 1;
+      return new Columns(Arrays.copyOf(ids, capacity), Arrays.copyOf(userIds, capacity),
+          Arrays.copyOf(amounts, capacity), Arrays.copyOf(updateMillis, capacity),
+          Arrays.copyOf(types, capacity));
+    }
+
+    private void set(int row, long id, PointHistory pointHistory) {
+      ids[row] = id;
+      userIds[row] = pointHistory.userId();
+      amounts[row] = pointHistory.amount();
+      updateMillis[row] = pointHistory.updateMillis();
+      types[row] = (byte) pointHistory.type().ordinal();
+    }
+
+    private PointHistory toPointHistory(int row) {
+      return new PointHistory(ids[row], userIds[row], amounts[row], TYPES[types[row]],
+          updateMillis[row]);
+    }
+  }
+}
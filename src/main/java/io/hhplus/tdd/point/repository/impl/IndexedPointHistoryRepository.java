@@ -0,0 +1,138 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Table 에 기록된 포인트 내역을 사용자별로 보관하여, 조회 시 전체 내역을 탐색하지 않고 해당 사용자의 내역만 반환합니다.
+ * <p>
+ * 내역 기록은 모두 이 repository 를 거치므로 Table 에 기록한 결과를 그대로 보관합니다. 조회 시에는 조회 시점까지 기록된
+ * 내역의 snapshot 을 반환하며, 이후 기록되는 내역은 반환된 목록에 영향을 주지 않습니다.
+ */
+public class IndexedPointHistoryRepository implements PointHistoryRepository {
+
+  private static final int INITIAL_CAPACITY = 4;
+
+  private final PointHistoryRepository delegate;
+  private final ConcurrentHashMap<Long, UserHistories> index = new ConcurrentHashMap<>();
+
+  public IndexedPointHistoryRepository(PointHistoryRepository delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public PointHistory insert(PointHistory pointHistory) {
+    final UserHistories userHistories = index.computeIfAbsent(pointHistory.userId(),
+        k -> new UserHistories());
+
+    // NOTE: 같은 사용자의 내역이 Table 에 기록된 순서대로 보관되도록 기록과 보관을 함께 잠급니다.
+    userHistories.lock.lock();
+    try {
+      final PointHistory savedPointHistory = delegate.insert(pointHistory);
+      userHistories.append(savedPointHistory);
+      return savedPointHistory;
+    } finally {
+      userHistories.lock.unlock();
+    }
+  }
+
+  @Override
+  public List<PointHistory> findAllByUserId(Long userId) {
+    final UserHistories userHistories = index.get(userId);
+    if (userHistories == null) {
+      return List.of();
+    }
+    return userHistories.snapshot().toList();
+  }
+
+  @Override
+  public List<PointHistory> findAllByQuery(PointHistoryQuery query) {
+    final UserHistories userHistories = index.get(query.userId());
+    if (userHistories == null) {
+      return List.of();
+    }
+    return userHistories.snapshot().find(query);
+  }
+
+  /**
+   * 현재 내역이 보관된 사용자 수
+   */
+  public int size() {
+    return index.size();
+  }
+
+  private static final class UserHistories {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Snapshot snapshot = new Snapshot(new PointHistory[INITIAL_CAPACITY], 0);
+
+    private Snapshot snapshot() {
+      return snapshot;
+    }
+
+    /**
+     * 배열의 남은 공간에 내역을 추가한 뒤 늘어난 개수로 snapshot 을 교체합니다. - 공간이 부족하면 두 배 크기의 배열로
+     * 복사합니다.
+     */
+    private void append(PointHistory pointHistory) {
+      final Snapshot current = snapshot;
+      final PointHistory[] rows = current.size() < current.rows().length ? current.rows()
+          : Arrays.copyOf(current.rows(), current.rows().length << 1);
+      // NOTE: 기존 snapshot 은 자신의 개수까지만 읽으므로 그 뒤의 칸에 기록해도 영향을 받지 않습니다.
+      rows[current.size()] = pointHistory;
+      snapshot = new Snapshot(rows, current.size() + 1);
+    }
+  }
+
+  private record Snapshot(
+      PointHistory[] rows,
+      int size
+  ) {
+
+    private List<PointHistory> toList() {
+      return Collections.unmodifiableList(Arrays.asList(rows).subList(0, size));
+    }
+
+    /**
+     * cursor 이후의 첫 위치를 이진 탐색으로 찾은 뒤, 조건에 맞는 내역을 limit 개까지 순서대로 모읍니다.
+     */
+    private List<PointHistory> find(PointHistoryQuery query) {
+      final List<PointHistory> result = new ArrayList<>(Math.min(query.limit(), size));
+      for (int i = firstIndexAfter(query.after()); i < size && result.size() < query.limit();
+          i++) {
+        if (query.matches(rows[i])) {
+          result.add(rows[i]);
+        }
+      }
+      return result;
+    }
+
+    /**
+     * ID 가 after 보다 큰 첫 내역의 위치 - 내역은 Table 에 기록된 순서, 즉 ID 오름차순으로 보관됩니다.
+     */
+    private int firstIndexAfter(Long after) {
+      if (after == null) {
+        return 0;
+      }
+
+      int low = 0;
+      int high = size;
+      while (low < high) {
+        final int mid = (low + high) >>> 1;
+        if (rows[mid].id() <= after) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+  }
+}
@@ -0,0 +1,313 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.type.TransactionType;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 내역을 고정 길이 binary record 로 memory-mapped segment 파일에 순서대로 추가하는 저장소입니다.
+ * <p>
+ * 내역은 heap 이 아닌 파일에 보관되므로 재시작 후에도 유지되며, 조회 시 mapped 영역에서 필요한 record 만 바로 읽습니다.
+ * 같은 사용자의 record 는 다음 record 의 위치로 서로 연결되어 있고, heap 에는 사용자별로 일정 간격마다 record 위치만
+ * 보관하여 cursor 위치를 빠르게 찾습니다. segment 가 가득 차면 다음 segment 파일을 만들어 이어서 기록합니다.
+ * <p>
+ * record 구조 (48 byte) - id(8) userId(8) amount(8) updateMillis(8) next(8) type(1) padding(7)
+ */
+public class MappedPointHistoryRepository implements PointHistoryRepository {
+
+  static final int RECORD_SIZE = 48;
+
+  private static final int ID = 0;
+  private static final int USER_ID = 8;
+  private static final int AMOUNT = 16;
+  private static final int UPDATE_MILLIS = 24;
+  private static final int NEXT = 32;
+  private static final int TYPE = 40;
+
+  /**
+   * 사용자별로 record 위치를 보관하는 간격
+   */
+  private static final int SAMPLE_INTERVAL = 64;
+  private static final TransactionType[] TYPES = TransactionType.values();
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".dat";
+
+  private final Path directory;
+  private final long recordsPerSegment;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final List<FileChannel> channels = new ArrayList<>();
+  private final ConcurrentHashMap<Long, UserChain> chains = new ConcurrentHashMap<>();
+  private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+  private volatile long size;
+  private volatile boolean closed;
+
+  /**
+   * @param directory   segment 파일을 보관할 디렉터리 - 기존 segment 가 있으면 이어서 사용합니다.
+   * @param segmentSize segment 파일 하나의 최대 크기 (byte)
+   */
+  public MappedPointHistoryRepository(Path directory, long segmentSize) {
+    if (segmentSize < RECORD_SIZE || segmentSize / RECORD_SIZE * RECORD_SIZE > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("invalid segment size: " + segmentSize);
+    }
+
+    this.directory = directory;
+    this.recordsPerSegment = segmentSize / RECORD_SIZE;
+    try {
+      Files.createDirectories(directory);
+      recover();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public PointHistory insert(PointHistory pointHistory) {
+    lock.lock();
+    try {
+      if (closed) {
+        throw new IllegalStateException("point history store is closed");
+      }
+
+      final long row = size;
+      final long id = row + 1;
+      final MappedByteBuffer segment = segmentForWrite(row);
+      final int offset = offset(row);
+      segment.putLong(offset + USER_ID, pointHistory.userId());
+      segment.putLong(offset + AMOUNT, pointHistory.amount());
+      segment.putLong(offset + UPDATE_MILLIS, pointHistory.updateMillis());
+      segment.putLong(offset + NEXT, 0);
+      segment.put(offset + TYPE, (byte) pointHistory.type().ordinal());
+      // NOTE: id 를 마지막에 기록하여, 복구 시 id 가 기록된 record 만 완전한 record 로 판단합니다.
+      segment.putLong(offset + ID, id);
+
+      final UserChain chain = chains.computeIfAbsent(pointHistory.userId(), k -> new UserChain());
+      if (chain.count > 0) {
+        final long last = chain.last;
+        segment(last).putLong(offset(last) + NEXT, row + 1);
+      }
+      chain.append(row);
+      size = row + 1;
+
+      return new PointHistory(id, pointHistory.userId(), pointHistory.amount(),
+          pointHistory.type(), pointHistory.updateMillis());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public List<PointHistory> findAllByUserId(Long userId) {
+    return findAllByQuery(new PointHistoryQuery(userId, null, null, null, null,
+        Integer.MAX_VALUE));
+  }
+
+  @Override
+  public List<PointHistory> findAllByQuery(PointHistoryQuery query) {
+    final UserChain chain = chains.get(query.userId());
+    if (chain == null) {
+      return List.of();
+    }
+
+    // NOTE: 개수를 먼저 읽어, 해당 개수까지는 record 와 연결이 모두 기록된 상태에서 읽습니다.
+    final long count = chain.count;
+    final long[] samples = chain.samples;
+    long position = 0;
+    long row = samples[0];
+    if (query.after() != null) {
+      final int sample = lastSampleAtOrBefore(samples, (count + SAMPLE_INTERVAL - 1)
+          / SAMPLE_INTERVAL, query.after() - 1);
+      if (sample >= 0) {
+        position = (long) sample * SAMPLE_INTERVAL;
+        row = samples[sample];
+      }
+    }
+
+    final List<PointHistory> result = new ArrayList<>();
+    while (position < count && result.size() < query.limit()) {
+      final PointHistory pointHistory = read(row);
+      if (query.matches(pointHistory)) {
+        result.add(pointHistory);
+      }
+
+      position++;
+      row = segment(row).getLong(offset(row) + NEXT) - 1;
+    }
+    return result;
+  }
+
+  /**
+   * 현재 보관된 내역 수
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * mapped 영역의 변경 사항을 파일에 반영하고 segment 파일을 닫습니다.
+   */
+  @PreDestroy
+  public void close() throws IOException {
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+
+      for (MappedByteBuffer segment : segments) {
+        segment.force();
+      }
+      for (FileChannel channel : channels) {
+        channel.close();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 기존 segment 를 순서대로 읽어 id 가 연속된 record 까지를 유효한 내역으로 보고 사용자별 연결을 다시 만듭니다.
+   */
+  private void recover() throws IOException {
+    final List<Path> files;
+    try (var stream = Files.list(directory)) {
+      files = stream
+          .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+          .sorted()
+          .toList();
+    }
+    for (Path file : files) {
+      map(file);
+    }
+
+    final long capacity = segments.length * recordsPerSegment;
+    long row = 0;
+    while (row < capacity && segment(row).getLong(offset(row) + ID) == row + 1) {
+      final UserChain chain = chains.computeIfAbsent(
+          segment(row).getLong(offset(row) + USER_ID), k -> new UserChain());
+      // NOTE: 파일에 남은 연결은 신뢰하지 않고, 유효한 record 만으로 사용자별 연결을 다시 맞춥니다.
+      if (chain.count > 0) {
+        link(chain.last, row + 1);
+      }
+      chain.append(row);
+      row++;
+    }
+    size = row;
+    chains.values().forEach(chain -> link(chain.last, 0));
+
+    // NOTE: 중간에 끊긴 record 뒤에 남은 이전 record 가 이후 복구 시 유효한 record 로 읽히지 않도록 지웁니다.
+    for (long stale = row; stale < capacity; stale++) {
+      if (segment(stale).getLong(offset(stale) + ID) != 0) {
+        segment(stale).putLong(offset(stale) + ID, 0);
+      }
+    }
+  }
+
+  /**
+   * 다음 record 위치가 다른 경우에만 기록하여, 복구 시 변경되지 않은 영역은 파일에 다시 쓰지 않도록 합니다.
+   */
+  private void link(long row, long next) {
+    final MappedByteBuffer segment = segment(row);
+    if (segment.getLong(offset(row) + NEXT) != next) {
+      segment.putLong(offset(row) + NEXT, next);
+    }
+  }
+
+  private PointHistory read(long row) {
+    final MappedByteBuffer segment = segment(row);
+    final int offset = offset(row);
+    return new PointHistory(segment.getLong(offset + ID), segment.getLong(offset + USER_ID),
+        segment.getLong(offset + AMOUNT), TYPES[segment.get(offset + TYPE)],
+        segment.getLong(offset + UPDATE_MILLIS));
+  }
+
+  private MappedByteBuffer segmentForWrite(long row) {
+    final int index = (int) (row / recordsPerSegment);
+    if (index == segments.length) {
+      try {
+        map(directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX)));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return segments[index];
+  }
+
+  private void map(Path file) throws IOException {
+    final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    channels.add(channel);
+    final MappedByteBuffer segment = channel.map(MapMode.READ_WRITE, 0,
+        recordsPerSegment * RECORD_SIZE);
+    final MappedByteBuffer[] current = segments;
+    final MappedByteBuffer[] next = Arrays.copyOf(current, current.length + 1);
+    next[current.length] = segment;
+    segments = next;
+  }
+
+  private MappedByteBuffer segment(long row) {
+    return segments[(int) (row / recordsPerSegment)];
+  }
+
+  private int offset(long row) {
+    return (int) (row % recordsPerSegment) * RECORD_SIZE;
+  }
+
+  /**
+   * 보관된 위치 중 row 이하인 마지막 위치의 순번 - 사용자의 record 는 기록 순서, 즉 row 오름차순으로 연결됩니다.
+   *
+   * @return 없으면 -1
+   */
+  private static int lastSampleAtOrBefore(long[] samples, long sampleCount, long row) {
+    int low = 0;
+    int high = (int) Math.min(sampleCount, samples.length) - 1;
+    int found = -1;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      if (samples[mid] <= row) {
+        found = mid;
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return found;
+  }
+
+  /**
+   * 사용자별 record 연결 정보 - 기록은 저장소 lock 안에서만 수행됩니다.
+   */
+  private static final class UserChain {
+
+    private volatile long[] samples = new long[1];
+    private volatile long count;
+    private long last;
+
+    private void append(long row) {
+      if (count % SAMPLE_INTERVAL == 0) {
+        final int sample = (int) (count / SAMPLE_INTERVAL);
+        if (sample == samples.length) {
+          samples = Arrays.copyOf(samples, samples.length << 1);
+        }
+        samples[sample] = row;
+      }
+      last = row;
+      count = count + 1;
+    }
+  }
+}
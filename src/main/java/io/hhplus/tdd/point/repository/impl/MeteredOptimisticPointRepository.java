@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.OptimisticPointRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * version 을 비교하는 잔액 저장소의 호출별 소요 시간을 point.repository timer(repository=point, method=...)로
+ * 기록합니다.
+ */
+public class MeteredOptimisticPointRepository extends MeteredPointRepository implements
+    OptimisticPointRepository {
+
+  private final OptimisticPointRepository delegate;
+  private final Timer compareAndSetTimer;
+
+  public MeteredOptimisticPointRepository(OptimisticPointRepository delegate,
+      MeterRegistry meterRegistry) {
+    super(delegate, meterRegistry);
+    this.delegate = delegate;
+    this.compareAndSetTimer = timer("point", "compareAndSet", meterRegistry);
+  }
+
+  @Override
+  public Optional<UserPoint> compareAndSet(UserPoint expected, UserPoint updated) {
+    final long startNanos = System.nanoTime();
+    try {
+      return delegate.compareAndSet(expected, updated);
+    } finally {
+      compareAndSetTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}
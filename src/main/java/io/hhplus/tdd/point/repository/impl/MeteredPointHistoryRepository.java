@@ -0,0 +1,60 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내역 저장소의 호출별 소요 시간을 point.repository timer(repository=history, method=...)로 기록합니다.
+ */
+public class MeteredPointHistoryRepository implements PointHistoryRepository {
+
+  private final PointHistoryRepository delegate;
+  private final Timer insertTimer;
+  private final Timer findAllByUserIdTimer;
+  private final Timer findAllByQueryTimer;
+
+  public MeteredPointHistoryRepository(PointHistoryRepository delegate,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.insertTimer = MeteredPointRepository.timer("history", "insert", meterRegistry);
+    this.findAllByUserIdTimer =
+        MeteredPointRepository.timer("history", "findAllByUserId", meterRegistry);
+    this.findAllByQueryTimer =
+        MeteredPointRepository.timer("history", "findAllByQuery", meterRegistry);
+  }
+
+  @Override
+  public PointHistory insert(PointHistory pointHistory) {
+    final long startNanos = System.nanoTime();
+    try {
+      return delegate.insert(pointHistory);
+    } finally {
+      insertTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public List<PointHistory> findAllByUserId(Long userId) {
+    final long startNanos = System.nanoTime();
+    try {
+      return delegate.findAllByUserId(userId);
+    } finally {
+      findAllByUserIdTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public List<PointHistory> findAllByQuery(PointHistoryQuery query) {
+    final long startNanos = System.nanoTime();
+    try {
+      return delegate.findAllByQuery(query);
+    } finally {
+      findAllByQueryTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}
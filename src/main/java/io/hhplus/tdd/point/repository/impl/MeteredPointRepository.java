@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 저장소의 호출별 소요 시간을 point.repository timer(repository=point, method=...)로 기록합니다.
+ */
+public class MeteredPointRepository implements PointRepository {
+
+  private final PointRepository delegate;
+  private final Timer findByIdTimer;
+  private final Timer updateTimer;
+
+  public MeteredPointRepository(PointRepository delegate, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.findByIdTimer = timer("point", "findById", meterRegistry);
+    this.updateTimer = timer("point", "update", meterRegistry);
+  }
+
+  @Override
+  public Optional<UserPoint> findById(long id) {
+    final long startNanos = System.nanoTime();
+    try {
+      return delegate.findById(id);
+    } finally {
+      findByIdTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public UserPoint update(UserPoint userPoint) {
+    final long startNanos = System.nanoTime();
+    try {
+      return delegate.update(userPoint);
+    } finally {
+      updateTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  static Timer timer(String repository, String method, MeterRegistry meterRegistry) {
+    return Timer.builder("point.repository")
+        .description("저장소 호출 소요 시간")
+        .tag("repository", repository)
+        .tag("method", method)
+        .publishPercentileHistogram()
+        .minimumExpectedValue(Duration.ofNanos(10_000))
+        .maximumExpectedValue(Duration.ofSeconds(10))
+        .register(meterRegistry);
+  }
+}
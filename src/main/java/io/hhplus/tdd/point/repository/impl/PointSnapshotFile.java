@@ -0,0 +1,183 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+
+/**
+ * 특정 시점의 사용자 잔액을 모아 기록한 snapshot 파일을 쓰고 읽습니다.
+ * <p>
+ * record 를 일정 개수(chunk)마다 나누어 checksum 을 기록하므로, 읽을 때는 chunk 별로 나누어 동시에 읽고 검증합니다.
+ * <p>
+ * 파일 구조 - header(32) : magic(4) generation(8) count(8) chunkRecords(4) crc32c(4) padding(4) - body :
+ * record(24) * count - userId(8) point(8) updateMillis(8) - trailer : chunk 별 crc32c(4)
+ */
+final class PointSnapshotFile {
+
+  static final int HEADER_SIZE = 32;
+  static final int RECORD_SIZE = 24;
+
+  private static final int MAGIC = 0x50534E50;
+  private static final int CHUNK_RECORDS = 64 * 1024;
+  private static final int HEADER_PAYLOAD_SIZE = 24;
+
+  private PointSnapshotFile() {
+  }
+
+  /**
+   * snapshot 에서 읽은 잔액을 받습니다. - 여러 스레드에서 동시에 호출됩니다.
+   */
+  @FunctionalInterface
+  interface Sink {
+
+    void accept(long userId, long point, long updateMillis);
+  }
+
+  /**
+   * 잔액을 순서대로 기록한 뒤 fsync 합니다. - 기록 중에 잔액이 변경되어도 되며, 기록 시점에 읽은 값을 기록합니다.
+   *
+   * @param generation snapshot 에 반영된 마지막 log 순번
+   * @return 기록한 잔액 수
+   */
+  static long write(Path path, long generation, Iterator<UserPoint> userPoints)
+      throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_RECORDS * RECORD_SIZE);
+      final CRC32C crc = new CRC32C();
+      final IntArray checksums = new IntArray();
+      long count = 0;
+      long position = HEADER_SIZE;
+      while (userPoints.hasNext()) {
+        final UserPoint userPoint = userPoints.next();
+        chunk.putLong(userPoint.id());
+        chunk.putLong(userPoint.point());
+        chunk.putLong(userPoint.updateMillis());
+        count++;
+        if (!chunk.hasRemaining()) {
+          position += writeChunk(channel, chunk, position, crc, checksums);
+        }
+      }
+      if (chunk.position() > 0) {
+        position += writeChunk(channel, chunk, position, crc, checksums);
+      }
+
+      final ByteBuffer trailer = ByteBuffer.allocate(checksums.size * Integer.BYTES);
+      for (int i = 0; i < checksums.size; i++) {
+        trailer.putInt(checksums.values[i]);
+      }
+      writeFully(channel, trailer.flip(), position);
+
+      final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      header.putInt(MAGIC).putLong(generation).putLong(count).putInt(CHUNK_RECORDS);
+      crc.reset();
+      crc.update(header.slice(0, HEADER_PAYLOAD_SIZE));
+      header.putInt((int) crc.getValue());
+      writeFully(channel, header.clear(), 0);
+      channel.force(true);
+      return count;
+    }
+  }
+
+  /**
+   * chunk 별로 나누어 동시에 읽고 검증한 잔액을 전달합니다.
+   *
+   * @return snapshot 에 반영된 마지막 log 순번
+   * @throws IllegalStateException checksum 이 맞지 않는 경우
+   */
+  static long read(Path path, Sink sink) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      readFully(channel, header, 0);
+      header.flip();
+      final CRC32C crc = new CRC32C();
+      crc.update(header.slice(0, HEADER_PAYLOAD_SIZE));
+      final int magic = header.getInt();
+      final long generation = header.getLong();
+      final long count = header.getLong();
+      final int chunkRecords = header.getInt();
+      if (magic != MAGIC || (int) crc.getValue() != header.getInt()) {
+        throw new IllegalStateException("corrupted point snapshot header: " + path);
+      }
+
+      final int chunks = (int) ((count + chunkRecords - 1) / chunkRecords);
+      final ByteBuffer trailer = ByteBuffer.allocate(chunks * Integer.BYTES);
+      readFully(channel, trailer, HEADER_SIZE + count * RECORD_SIZE);
+      trailer.flip();
+
+      // NOTE: FileChannel 의 위치 지정 읽기는 여러 스레드에서 동시에 호출할 수 있습니다.
+      IntStream.range(0, chunks).parallel().forEach(index -> {
+        final long first = (long) index * chunkRecords;
+        final int records = (int) Math.min(chunkRecords, count - first);
+        final ByteBuffer chunk = ByteBuffer.allocate(records * RECORD_SIZE);
+        try {
+          readFully(channel, chunk, HEADER_SIZE + first * RECORD_SIZE);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+
+        final CRC32C chunkCrc = new CRC32C();
+        chunkCrc.update(chunk.flip());
+        if ((int) chunkCrc.getValue() != trailer.getInt(index * Integer.BYTES)) {
+          throw new IllegalStateException("corrupted point snapshot chunk: " + path + "#" + index);
+        }
+        chunk.flip();
+        for (int i = 0; i < records; i++) {
+          sink.accept(chunk.getLong(), chunk.getLong(), chunk.getLong());
+        }
+      });
+      return generation;
+    }
+  }
+
+  private static int writeChunk(FileChannel channel, ByteBuffer chunk, long position,
+      CRC32C crc, IntArray checksums) throws IOException {
+    chunk.flip();
+    crc.reset();
+    crc.update(chunk.duplicate());
+    checksums.add((int) crc.getValue());
+    final int length = chunk.remaining();
+    writeFully(channel, chunk, position);
+    chunk.clear();
+    return length;
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new IllegalStateException("truncated point snapshot");
+      }
+      position += read;
+    }
+  }
+
+  private static final class IntArray {
+
+    private int[] values = new int[64];
+    private int size;
+
+    private void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size << 1);
+      }
+      values[size++] = value;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.OptimisticPointRepository;
+import io.hhplus.tdd.point.repository.PointRepository;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 최신 잔액과 version 을 메모리에 보관하고, version 을 비교하여 잔액을 갱신(compare-and-set)합니다.
+ * <p>
+ * Table 은 version 을 보관하지 않으므로 한 번 조회된 사용자의 잔액은 이 repository 가 보관한 값이 최신 잔액입니다. 조회는
+ * lock 없이 수행하며, 갱신은 사용자별로 Table 에 먼저 기록한 뒤 보관한 잔액을 교체하므로 Table 기록에 실패한 잔액은 조회되지
+ * 않습니다. 조회한 version 이 이미 바뀐 경우에는 기록 중인 요청을 기다리지 않고 실패합니다.
+ */
+public class VersionedPointRepository implements OptimisticPointRepository {
+
+  private final PointRepository delegate;
+  private final ConcurrentHashMap<Long, Cell> cells = new ConcurrentHashMap<>();
+
+  public VersionedPointRepository(PointRepository delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Optional<UserPoint> findById(long id) {
+    final Cell cell = cells.get(id);
+    if (cell != null) {
+      return Optional.of(cell.current);
+    }
+    return load(id).map(loaded -> loaded.current);
+  }
+
+  @Override
+  public UserPoint update(UserPoint userPoint) {
+    final Cell cell = cellOf(userPoint.id());
+    cell.writeLock.lock();
+    try {
+      return write(cell, next(cell.current, userPoint));
+    } finally {
+      cell.writeLock.unlock();
+    }
+  }
+
+  @Override
+  public Optional<UserPoint> compareAndSet(UserPoint expected, UserPoint updated) {
+    final Cell cell = cellOf(expected.id());
+    if (cell.current.version() != expected.version()) {
+      return Optional.empty();
+    }
+    // NOTE: 기록 중인 요청이 있다면 해당 기록이 끝난 뒤 version 을 다시 비교합니다.
+    cell.writeLock.lock();
+    try {
+      final UserPoint current = cell.current;
+      if (current.version() != expected.version()) {
+        return Optional.empty();
+      }
+      return Optional.of(write(cell, next(current, updated)));
+    } finally {
+      cell.writeLock.unlock();
+    }
+  }
+
+  /**
+   * 현재 잔액을 보관 중인 사용자 수
+   */
+  public int size() {
+    return cells.size();
+  }
+
+  private Cell cellOf(long id) {
+    final Cell cell = cells.get(id);
+    if (cell != null) {
+      return cell;
+    }
+    return load(id).orElseGet(() -> cells.computeIfAbsent(id, k -> new Cell(UserPoint.empty(k))));
+  }
+
+  /**
+   * Table 에서 잔액을 읽어 보관합니다. - 읽는 동안 다른 요청이 먼저 보관한 경우 해당 잔액을 사용합니다.
+   */
+  private Optional<Cell> load(long id) {
+    // NOTE: Table 조회는 compute 밖에서 수행하여 같은 bin 의 다른 사용자 갱신을 막지 않습니다.
+    return delegate.findById(id)
+        .map(userPoint -> cells.computeIfAbsent(id, k -> new Cell(userPoint)));
+  }
+
+  /**
+   * 사용자의 writeLock 을 획득한 상태에서 Table 에 기록한 뒤 보관한 잔액을 교체합니다. - 기록에 실패하면 교체하지 않습니다.
+   */
+  private UserPoint write(Cell cell, UserPoint next) {
+    delegate.update(next);
+    cell.current = next;
+    return next;
+  }
+
+  private static UserPoint next(UserPoint current, UserPoint updated) {
+    return new UserPoint(current.id(), updated.point(), updated.updateMillis(),
+        current.version() + 1);
+  }
+
+  private static final class Cell {
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile UserPoint current;
+
+    private Cell(UserPoint current) {
+      this.current = current;
+    }
+  }
+}
@@ -0,0 +1,471 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 잔액 갱신을 Table 에 반영하기 전에 write-ahead log 파일에 기록하고, 시작 시 log 를 다시 읽어 잔액을 복구합니다.
+ * <p>
+ * log 는 고정 길이 binary record 를 순서대로 추가하며, record 마다 checksum 을 기록하여 중간에 끊긴 record 를 찾습니다.
+ * GROUP_COMMIT 인 경우 fsync 중에 쌓인 record 를 다음 fsync 한 번으로 함께 기록하여 동시에 갱신하는 요청이 fsync 를
+ * 나누어 사용합니다.
+ * <p>
+ * snapshot 주기가 지정된 경우 background 스레드가 주기적으로 log 를 교체한 뒤 전체 잔액을 snapshot 파일에 기록하고,
+ * snapshot 에 반영된 이전 log 를 삭제합니다. snapshot 은 잔액을 기록하는 동안에도 갱신을 막지 않으므로(fuzzy checkpoint)
+ * 기록 중 변경된 잔액은 snapshot 에 포함되거나 포함되지 않을 수 있지만, 해당 갱신은 교체된 새 log 에 남아 있어 복구 시
+ * 다시 반영됩니다. 시작 시에는 최근 snapshot 을 읽은 뒤 그 이후의 log 만 다시 읽습니다.
+ * <p>
+ * record 구조 (28 byte) - userId(8) point(8) updateMillis(8) crc32c(4)
+ * <p>
+ * 파일 구성 - {path} : 기록 중인 log - {path}.{순번} : 교체된 log - {path}.snapshot : 최근 snapshot
+ */
+public class WalPointRepository implements PointRepository {
+
+  private static final Logger log = LoggerFactory.getLogger(WalPointRepository.class);
+
+  static final int RECORD_SIZE = 28;
+
+  private static final int PAYLOAD_SIZE = 24;
+  private static final int INITIAL_BUFFER_SIZE = RECORD_SIZE * 1024;
+  private static final String SNAPSHOT_SUFFIX = ".snapshot";
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+
+  /**
+   * fsync 방식 - PER_OPERATION : 갱신마다 fsync - GROUP_COMMIT : 대기 중인 갱신을 모아 한 번에 fsync
+   */
+  public enum SyncMode {
+    PER_OPERATION, GROUP_COMMIT
+  }
+
+  private final PointRepository delegate;
+  private final SyncMode syncMode;
+  private final Path path;
+  private final Pattern archivePattern;
+  private final ScheduledExecutorService snapshotter;
+  private final ConcurrentHashMap<Long, UserPoint> balances = new ConcurrentHashMap<>();
+
+  private final ReentrantLock appendLock = new ReentrantLock();
+  private final ReentrantLock syncLock = new ReentrantLock();
+  private final ReentrantLock checkpointLock = new ReentrantLock();
+  private FileChannel channel;
+  private long nextGeneration = 1;
+  private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+  private ByteBuffer syncing = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+  private long appended;
+  private volatile long durable;
+  private volatile long syncs;
+
+  /**
+   * @param path log 파일 경로 - 파일이 있으면 기록된 잔액을 복구한 뒤 이어서 기록합니다.
+   */
+  public WalPointRepository(PointRepository delegate, Path path, SyncMode syncMode) {
+    this(delegate, path, syncMode, Duration.ZERO);
+  }
+
+  /**
+   * @param snapshotInterval snapshot 기록 주기 - 0 이하인 경우 주기적으로 기록하지 않습니다.
+   */
+  public WalPointRepository(PointRepository delegate, Path path, SyncMode syncMode,
+      Duration snapshotInterval) {
+    this.delegate = delegate;
+    this.syncMode = syncMode;
+    this.path = path.toAbsolutePath();
+    this.archivePattern = Pattern.compile(Pattern.quote(this.path.getFileName() + ".")
+        + "(\\d+)");
+    try {
+      Files.createDirectories(this.path.getParent());
+      recover();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    if (!snapshotInterval.isNegative() && !snapshotInterval.isZero()) {
+      this.snapshotter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "point-wal-snapshot");
+        thread.setDaemon(true);
+        return thread;
+      });
+      final long intervalMillis = snapshotInterval.toMillis();
+      snapshotter.scheduleWithFixedDelay(this::checkpointQuietly, intervalMillis, intervalMillis,
+          TimeUnit.MILLISECONDS);
+    } else {
+      this.snapshotter = null;
+    }
+  }
+
+  @Override
+  public Optional<UserPoint> findById(long id) {
+    final UserPoint userPoint = balances.get(id);
+    if (userPoint != null) {
+      return Optional.of(userPoint);
+    }
+    return delegate.findById(id);
+  }
+
+  @Override
+  public UserPoint update(UserPoint userPoint) {
+    if (syncMode == SyncMode.PER_OPERATION) {
+      appendAndSync(userPoint);
+    } else {
+      awaitDurable(append(userPoint));
+    }
+
+    // NOTE: log 에 기록된 잔액은 이미 반영되었으므로, Table 반영에 실패하더라도 재시작 시 복구되는 잔액과 같습니다.
+    return delegate.update(userPoint);
+  }
+
+  /**
+   * 기록 중인 log 를 교체한 뒤 전체 잔액을 snapshot 으로 기록하고, snapshot 에 반영된 이전 log 를 삭제합니다.
+   *
+   * @return snapshot 을 기록했는지 여부 - 마지막 snapshot 이후 기록된 갱신이 없으면 기록하지 않습니다.
+   */
+  public boolean checkpoint() throws IOException {
+    checkpointLock.lock();
+    try {
+      final long startNanos = System.nanoTime();
+      final long generation = rotate();
+      if (generation == 0) {
+        return false;
+      }
+
+      // NOTE: log 를 교체하기 전의 갱신은 모두 잔액에 반영되어 있으며, 이후의 갱신은 포함 여부와 관계없이 새 log 로
+      // 다시 반영되므로 잔액을 읽는 동안 갱신을 막지 않습니다.
+      final Path snapshot = snapshotPath();
+      final Path temporary = snapshot.resolveSibling(snapshot.getFileName() + TEMPORARY_SUFFIX);
+      final long count = PointSnapshotFile.write(temporary, generation,
+          balances.values().iterator());
+      // NOTE: snapshot 에 포함된 잔액 중 아직 fsync 되지 않은 갱신이 없도록 한 뒤 snapshot 을 교체합니다.
+      flush();
+      Files.move(temporary, snapshot, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+      syncDirectory();
+
+      for (Path archive : archives()) {
+        if (generation(archive) <= generation) {
+          Files.deleteIfExists(archive);
+        }
+      }
+      log.info("point wal checkpoint. generation={}, users={}, elapsed={}ms", generation, count,
+          (System.nanoTime() - startNanos) / 1_000_000);
+      return true;
+    } finally {
+      checkpointLock.unlock();
+    }
+  }
+
+  /**
+   * 복구되었거나 갱신된 사용자 수
+   */
+  public int size() {
+    return balances.size();
+  }
+
+  /**
+   * 지금까지 수행한 fsync 횟수
+   */
+  public long syncCount() {
+    return syncs;
+  }
+
+  /**
+   * 기록 대기 중인 record 를 모두 fsync 한 뒤 log 파일을 닫습니다.
+   */
+  @PreDestroy
+  public void close() throws IOException {
+    if (snapshotter != null) {
+      // NOTE: 기록 중인 snapshot 이 interrupt 로 중단되지 않도록 끝날 때까지 기다립니다.
+      snapshotter.shutdown();
+      try {
+        snapshotter.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    syncLock.lock();
+    try {
+      if (!channel.isOpen()) {
+        return;
+      }
+      sync();
+      channel.close();
+    } finally {
+      syncLock.unlock();
+    }
+  }
+
+  /**
+   * 최근 snapshot 을 읽은 뒤, snapshot 이후에 교체된 log 와 기록 중인 log 를 순서대로 다시 읽어 사용자별 마지막 잔액을
+   * 복구합니다.
+   */
+  private void recover() throws IOException {
+    final long startNanos = System.nanoTime();
+    long covered = 0;
+    final Path snapshot = snapshotPath();
+    if (Files.exists(snapshot)) {
+      covered = PointSnapshotFile.read(snapshot, this::restore);
+    }
+    nextGeneration = covered + 1;
+
+    long records = 0;
+    for (Path archive : archives()) {
+      final long generation = generation(archive);
+      if (generation <= covered) {
+        // NOTE: snapshot 교체 후 삭제되지 않은 log 입니다.
+        Files.deleteIfExists(archive);
+        continue;
+      }
+      try (FileChannel archived = FileChannel.open(archive, StandardOpenOption.READ)) {
+        records += replay(archived, this::restore) / RECORD_SIZE;
+      }
+      nextGeneration = Math.max(nextGeneration, generation + 1);
+    }
+
+    channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    final long valid = replay(channel, this::restore);
+    if (channel.size() > valid) {
+      log.warn("truncating incomplete point wal records. valid={}, size={}", valid,
+          channel.size());
+      channel.truncate(valid);
+    }
+    channel.position(valid);
+    records += valid / RECORD_SIZE;
+    log.info("recovered point wal. snapshotGeneration={}, records={}, users={}, elapsed={}ms",
+        covered, records, balances.size(), (System.nanoTime() - startNanos) / 1_000_000);
+  }
+
+  private void restore(long userId, long point, long updateMillis) {
+    balances.put(userId, new UserPoint(userId, point, updateMillis));
+  }
+
+  /**
+   * log 를 처음부터 순서대로 읽어 전달합니다. - checksum 이 맞지 않는 record 부터는 기록 도중 종료된 것으로 보고 읽지
+   * 않습니다.
+   *
+   * @return 유효한 record 까지의 길이
+   */
+  static long replay(FileChannel file, PointSnapshotFile.Sink sink) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 4096);
+    final CRC32C crc = new CRC32C();
+    long position = 0;
+    long valid = 0;
+    int read;
+    while ((read = file.read(buffer, position)) > 0) {
+      position += read;
+      buffer.flip();
+      while (buffer.remaining() >= RECORD_SIZE) {
+        final int start = buffer.position();
+        crc.reset();
+        crc.update(buffer.slice(start, PAYLOAD_SIZE));
+        final long userId = buffer.getLong();
+        final long point = buffer.getLong();
+        final long updateMillis = buffer.getLong();
+        if ((int) crc.getValue() != buffer.getInt()) {
+          return valid;
+        }
+        sink.accept(userId, point, updateMillis);
+        valid += RECORD_SIZE;
+      }
+      buffer.compact();
+    }
+    return valid;
+  }
+
+  /**
+   * 대기 중인 record 를 fsync 한 뒤 기록 중인 log 를 다음 순번으로 교체합니다. - 교체하는 동안에만 갱신을 막습니다.
+   *
+   * @return 교체된 log 의 순번, 교체할 record 가 없으면 0
+   */
+  private long rotate() throws IOException {
+    syncLock.lock();
+    appendLock.lock();
+    try {
+      sync();
+      if (channel.size() == 0) {
+        return 0;
+      }
+
+      final long generation = nextGeneration++;
+      channel.close();
+      Files.move(path, path.resolveSibling(path.getFileName() + "." + generation),
+          StandardCopyOption.ATOMIC_MOVE);
+      channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+          StandardOpenOption.WRITE);
+      syncDirectory();
+      return generation;
+    } finally {
+      appendLock.unlock();
+      syncLock.unlock();
+    }
+  }
+
+  private void flush() throws IOException {
+    syncLock.lock();
+    try {
+      sync();
+    } finally {
+      syncLock.unlock();
+    }
+  }
+
+  private void checkpointQuietly() {
+    try {
+      checkpoint();
+    } catch (Exception e) {
+      log.error("failed to checkpoint point wal", e);
+    }
+  }
+
+  private Path snapshotPath() {
+    return path.resolveSibling(path.getFileName() + SNAPSHOT_SUFFIX);
+  }
+
+  /**
+   * 교체된 log 를 순번 순서대로 반환합니다.
+   */
+  private List<Path> archives() throws IOException {
+    try (var stream = Files.list(path.getParent())) {
+      return stream
+          .filter(file -> archivePattern.matcher(file.getFileName().toString()).matches())
+          .sorted((left, right) -> Long.compare(generation(left), generation(right)))
+          .toList();
+    }
+  }
+
+  private long generation(Path archive) {
+    final var matcher = archivePattern.matcher(archive.getFileName().toString());
+    if (!matcher.matches()) {
+      throw new IllegalArgumentException("not a point wal archive: " + archive);
+    }
+    return Long.parseLong(matcher.group(1));
+  }
+
+  /**
+   * 파일 이름 변경이 유지되도록 디렉터리를 fsync 합니다.
+   */
+  private void syncDirectory() throws IOException {
+    try (FileChannel directory = FileChannel.open(path.getParent(), StandardOpenOption.READ)) {
+      directory.force(true);
+    }
+  }
+
+  private void appendAndSync(UserPoint userPoint) {
+    syncLock.lock();
+    try {
+      final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+      write(record, userPoint);
+      record.flip();
+      writeFully(record);
+      channel.force(false);
+      syncs = syncs + 1;
+      balances.put(userPoint.id(), userPoint);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      syncLock.unlock();
+    }
+  }
+
+  /**
+   * record 를 대기 buffer 에 추가합니다.
+   *
+   * @return 해당 record 까지 기록된 record 수 - 이 값 이상이 fsync 되면 해당 record 가 기록된 것입니다.
+   */
+  private long append(UserPoint userPoint) {
+    appendLock.lock();
+    try {
+      if (pending.remaining() < RECORD_SIZE) {
+        pending = ByteBuffer.allocate(pending.capacity() << 1).put(pending.flip());
+      }
+      write(pending, userPoint);
+      // NOTE: log 교체와 같은 lock 안에서 반영하여, 교체 전 log 에 기록된 잔액은 snapshot 에 항상 포함되도록 합니다.
+      balances.put(userPoint.id(), userPoint);
+      return ++appended;
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  /**
+   * 해당 record 가 fsync 될 때까지 기다립니다. - 먼저 lock 을 얻은 요청이 그때까지 쌓인 record 를 모두 fsync 하고,
+   * 나머지 요청은 lock 을 얻은 뒤 이미 기록되었는지 확인합니다.
+   */
+  private void awaitDurable(long sequence) {
+    if (durable >= sequence) {
+      return;
+    }
+
+    syncLock.lock();
+    try {
+      if (durable < sequence) {
+        sync();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      syncLock.unlock();
+    }
+  }
+
+  /**
+   * 대기 buffer 를 교체한 뒤 교체 전까지 쌓인 record 를 기록하고 fsync 합니다. - syncLock 안에서 호출합니다.
+   */
+  private void sync() throws IOException {
+    final long upTo;
+    appendLock.lock();
+    try {
+      final ByteBuffer full = pending;
+      pending = syncing.clear();
+      syncing = full;
+      upTo = appended;
+    } finally {
+      appendLock.unlock();
+    }
+
+    syncing.flip();
+    if (syncing.hasRemaining()) {
+      writeFully(syncing);
+      channel.force(false);
+      syncs = syncs + 1;
+    }
+    durable = upTo;
+  }
+
+  private void writeFully(ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  static void write(ByteBuffer buffer, UserPoint userPoint) {
+    final int start = buffer.position();
+    buffer.putLong(userPoint.id());
+    buffer.putLong(userPoint.point());
+    buffer.putLong(userPoint.updateMillis());
+    final CRC32C crc = new CRC32C();
+    crc.update(buffer.slice(start, PAYLOAD_SIZE));
+    buffer.putInt((int) crc.getValue());
+  }
+}
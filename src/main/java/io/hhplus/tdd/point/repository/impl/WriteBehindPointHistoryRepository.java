@@ -0,0 +1,254 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 포인트 내역을 bounded queue 에 적재하고, background worker 가 적재된 순서대로 Table 에 기록합니다.
+ * <p>
+ * 사용자 ID 로 worker 를 나누어 서로 다른 사용자의 내역은 동시에 기록하며, 한 사용자의 내역은 항상 같은 worker 가
+ * 적재된 순서대로 기록합니다. 조회 시에는 해당 사용자의 대기 중인 내역이 모두 기록될 때까지 최대 readTimeout 동안
+ * 기다린 후 Table 을 조회합니다.
+ * <p>
+ * 내역은 잔액이 이미 반영된 뒤 기록되므로, queue 가 가득 차도 요청을 실패시키지 않고 기다림 없이 요청 스레드에서 직접
+ * 기록합니다. 실패로 응답하면 내역이 유실되고 재시도한 요청이 잔액을 한 번 더 반영하기 때문입니다.
+ */
+public class WriteBehindPointHistoryRepository implements PointHistoryRepository {
+
+  private static final Logger log = LoggerFactory.getLogger(
+      WriteBehindPointHistoryRepository.class);
+
+  private static final int DRAIN_BATCH_SIZE = 256;
+  private static final long POLL_TIMEOUT_MILLIS = 100;
+
+  /**
+   * 내역 적재 완료 시점 - ACK_ON_ENQUEUE : queue 에 적재되면 반환 - ACK_ON_PERSIST : Table 에 기록되면 반환
+   */
+  public enum Durability {
+    ACK_ON_ENQUEUE, ACK_ON_PERSIST
+  }
+
+  private final PointHistoryRepository delegate;
+  private final Durability durability;
+  private final Duration readTimeout;
+  private final List<BlockingQueue<PendingHistory>> queues;
+  private final List<Thread> workers;
+  private final ConcurrentHashMap<Long, CompletableFuture<PointHistory>> lastPendingByUser =
+      new ConcurrentHashMap<>();
+  // NOTE: 적재는 read lock, 종료는 write lock 을 획득하여 종료 여부 확인과 적재 사이에 종료되지 않도록 합니다.
+  private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+  private volatile boolean closed;
+
+  /**
+   * @param workers       동시에 기록하는 worker 수
+   * @param queueCapacity 기록 대기 중인 내역의 최대 개수 - worker 마다 나누어 보관합니다.
+   * @param readTimeout   조회 시 대기 중인 내역의 기록을 기다리는 최대 시간
+   */
+  public WriteBehindPointHistoryRepository(PointHistoryRepository delegate, int workers,
+      int queueCapacity, Durability durability, Duration readTimeout) {
+    this.delegate = delegate;
+    this.durability = durability;
+    this.readTimeout = readTimeout;
+    this.queues = new ArrayList<>(workers);
+    this.workers = new ArrayList<>(workers);
+    for (int i = 0; i < workers; i++) {
+      final BlockingQueue<PendingHistory> queue =
+          new ArrayBlockingQueue<>(Math.max(1, queueCapacity / workers));
+      final Thread worker = new Thread(() -> drain(queue), "point-history-writer-" + i);
+      worker.setDaemon(true);
+      this.queues.add(queue);
+      this.workers.add(worker);
+    }
+    this.workers.forEach(Thread::start);
+  }
+
+  @Override
+  public PointHistory insert(PointHistory pointHistory) {
+    final PendingHistory pending = new PendingHistory(pointHistory, new CompletableFuture<>());
+    final boolean persistedInline = enqueue(pending);
+
+    if (persistedInline || durability == Durability.ACK_ON_PERSIST) {
+      return await(pending.persisted());
+    }
+    return pointHistory;
+  }
+
+  @Override
+  public List<PointHistory> findAllByUserId(Long userId) {
+    awaitPending(userId);
+    return delegate.findAllByUserId(userId);
+  }
+
+  @Override
+  public List<PointHistory> findAllByQuery(PointHistoryQuery query) {
+    awaitPending(query.userId());
+    return delegate.findAllByQuery(query);
+  }
+
+  /**
+   * 새로운 내역 적재를 막고, 대기 중인 내역을 모두 Table 에 기록한 뒤 worker 를 종료합니다.
+   */
+  @PreDestroy
+  public void close() throws InterruptedException {
+    // NOTE: 기록 중인 Table 호출이 중단되지 않도록 interrupt 대신 종료 flag 로 worker 를 멈춥니다. 진행 중인 적재가
+    //  끝난 뒤 flag 를 설정하므로, 이후 worker 가 queue 를 비우면 queue 에 남는 내역이 없습니다.
+    closeLock.writeLock().lock();
+    try {
+      closed = true;
+    } finally {
+      closeLock.writeLock().unlock();
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+
+    // NOTE: 기록되지 않은 내역이 남아 있다면 실패로 완료하여, 기록을 기다리는 요청과 조회가 멈추지 않도록 합니다.
+    for (BlockingQueue<PendingHistory> queue : queues) {
+      PendingHistory pending;
+      while ((pending = queue.poll()) != null) {
+        pending.persisted().completeExceptionally(
+            new BusinessException(PointErrorCode.POINT_HISTORY_WRITER_CLOSED));
+      }
+    }
+    lastPendingByUser.values().forEach(persisted -> persisted.completeExceptionally(
+        new BusinessException(PointErrorCode.POINT_HISTORY_WRITER_CLOSED)));
+    lastPendingByUser.clear();
+  }
+
+  /**
+   * 현재 Table 에 기록 대기 중인 내역 수
+   */
+  public int pendingSize() {
+    return queues.stream().mapToInt(BlockingQueue::size).sum();
+  }
+
+  /**
+   * 사용자의 worker queue 에 적재합니다. - queue 가 가득 차면 기다리지 않고 요청 스레드에서 직접 기록합니다.
+   *
+   * @return 직접 기록한 경우 true
+   */
+  private boolean enqueue(PendingHistory pending) {
+    // NOTE: 직접 기록하는 경우에도 기록이 끝날 때까지 종료되지 않도록 read lock 을 유지합니다.
+    closeLock.readLock().lock();
+    try {
+      if (closed) {
+        throw new BusinessException(PointErrorCode.POINT_HISTORY_WRITER_CLOSED);
+      }
+
+      final long userId = pending.pointHistory().userId();
+      // NOTE: worker 가 기록 후 제거할 수 있도록 적재 전에 등록합니다.
+      final CompletableFuture<PointHistory> previous =
+          lastPendingByUser.put(userId, pending.persisted());
+      if (queueOf(userId).offer(pending)) {
+        return false;
+      }
+
+      // NOTE: 같은 사용자의 내역이 적재된 순서대로 기록되도록, 먼저 적재된 내역이 기록된 뒤 기록합니다. 먼저 적재된
+      //  내역이 없는 사용자는 기다리지 않으며, 있는 사용자는 자신의 worker 가 그 내역까지 기록하는 동안만 기다립니다.
+      if (previous != null) {
+        previous.exceptionally(e -> null).join();
+      }
+      persist(pending);
+      return true;
+    } finally {
+      closeLock.readLock().unlock();
+    }
+  }
+
+  private BlockingQueue<PendingHistory> queueOf(long userId) {
+    return queues.get(Math.floorMod(Long.hashCode(userId), queues.size()));
+  }
+
+  private void drain(BlockingQueue<PendingHistory> queue) {
+    final List<PendingHistory> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+    while (!closed || !queue.isEmpty()) {
+      if (queue.drainTo(batch, DRAIN_BATCH_SIZE) == 0) {
+        final PendingHistory pending = poll(queue);
+        if (pending == null) {
+          continue;
+        }
+        batch.add(pending);
+      }
+
+      batch.forEach(this::persist);
+      batch.clear();
+    }
+  }
+
+  private PendingHistory poll(BlockingQueue<PendingHistory> queue) {
+    try {
+      return queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      return null;
+    }
+  }
+
+  private void persist(PendingHistory pending) {
+    try {
+      pending.persisted().complete(delegate.insert(pending.pointHistory()));
+    } catch (RuntimeException e) {
+      log.warn("failed to persist point history. userId={}", pending.pointHistory().userId(), e);
+      pending.persisted().completeExceptionally(e);
+    }
+    lastPendingByUser.remove(pending.pointHistory().userId(), pending.persisted());
+  }
+
+  /**
+   * 사용자의 대기 중인 내역이 기록될 때까지 기다립니다. - readTimeout 안에 기록되지 않으면
+   * POINT_HISTORY_WRITE_PENDING 으로 실패합니다.
+   */
+  private void awaitPending(long userId) {
+    final CompletableFuture<PointHistory> lastPending = lastPendingByUser.get(userId);
+    if (lastPending == null) {
+      return;
+    }
+    try {
+      // NOTE: 기록 실패 여부와 관계없이 대기 중인 내역의 처리가 끝난 뒤 조회합니다.
+      lastPending.exceptionally(e -> null).get(readTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      throw new BusinessException(PointErrorCode.POINT_HISTORY_WRITE_PENDING);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new BusinessException(PointErrorCode.POINT_HISTORY_WRITE_PENDING);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private PointHistory await(CompletableFuture<PointHistory> persisted) {
+    try {
+      return persisted.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private record PendingHistory(
+      PointHistory pointHistory,
+      CompletableFuture<PointHistory> persisted
+  ) {
+
+  }
+}
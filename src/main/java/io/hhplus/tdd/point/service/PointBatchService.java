@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.UserPointBatchResult;
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface PointBatchService {
+
+  List<UserPointBatchResult> execute(UserPointCommand.Batch command);
+
+  CompletableFuture<List<UserPointBatchResult>> executeAsync(UserPointCommand.Batch command);
+}
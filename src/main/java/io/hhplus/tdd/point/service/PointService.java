@@ -1,9 +1,11 @@
 package io.hhplus.tdd.point.service;
 
+import io.hhplus.tdd.point.dto.PointHistoryPage;
 import io.hhplus.tdd.point.dto.UserPointCommand;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.UserPoint;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface PointService {
 
@@ -14,4 +16,18 @@ public interface PointService {
   UserPoint getUserPoint(UserPointCommand.GetUserPoint command);
 
   List<PointHistory> getUserPointHistories(UserPointCommand.GetUserPointHistories command);
+
+  PointHistoryPage getUserPointHistoryPage(UserPointCommand.GetUserPointHistoryPage command);
+
+  CompletableFuture<UserPoint> chargeAsync(UserPointCommand.Charge command);
+
+  CompletableFuture<UserPoint> useAsync(UserPointCommand.Use command);
+
+  CompletableFuture<UserPoint> getUserPointAsync(UserPointCommand.GetUserPoint command);
+
+  CompletableFuture<List<PointHistory>> getUserPointHistoriesAsync(
+      UserPointCommand.GetUserPointHistories command);
+
+  CompletableFuture<PointHistoryPage> getUserPointHistoryPageAsync(
+      UserPointCommand.GetUserPointHistoryPage command);
 }
@@ -0,0 +1,103 @@
+package io.hhplus.tdd.point.service.impl;
+
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.dto.UserPointCommand.GetUserPointHistories;
+import io.hhplus.tdd.point.dto.UserPointCommand.GetUserPointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.ledger.PointLedger;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * 잔액을 메모리 ledger 에서 lock 없이 바로 변경하고, 저장소(Table) 반영은 ledger 가 비동기로 수행합니다.
+ * <p>
+ * 잔액 조회도 ledger 를 거치므로 Table 에 반영되기 전의 잔액을 반환합니다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "point.service", name = "mode", havingValue = "ledger")
+public class LedgerPointServiceImpl implements PointService {
+
+  private final PointLedger pointLedger;
+  private final PointHistoryRepository pointHistoryRepository;
+  private final Executor pointTaskExecutor;
+
+  @Autowired
+  public LedgerPointServiceImpl(PointLedger pointLedger,
+      PointHistoryRepository pointHistoryRepository,
+      @Qualifier("pointTaskExecutor") Executor pointTaskExecutor) {
+    this.pointLedger = pointLedger;
+    this.pointHistoryRepository = pointHistoryRepository;
+    this.pointTaskExecutor = pointTaskExecutor;
+  }
+
+  @Override
+  public UserPoint charge(UserPointCommand.Charge command) {
+    final UserPoint userPoint = pointLedger.charge(command.userId(), command.amount());
+    return record(userPoint, TransactionType.CHARGE, command.amount());
+  }
+
+  @Override
+  public UserPoint use(UserPointCommand.Use command) {
+    final UserPoint userPoint = pointLedger.use(command.userId(), command.amount());
+    return record(userPoint, TransactionType.USE, command.amount());
+  }
+
+  @Override
+  public UserPoint getUserPoint(UserPointCommand.GetUserPoint command) {
+    return pointLedger.get(command.userId());
+  }
+
+  @Override
+  public List<PointHistory> getUserPointHistories(GetUserPointHistories command) {
+    return pointHistoryRepository.findAllByUserId(command.userId());
+  }
+
+  @Override
+  public PointHistoryPage getUserPointHistoryPage(GetUserPointHistoryPage command) {
+    return PointHistoryPageReader.read(pointHistoryRepository, command);
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> chargeAsync(UserPointCommand.Charge command) {
+    return CompletableFuture.supplyAsync(() -> charge(command), pointTaskExecutor);
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> useAsync(UserPointCommand.Use command) {
+    return CompletableFuture.supplyAsync(() -> use(command), pointTaskExecutor);
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> getUserPointAsync(UserPointCommand.GetUserPoint command) {
+    return CompletableFuture.supplyAsync(() -> getUserPoint(command), pointTaskExecutor);
+  }
+
+  @Override
+  public CompletableFuture<List<PointHistory>> getUserPointHistoriesAsync(
+      GetUserPointHistories command) {
+    return CompletableFuture.supplyAsync(() -> getUserPointHistories(command), pointTaskExecutor);
+  }
+
+  @Override
+  public CompletableFuture<PointHistoryPage> getUserPointHistoryPageAsync(
+      GetUserPointHistoryPage command) {
+    return CompletableFuture.supplyAsync(() -> getUserPointHistoryPage(command),
+        pointTaskExecutor);
+  }
+
+  private UserPoint record(UserPoint userPoint, TransactionType type, long amount) {
+    pointHistoryRepository.insert(
+        PointHistory.from(userPoint.id(), amount, type, userPoint.updateMillis()));
+    return userPoint;
+  }
+}
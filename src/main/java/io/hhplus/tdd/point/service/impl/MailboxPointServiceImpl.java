@@ -0,0 +1,251 @@
+package io.hhplus.tdd.point.service.impl;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.dto.UserPointCommand.GetUserPointHistories;
+import io.hhplus.tdd.point.dto.UserPointCommand.GetUserPointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자별 mailbox 에 충전/사용 명령을 적재하고, 사용자당 하나의 drainer 가 쌓인 명령을 묶어 한 번의 잔액 갱신으로
+ * 반영합니다.
+ * <p>
+ * 사용 명령은 명령 단위로 잔액을 검증하므로 잔액을 초과하는 명령만 실패하고, 나머지 명령은 함께 반영됩니다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "point.service", name = "mode", havingValue = "mailbox")
+public class MailboxPointServiceImpl implements PointService {
+
+  private final PointRepository pointRepository;
+  private final PointHistoryRepository pointHistoryRepository;
+  private final Executor pointTaskExecutor;
+  private final int maxBatchSize;
+  private final ConcurrentHashMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+  @Autowired
+  public MailboxPointServiceImpl(PointRepository pointRepository,
+      PointHistoryRepository pointHistoryRepository,
+      @Qualifier("pointTaskExecutor") Executor pointTaskExecutor,
+      PointProperties pointProperties) {
+    this(pointRepository, pointHistoryRepository, pointTaskExecutor,
+        pointProperties.mailbox().maxBatchSize());
+  }
+
+  MailboxPointServiceImpl(PointRepository pointRepository,
+      PointHistoryRepository pointHistoryRepository, Executor pointTaskExecutor, int maxBatchSize) {
+    this.pointRepository = pointRepository;
+    this.pointHistoryRepository = pointHistoryRepository;
+    this.pointTaskExecutor = pointTaskExecutor;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  @Override
+  public UserPoint charge(UserPointCommand.Charge command) {
+    return await(chargeAsync(command));
+  }
+
+  @Override
+  public UserPoint use(UserPointCommand.Use command) {
+    return await(useAsync(command));
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> chargeAsync(UserPointCommand.Charge command) {
+    return submit(command.userId(), TransactionType.CHARGE, command.amount());
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> useAsync(UserPointCommand.Use command) {
+    return submit(command.userId(), TransactionType.USE, command.amount());
+  }
+
+  @Override
+  public UserPoint getUserPoint(UserPointCommand.GetUserPoint command) {
+    return pointRepository.findById(command.userId()).orElse(null);
+  }
+
+  @Override
+  public List<PointHistory> getUserPointHistories(GetUserPointHistories command) {
+    return pointHistoryRepository.findAllByUserId(command.userId());
+  }
+
+  @Override
+  public PointHistoryPage getUserPointHistoryPage(GetUserPointHistoryPage command) {
+    return PointHistoryPageReader.read(pointHistoryRepository, command);
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> getUserPointAsync(UserPointCommand.GetUserPoint command) {
+    return CompletableFuture.supplyAsync(() -> getUserPoint(command), pointTaskExecutor);
+  }
+
+  @Override
+  public CompletableFuture<List<PointHistory>> getUserPointHistoriesAsync(
+      GetUserPointHistories command) {
+    return CompletableFuture.supplyAsync(() -> getUserPointHistories(command), pointTaskExecutor);
+  }
+
+  @Override
+  public CompletableFuture<PointHistoryPage> getUserPointHistoryPageAsync(
+      GetUserPointHistoryPage command) {
+    return CompletableFuture.supplyAsync(() -> getUserPointHistoryPage(command),
+        pointTaskExecutor);
+  }
+
+  private CompletableFuture<UserPoint> submit(long userId, TransactionType type, long amount) {
+    final PendingCommand command = new PendingCommand(type, amount, new CompletableFuture<>());
+    // NOTE: mailbox 의 생성/적재/제거는 모두 compute 안에서 수행되어 drainer 의 제거와 경합하지 않습니다.
+    final Mailbox mailbox = mailboxes.compute(userId, (id, current) -> {
+      final Mailbox target = current == null ? new Mailbox(id) : current;
+      target.queue.offer(command);
+      return target;
+    });
+
+    if (mailbox.draining.compareAndSet(false, true)) {
+      schedule(mailbox);
+    }
+
+    return command.result();
+  }
+
+  private void schedule(Mailbox mailbox) {
+    try {
+      pointTaskExecutor.execute(() -> drain(mailbox));
+    } catch (RejectedExecutionException e) {
+      do {
+        pollBatch(mailbox, Integer.MAX_VALUE)
+            .forEach(command -> command.result().completeExceptionally(e));
+      } while (!release(mailbox));
+    }
+  }
+
+  private void drain(Mailbox mailbox) {
+    final List<PendingCommand> batch = pollBatch(mailbox, maxBatchSize);
+    if (!batch.isEmpty()) {
+      commit(mailbox.userId, batch);
+    }
+
+    // NOTE: 한 번에 하나의 batch 만 처리하고 다시 스케줄링하여 특정 사용자가 스레드를 독점하지 않도록 합니다.
+    if (!release(mailbox)) {
+      schedule(mailbox);
+    }
+  }
+
+  private List<PendingCommand> pollBatch(Mailbox mailbox, int limit) {
+    final List<PendingCommand> batch = new ArrayList<>();
+    PendingCommand command;
+    while (batch.size() < limit && (command = mailbox.queue.poll()) != null) {
+      batch.add(command);
+    }
+    return batch;
+  }
+
+  /**
+   * 남은 명령이 없으면 mailbox 를 제거하고 drainer 를 반납합니다.
+   *
+   * @return drainer 반납 여부 - false 인 경우 호출자가 계속 처리해야 합니다.
+   */
+  private boolean release(Mailbox mailbox) {
+    final Mailbox remaining = mailboxes.computeIfPresent(mailbox.userId,
+        (id, current) -> current == mailbox && mailbox.queue.isEmpty() ? null : current);
+    if (remaining == mailbox) {
+      return false;
+    }
+
+    mailbox.draining.set(false);
+    return true;
+  }
+
+  private void commit(long userId, List<PendingCommand> batch) {
+    try {
+      UserPoint userPoint = pointRepository.findById(userId)
+          .orElseThrow(() -> new BusinessException(PointErrorCode.USER_POINT_NOT_FOUND));
+
+      final List<PendingCommand> accepted = new ArrayList<>(batch.size());
+      final List<UserPoint> intermediates = new ArrayList<>(batch.size());
+      for (PendingCommand command : batch) {
+        try {
+          userPoint = command.applyTo(userPoint);
+          accepted.add(command);
+          intermediates.add(userPoint);
+        } catch (BusinessException e) {
+          command.result().completeExceptionally(e);
+        }
+      }
+
+      if (accepted.isEmpty()) {
+        return;
+      }
+
+      final UserPoint savedUserPoint = pointRepository.update(userPoint);
+
+      final int last = accepted.size() - 1;
+      for (int i = 0; i <= last; i++) {
+        final PendingCommand command = accepted.get(i);
+        pointHistoryRepository.insert(
+            PointHistory.from(userId, command.amount(), command.type(),
+                System.currentTimeMillis()));
+        command.result().complete(i == last ? savedUserPoint : intermediates.get(i));
+      }
+    } catch (RuntimeException e) {
+      // NOTE: 이미 완료된 명령에는 영향을 주지 않습니다.
+      batch.forEach(command -> command.result().completeExceptionally(e));
+    }
+  }
+
+  private UserPoint await(CompletableFuture<UserPoint> result) {
+    try {
+      return result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private static final class Mailbox {
+
+    private final long userId;
+    private final Queue<PendingCommand> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    private Mailbox(long userId) {
+      this.userId = userId;
+    }
+  }
+
+  private record PendingCommand(
+      TransactionType type,
+      long amount,
+      CompletableFuture<UserPoint> result
+  ) {
+
+    private UserPoint applyTo(UserPoint userPoint) {
+      return type == TransactionType.CHARGE ? userPoint.addPoint(amount)
+          : userPoint.usePoint(amount);
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package io.hhplus.tdd.point.service.impl;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.dto.UserPointCommand.GetUserPointHistories;
+import io.hhplus.tdd.point.dto.UserPointCommand.GetUserPointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.lock.LockRegistry;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.OptimisticPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.UnaryOperator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * lock 없이 잔액을 조회한 뒤 version 을 비교하여 갱신하고, 다른 요청이 먼저 갱신한 경우 잠시 기다린 뒤 다시 시도합니다.
+ * <p>
+ * 같은 사용자에 대한 요청이 드문 대부분의 경우 lock 없이 처리됩니다. 재시도 횟수를 초과할 만큼 충돌이 잦은 요청은 사용자별
+ * lock 을 획득한 뒤 갱신하며, lock 으로 갱신하는 요청이 있는 동안에는 같은 사용자의 다른 요청도 lock 을 획득한 뒤 갱신하므로
+ * 충돌이 잦은 사용자의 요청끼리는 순서대로 처리되어 재시도가 반복되지 않습니다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "point.service", name = "mode", havingValue = "optimistic")
+public class OptimisticPointServiceImpl implements PointService {
+
+  /**
+   * 재시도 대기 시간을 두 배씩 늘리는 최대 횟수 - shift 시 overflow 를 막습니다.
+   */
+  private static final int MAX_BACKOFF_SHIFT = 30;
+
+  private final OptimisticPointRepository pointRepository;
+  private final PointHistoryRepository pointHistoryRepository;
+  private final LockRegistry lockRegistry;
+  private final Executor pointTaskExecutor;
+  private final int maxRetries;
+  private final long initialBackoffNanos;
+  private final long maxBackoffNanos;
+  private final LongAdder conflicts = new LongAdder();
+  private final LongAdder fallbacks = new LongAdder();
+  // NOTE: 사용자별로 lock 을 획득하여 갱신 중인 요청 수 - 등록된 사용자의 새로운 시도는 lock 을 획득한 뒤 갱신합니다.
+  private final ConcurrentHashMap<Long, Integer> lockedUsers = new ConcurrentHashMap<>();
+
+  @Autowired
+  public OptimisticPointServiceImpl(OptimisticPointRepository pointRepository,
+      PointHistoryRepository pointHistoryRepository, LockRegistry lockRegistry,
+      @Qualifier("pointTaskExecutor") Executor pointTaskExecutor,
+      PointProperties pointProperties) {
+    this(pointRepository, pointHistoryRepository, lockRegistry, pointTaskExecutor,
+        pointProperties.optimistic().maxRetries(), pointProperties.optimistic().initialBackoff(),
+        pointProperties.optimistic().maxBackoff());
+  }
+
+  OptimisticPointServiceImpl(OptimisticPointRepository pointRepository,
+      PointHistoryRepository pointHistoryRepository, LockRegistry lockRegistry,
+      Executor pointTaskExecutor, int maxRetries, Duration initialBackoff, Duration maxBackoff) {
+    this.pointRepository = pointRepository;
+    this.pointHistoryRepository = pointHistoryRepository;
+    this.lockRegistry = lockRegistry;
+    this.pointTaskExecutor = pointTaskExecutor;
+    this.maxRetries = maxRetries;
+    this.initialBackoffNanos = initialBackoff.toNanos();
+    this.maxBackoffNanos = maxBackoff.toNanos();
+  }
+
+  @Override
+  public UserPoint charge(UserPointCommand.Charge command) {
+    return execute(command.userId(), TransactionType.CHARGE, command.amount(),
+        userPoint -> userPoint.addPoint(command.amount()));
+  }
+
+  @Override
+  public UserPoint use(UserPointCommand.Use command) {
+    return execute(command.userId(), TransactionType.USE, command.amount(),
+        userPoint -> userPoint.usePoint(command.amount()));
+  }
+
+  @Override
+  public UserPoint getUserPoint(UserPointCommand.GetUserPoint command) {
+    return pointRepository.findById(command.userId()).orElse(null);
+  }
+
+  @Override
+  public List<PointHistory> getUserPointHistories(GetUserPointHistories command) {
+    return pointHistoryRepository.findAllByUserId(command.userId());
+  }
+
+  @Override
+  public PointHistoryPage getUserPointHistoryPage(GetUserPointHistoryPage command) {
+    return PointHistoryPageReader.read(pointHistoryRepository, command);
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> chargeAsync(UserPointCommand.Charge command) {
+    return CompletableFuture.supplyAsync(() -> charge(command), pointTaskExecutor);
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> useAsync(UserPointCommand.Use command) {
+    return CompletableFuture.supplyAsync(() -> use(command), pointTaskExecutor);
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> getUserPointAsync(UserPointCommand.GetUserPoint command) {
+    return CompletableFuture.supplyAsync(() -> getUserPoint(command), pointTaskExecutor);
+  }
+
+  @Override
+  public CompletableFuture<List<PointHistory>> getUserPointHistoriesAsync(
+      GetUserPointHistories command) {
+    return CompletableFuture.supplyAsync(() -> getUserPointHistories(command), pointTaskExecutor);
+  }
+
+  @Override
+  public CompletableFuture<PointHistoryPage> getUserPointHistoryPageAsync(
+      GetUserPointHistoryPage command) {
+    return CompletableFuture.supplyAsync(() -> getUserPointHistoryPage(command),
+        pointTaskExecutor);
+  }
+
+  /**
+   * 다른 요청이 먼저 갱신하여 version 비교에 실패한 횟수
+   */
+  public long conflictCount() {
+    return conflicts.sum();
+  }
+
+  /**
+   * 재시도 횟수를 초과하여 lock 을 획득한 뒤 갱신한 횟수
+   */
+  public long fallbackCount() {
+    return fallbacks.sum();
+  }
+
+  private UserPoint execute(long userId, TransactionType type, long amount,
+      UnaryOperator<UserPoint> operation) {
+    for (int attempt = 0; attempt <= maxRetries; attempt++) {
+      if (attempt > 0) {
+        backoff(attempt);
+      }
+      if (lockedUsers.containsKey(userId)) {
+        return executeWithLock(userId, type, amount, operation);
+      }
+
+      final Optional<UserPoint> savedUserPoint = tryUpdate(userId, operation);
+      if (savedUserPoint.isPresent()) {
+        return record(savedUserPoint.get(), type, amount);
+      }
+      conflicts.increment();
+    }
+
+    fallbacks.increment();
+    return executeWithLock(userId, type, amount, operation);
+  }
+
+  /**
+   * 사용자별 lock 을 획득한 뒤 갱신합니다. - 재시도 횟수를 초과할 때까지 충돌하면 POINT_LOCK_TIMEOUT 으로 실패합니다.
+   */
+  private UserPoint executeWithLock(long userId, TransactionType type, long amount,
+      UnaryOperator<UserPoint> operation) {
+    // NOTE: lock 을 기다리기 전에 등록하여 이후 시작된 시도가 모두 lock 을 거치도록 합니다. 등록 전에 시작된 lock 없는
+    //  시도와는 여전히 경합하므로 lock 안에서도 version 을 비교하여 갱신하며, 그런 시도의 수는 한정되어 있으므로
+    //  재시도 횟수도 lock 밖과 같게 제한합니다.
+    lockedUsers.merge(userId, 1, Integer::sum);
+    try {
+      return lockRegistry.executeWithLock(userId, () -> {
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+          if (attempt > 0) {
+            backoff(attempt);
+          }
+
+          final Optional<UserPoint> savedUserPoint = tryUpdate(userId, operation);
+          if (savedUserPoint.isPresent()) {
+            return record(savedUserPoint.get(), type, amount);
+          }
+          conflicts.increment();
+        }
+        throw new BusinessException(PointErrorCode.POINT_LOCK_TIMEOUT);
+      });
+    } finally {
+      lockedUsers.computeIfPresent(userId, (id, count) -> count == 1 ? null : count - 1);
+    }
+  }
+
+  private Optional<UserPoint> tryUpdate(long userId, UnaryOperator<UserPoint> operation) {
+    final UserPoint userPoint = pointRepository.findById(userId)
+        .orElseThrow(() -> new BusinessException(PointErrorCode.USER_POINT_NOT_FOUND));
+    return pointRepository.compareAndSet(userPoint, operation.apply(userPoint));
+  }
+
+  private UserPoint record(UserPoint savedUserPoint, TransactionType type, long amount) {
+    pointHistoryRepository.insert(
+        PointHistory.from(savedUserPoint.id(), amount, type, System.currentTimeMillis()));
+    return savedUserPoint;
+  }
+
+  /**
+   * 0 ~ min(initialBackoff * 2^(attempt - 1), maxBackoff) 사이의 임의 시간만큼 기다려, 충돌한 요청들이 같은 시점에 다시
+   * 시도하지 않도록 합니다.
+   */
+  private void backoff(int attempt) {
+    final long bound = Math.min(maxBackoffNanos,
+        initialBackoffNanos << Math.min(attempt - 1, MAX_BACKOFF_SHIFT));
+    if (bound > 0) {
+      LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(bound + 1));
+    }
+  }
+}
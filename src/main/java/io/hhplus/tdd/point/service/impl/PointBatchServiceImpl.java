@@ -0,0 +1,143 @@
+package io.hhplus.tdd.point.service.impl;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.UserPointBatchResult;
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.dto.UserPointCommand.BatchOperation;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.hotspot.HotAccountTracker;
+import io.hhplus.tdd.point.service.PointBatchService;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * 일괄 처리 요청을 사용자별로 묶어, 서로 다른 사용자는 병렬로 처리하고 같은 사용자의 요청은 순서대로 처리합니다.
+ * <p>
+ * 개별 요청은 {@link PointService} 의 비동기 API 로 처리하므로 충전/사용 처리 방식(lock, mailbox)을 그대로 따릅니다.
+ */
+@Service
+public class PointBatchServiceImpl implements PointBatchService {
+
+  private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+  private final PointService pointService;
+  private final HotAccountTracker hotAccountTracker;
+  private final int parallelism;
+  private final int maxSize;
+
+  @Autowired
+  public PointBatchServiceImpl(PointService pointService, HotAccountTracker hotAccountTracker,
+      PointProperties pointProperties) {
+    this(pointService, hotAccountTracker, pointProperties.batch().parallelism(),
+        pointProperties.batch().maxSize());
+  }
+
+  PointBatchServiceImpl(PointService pointService, int parallelism, int maxSize) {
+    this(pointService, HotAccountTracker.NONE, parallelism, maxSize);
+  }
+
+  PointBatchServiceImpl(PointService pointService, HotAccountTracker hotAccountTracker,
+      int parallelism, int maxSize) {
+    this.pointService = pointService;
+    this.hotAccountTracker = hotAccountTracker;
+    this.parallelism = parallelism;
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public List<UserPointBatchResult> execute(UserPointCommand.Batch command) {
+    return executeAsync(command).join();
+  }
+
+  @Override
+  public CompletableFuture<List<UserPointBatchResult>> executeAsync(
+      UserPointCommand.Batch command) {
+    final List<BatchOperation> operations = command.operations();
+    if (operations.size() > maxSize) {
+      throw new BusinessException(PointErrorCode.INVALID_BATCH_SIZE);
+    }
+    final UserPointBatchResult[] results = new UserPointBatchResult[operations.size()];
+
+    final Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+    for (int i = 0; i < operations.size(); i++) {
+      indexesByUser.computeIfAbsent(operations.get(i).userId(), k -> new ArrayList<>()).add(i);
+    }
+
+    final Queue<List<Integer>> groups = new ConcurrentLinkedQueue<>(indexesByUser.values());
+    final int laneCount = Math.min(parallelism, indexesByUser.size());
+    final CompletableFuture<?>[] lanes = IntStream.range(0, laneCount)
+        .mapToObj(i -> runLane(groups, operations, results))
+        .toArray(CompletableFuture[]::new);
+
+    return CompletableFuture.allOf(lanes).thenApply(v -> Arrays.asList(results));
+  }
+
+  /**
+   * 처리할 사용자 묶음이 남아있는 동안 하나씩 꺼내 처리합니다. - 동시에 처리되는 사용자 수는 lane 수로 제한됩니다.
+   */
+  private CompletableFuture<Void> runLane(Queue<List<Integer>> groups,
+      List<BatchOperation> operations, UserPointBatchResult[] results) {
+    List<Integer> group;
+    while ((group = groups.poll()) != null) {
+      final CompletableFuture<Void> pending = runGroup(group.iterator(), operations, results);
+      // NOTE: 이미 완료된 경우 재귀 대신 반복문으로 이어서 처리하여 stack 이 깊어지지 않도록 합니다.
+      if (!pending.isDone()) {
+        return pending.thenCompose(v -> runLane(groups, operations, results));
+      }
+    }
+    return DONE;
+  }
+
+  private CompletableFuture<Void> runGroup(Iterator<Integer> indexes,
+      List<BatchOperation> operations, UserPointBatchResult[] results) {
+    while (indexes.hasNext()) {
+      final int index = indexes.next();
+      final BatchOperation operation = operations.get(index);
+      final CompletableFuture<Void> pending = submit(operation)
+          .handle((userPoint, throwable) -> {
+            results[index] = throwable == null
+                ? UserPointBatchResult.success(index, operation, userPoint)
+                : UserPointBatchResult.failure(index, operation, throwable);
+            return null;
+          });
+      if (!pending.isDone()) {
+        return pending.thenCompose(v -> runGroup(indexes, operations, results));
+      }
+    }
+    return DONE;
+  }
+
+  private CompletableFuture<UserPoint> submit(BatchOperation operation) {
+    try {
+      if (operation.type() == TransactionType.CHARGE) {
+        final UserPointCommand.Charge command =
+            UserPointCommand.Charge.from(operation.userId(), operation.amount());
+        return hotAccountTracker.track(command.userId(), () -> pointService.chargeAsync(command));
+      }
+
+      if (operation.type() == TransactionType.USE) {
+        final UserPointCommand.Use command =
+            UserPointCommand.Use.from(operation.userId(), operation.amount());
+        return hotAccountTracker.track(command.userId(), () -> pointService.useAsync(command));
+      }
+
+      throw new BusinessException(PointErrorCode.INVALID_TRANSACTION_TYPE);
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.service.impl;
+
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.UserPointCommand.GetUserPointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import java.util.List;
+
+/**
+ * 포인트 내역을 한 페이지 조회합니다. - 처리 방식과 관계없이 모든 서비스가 같은 방식으로 조회합니다.
+ */
+final class PointHistoryPageReader {
+
+  private PointHistoryPageReader() {
+  }
+
+  static PointHistoryPage read(PointHistoryRepository pointHistoryRepository,
+      GetUserPointHistoryPage command) {
+    // NOTE: 다음 페이지 존재 여부를 확인하기 위해 하나 더 조회합니다.
+    final List<PointHistory> histories = pointHistoryRepository.findAllByQuery(
+        new PointHistoryQuery(command.userId(), command.after(), command.fromMillis(),
+            command.toMillis(), command.type(), command.limit() + 1));
+    return PointHistoryPage.of(histories, command.limit());
+  }
+}
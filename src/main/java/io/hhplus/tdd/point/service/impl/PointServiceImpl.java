@@ -1,35 +1,47 @@
 package io.hhplus.tdd.point.service.impl;
 
 import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
 import io.hhplus.tdd.point.dto.UserPointCommand;
 import io.hhplus.tdd.point.dto.UserPointCommand.GetUserPointHistories;
+import io.hhplus.tdd.point.dto.UserPointCommand.GetUserPointHistoryPage;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.UserPoint;
 import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.lock.LockRegistry;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.PointRepository;
 import io.hhplus.tdd.point.service.PointService;
 import io.hhplus.tdd.point.type.TransactionType;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point.service", name = "mode", havingValue = "lock",
+    matchIfMissing = true)
 public class PointServiceImpl implements PointService {
 
   private final PointRepository pointRepository;
   private final PointHistoryRepository pointHistoryRepository;
-  private final ConcurrentHashMap<Long, Lock> locks = new ConcurrentHashMap<>();
+  private final LockRegistry lockRegistry;
+  private final Executor pointTaskExecutor;
+
+  public PointServiceImpl(PointRepository pointRepository,
+      PointHistoryRepository pointHistoryRepository, LockRegistry lockRegistry,
+      @Qualifier("pointTaskExecutor") Executor pointTaskExecutor) {
+    this.pointRepository = pointRepository;
+    this.pointHistoryRepository = pointHistoryRepository;
+    this.lockRegistry = lockRegistry;
+    this.pointTaskExecutor = pointTaskExecutor;
+  }
 
   @Override
   public UserPoint charge(UserPointCommand.Charge command) {
-    Lock lock = locks.computeIfAbsent(command.userId(), k -> new ReentrantLock());
-    lock.lock();
-    try {
+    return lockRegistry.executeWithLock(command.userId(), () -> {
       UserPoint userPoint = pointRepository.findById(command.userId())
           .orElseThrow(() -> new BusinessException(PointErrorCode.USER_POINT_NOT_FOUND));
 
@@ -41,16 +53,12 @@ public class PointServiceImpl implements PointService {
               System.currentTimeMillis()));
 
       return savedUserPoint;
-    } finally {
-      lock.unlock();
-    }
+    });
   }
 
   @Override
   public UserPoint use(UserPointCommand.Use command) {
-    Lock lock = locks.computeIfAbsent(command.userId(), k -> new ReentrantLock());
-    lock.lock();
-    try {
+    return lockRegistry.executeWithLock(command.userId(), () -> {
       UserPoint userPoint = pointRepository.findById(command.userId())
           .orElseThrow(() -> new BusinessException(PointErrorCode.USER_POINT_NOT_FOUND));
 
@@ -62,9 +70,7 @@ public class PointServiceImpl implements PointService {
               System.currentTimeMillis()));
 
       return savedUserPoint;
-    } finally {
-      lock.unlock();
-    }
+    });
   }
 
   @Override
@@ -76,4 +82,37 @@ public class PointServiceImpl implements PointService {
   public List<PointHistory> getUserPointHistories(GetUserPointHistories command) {
     return pointHistoryRepository.findAllByUserId(command.userId());
   }
-}
\ No newline at end of file
+
+  @Override
+  public PointHistoryPage getUserPointHistoryPage(GetUserPointHistoryPage command) {
+    return PointHistoryPageReader.read(pointHistoryRepository, command);
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> chargeAsync(UserPointCommand.Charge command) {
+    return CompletableFuture.supplyAsync(() -> charge(command), pointTaskExecutor);
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> useAsync(UserPointCommand.Use command) {
+    return CompletableFuture.supplyAsync(() -> use(command), pointTaskExecutor);
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> getUserPointAsync(UserPointCommand.GetUserPoint command) {
+    return CompletableFuture.supplyAsync(() -> getUserPoint(command), pointTaskExecutor);
+  }
+
+  @Override
+  public CompletableFuture<List<PointHistory>> getUserPointHistoriesAsync(
+      GetUserPointHistories command) {
+    return CompletableFuture.supplyAsync(() -> getUserPointHistories(command), pointTaskExecutor);
+  }
+
+  @Override
+  public CompletableFuture<PointHistoryPage> getUserPointHistoryPageAsync(
+      GetUserPointHistoryPage command) {
+    return CompletableFuture.supplyAsync(() -> getUserPointHistoryPage(command),
+        pointTaskExecutor);
+  }
+}
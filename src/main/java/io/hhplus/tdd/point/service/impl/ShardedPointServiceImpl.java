@@ -0,0 +1,493 @@
+package io.hhplus.tdd.point.service.impl;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.error.RetryLaterException;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.dto.UserPointCommand.GetUserPointHistories;
+import io.hhplus.tdd.point.dto.UserPointCommand.GetUserPointHistoryPage;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.type.TransactionType;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자 ID 를 hash 하여 고정된 shard 에 배정하고, shard 마다 하나의 event loop 스레드가 배정된 사용자의 잔액을 단독으로
+ * 관리합니다.
+ * <p>
+ * 잔액은 shard 가 소유한 map 에 보관하며 해당 shard 의 스레드만 읽고 변경하므로 lock 이나 shard 간 조정이 없습니다. event
+ * loop 는 I/O 를 기다리지 않도록 잔액 조회/기록과 내역 기록을 point executor 에 맡기고, 결과는 다시 해당 shard 의 event
+ * loop 에서 반영합니다. 잔액은 사용자당 하나의 기록 작업이 최신 값만 Table 에 기록하며, 내역도 사용자당 하나의 기록 작업이
+ * 잔액에 반영된 순서대로 기록합니다.
+ * <p>
+ * shard 의 대기열이 가득 차거나 point executor 가 I/O 를 거절하면 잔액을 변경하기 전에 요청을 거절합니다. (POINT_SHARD_BUSY)
+ * event loop 에서 직접 I/O 를 수행하면 같은 shard 의 모든 사용자가 멈추기 때문입니다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "point.service", name = "mode", havingValue = "sharded")
+public class ShardedPointServiceImpl implements PointService {
+
+  private static final Logger log = LoggerFactory.getLogger(ShardedPointServiceImpl.class);
+
+  private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+  private static final long CLOSE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+  private final PointRepository pointRepository;
+  private final PointHistoryRepository pointHistoryRepository;
+  private final Executor pointTaskExecutor;
+  private final int queueCapacity;
+  private final Duration retryAfter;
+  private final Shard[] shards;
+  /**
+   * event loop 에서 point executor 에 맡긴 뒤 결과가 아직 반영되지 않은 I/O 작업 수
+   */
+  private final AtomicInteger pendingIo = new AtomicInteger();
+  private volatile boolean closed;
+
+  @Autowired
+  public ShardedPointServiceImpl(PointRepository pointRepository,
+      PointHistoryRepository pointHistoryRepository,
+      @Qualifier("pointTaskExecutor") Executor pointTaskExecutor,
+      PointProperties pointProperties) {
+    this(pointRepository, pointHistoryRepository, pointTaskExecutor,
+        pointProperties.sharded().shards() > 0 ? pointProperties.sharded().shards()
+            : Runtime.getRuntime().availableProcessors(),
+        pointProperties.sharded().queueCapacity(), pointProperties.sharded().retryAfter());
+  }
+
+  ShardedPointServiceImpl(PointRepository pointRepository,
+      PointHistoryRepository pointHistoryRepository, Executor pointTaskExecutor, int shardCount,
+      int queueCapacity, Duration retryAfter) {
+    this.pointRepository = pointRepository;
+    this.pointHistoryRepository = pointHistoryRepository;
+    this.pointTaskExecutor = pointTaskExecutor;
+    this.queueCapacity = queueCapacity;
+    this.retryAfter = retryAfter;
+    this.shards = new Shard[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      shards[i] = new Shard(i);
+    }
+  }
+
+  @Override
+  public UserPoint charge(UserPointCommand.Charge command) {
+    return await(chargeAsync(command));
+  }
+
+  @Override
+  public UserPoint use(UserPointCommand.Use command) {
+    return await(useAsync(command));
+  }
+
+  @Override
+  public UserPoint getUserPoint(UserPointCommand.GetUserPoint command) {
+    return await(getUserPointAsync(command));
+  }
+
+  @Override
+  public List<PointHistory> getUserPointHistories(GetUserPointHistories command) {
+    return pointHistoryRepository.findAllByUserId(command.userId());
+  }
+
+  @Override
+  public PointHistoryPage getUserPointHistoryPage(GetUserPointHistoryPage command) {
+    return PointHistoryPageReader.read(pointHistoryRepository, command);
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> chargeAsync(UserPointCommand.Charge command) {
+    return submit(command.userId(), (shard, account, result) -> apply(shard, account,
+        TransactionType.CHARGE, command.amount(), result));
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> useAsync(UserPointCommand.Use command) {
+    return submit(command.userId(), (shard, account, result) -> apply(shard, account,
+        TransactionType.USE, command.amount(), result));
+  }
+
+  @Override
+  public CompletableFuture<UserPoint> getUserPointAsync(UserPointCommand.GetUserPoint command) {
+    return submit(command.userId(),
+        (shard, account, result) -> result.complete(account.current));
+  }
+
+  @Override
+  public CompletableFuture<List<PointHistory>> getUserPointHistoriesAsync(
+      GetUserPointHistories command) {
+    return CompletableFuture.supplyAsync(() -> getUserPointHistories(command), pointTaskExecutor);
+  }
+
+  @Override
+  public CompletableFuture<PointHistoryPage> getUserPointHistoryPageAsync(
+      GetUserPointHistoryPage command) {
+    return CompletableFuture.supplyAsync(() -> getUserPointHistoryPage(command),
+        pointTaskExecutor);
+  }
+
+  /**
+   * shard 수
+   */
+  public int shardCount() {
+    return shards.length;
+  }
+
+  /**
+   * 새 요청을 받지 않고 처리 중인 요청과 Table 기록이 끝나기를 기다린 뒤 event loop 를 종료합니다. - 기록에 실패한 잔액은
+   * 마지막으로 한 번 더 기록합니다.
+   */
+  @PreDestroy
+  public void close() throws InterruptedException, ExecutionException, TimeoutException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    final long deadline = System.nanoTime() + CLOSE_TIMEOUT_NANOS;
+    // NOTE: 이미 적재된 요청이 모두 실행된 뒤, I/O 결과 반영 중 등록된 기록 작업까지 끝날 때까지 기다립니다.
+    for (Shard shard : shards) {
+      shard.loop.submit(() -> null).get(remaining(deadline), TimeUnit.NANOSECONDS);
+    }
+    while (pendingIo.get() > 0 && remaining(deadline) > 0) {
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+    for (Shard shard : shards) {
+      shard.loop.shutdown();
+    }
+    for (Shard shard : shards) {
+      shard.loop.awaitTermination(remaining(deadline), TimeUnit.NANOSECONDS);
+    }
+
+    for (Shard shard : shards) {
+      shard.accounts.values().stream()
+          .filter(account -> account.dirty && !account.pushing)
+          .forEach(account -> write(account.current));
+    }
+  }
+
+  private static long remaining(long deadline) {
+    return Math.max(deadline - System.nanoTime(), 0);
+  }
+
+  private CompletableFuture<UserPoint> submit(long userId, Task task) {
+    final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+    final Shard shard = shardOf(userId);
+    if (closed) {
+      result.completeExceptionally(new BusinessException(PointErrorCode.POINT_SERVICE_CLOSED));
+      return result;
+    }
+    // NOTE: I/O 결과 반영은 항상 적재되어야 하므로 요청만 대기열 크기를 제한합니다.
+    if (shard.loop.getQueue().size() >= queueCapacity) {
+      result.completeExceptionally(busy());
+      return result;
+    }
+
+    try {
+      shard.loop.execute(() -> withAccount(shard, userId, task, result));
+    } catch (RejectedExecutionException e) {
+      result.completeExceptionally(new BusinessException(PointErrorCode.POINT_SERVICE_CLOSED));
+    }
+    return result;
+  }
+
+  private Shard shardOf(long userId) {
+    final long hash = userId * HASH_MULTIPLIER;
+    return shards[(int) ((hash >>> 32) * shards.length >>> 32)];
+  }
+
+  /**
+   * 사용자의 잔액을 읽은 뒤 작업을 실행합니다. - 아직 잔액을 읽지 않은 사용자의 작업은 읽기가 끝날 때까지 적재해 둡니다.
+   */
+  private void withAccount(Shard shard, long userId, Task task,
+      CompletableFuture<UserPoint> result) {
+    Account account = shard.accounts.get(userId);
+    if (account == null) {
+      account = new Account();
+      shard.accounts.put(userId, account);
+      account.waiting.add(new Waiting(task, result));
+      load(shard, userId, account);
+      return;
+    }
+
+    if (account.waiting != null) {
+      account.waiting.add(new Waiting(task, result));
+      return;
+    }
+    task.run(shard, account, result);
+  }
+
+  private void load(Shard shard, long userId, Account account) {
+    final boolean submitted = io(shard, () -> {
+      try {
+        final UserPoint userPoint = pointRepository.findById(userId)
+            .orElseGet(() -> UserPoint.empty(userId));
+        return () -> loaded(shard, account, userPoint);
+      } catch (RuntimeException e) {
+        return () -> loadFailed(shard, userId, account, e);
+      }
+    });
+    if (!submitted) {
+      loadFailed(shard, userId, account, busy());
+    }
+  }
+
+  private void loaded(Shard shard, Account account, UserPoint userPoint) {
+    account.current = userPoint;
+    final List<Waiting> waiting = account.waiting;
+    account.waiting = null;
+    waiting.forEach(it -> it.task.run(shard, account, it.result));
+  }
+
+  private void loadFailed(Shard shard, long userId, Account account, RuntimeException e) {
+    // NOTE: 잔액을 읽지 못한 사용자는 제거하여 다음 요청에서 다시 읽습니다.
+    shard.accounts.remove(userId);
+    account.waiting.forEach(it -> it.result.completeExceptionally(e));
+  }
+
+  private void apply(Shard shard, Account account, TransactionType type, long amount,
+      CompletableFuture<UserPoint> result) {
+    final UserPoint userPoint;
+    try {
+      userPoint = type == TransactionType.CHARGE ? account.current.addPoint(amount)
+          : account.current.usePoint(amount);
+    } catch (BusinessException e) {
+      result.completeExceptionally(e);
+      return;
+    }
+
+    // NOTE: 내역이 기록된 뒤 요청을 완료하여, 완료된 요청의 내역은 바로 조회됩니다. 내역 기록을 맡기지 못하면 잔액을
+    //  변경하지 않고 거절합니다.
+    final PendingHistory history = new PendingHistory(
+        PointHistory.from(userPoint.id(), amount, type, userPoint.updateMillis()), userPoint,
+        result);
+    account.histories.add(history);
+    if (!record(account)) {
+      account.histories.remove(history);
+      account.recording.set(false);
+      result.completeExceptionally(busy());
+      return;
+    }
+    account.current = userPoint;
+    account.dirty = true;
+    push(shard, account);
+  }
+
+  /**
+   * 기록 중이 아니면 최신 잔액을 Table 에 기록합니다. - 기록이 끝나면 그 사이에 변경된 잔액을 다시 기록합니다.
+   */
+  private void push(Shard shard, Account account) {
+    if (account.pushing || !account.dirty) {
+      return;
+    }
+
+    account.pushing = true;
+    account.dirty = false;
+    final UserPoint userPoint = account.current;
+    final boolean submitted = io(shard, () -> {
+      final boolean written = write(userPoint);
+      return () -> {
+        account.pushing = false;
+        if (written) {
+          push(shard, account);
+        } else {
+          // NOTE: 기록에 실패한 잔액은 남겨두고 다음 변경 또는 종료 시 다시 기록합니다.
+          account.dirty = true;
+        }
+      };
+    });
+    if (!submitted) {
+      // NOTE: 기록을 맡기지 못한 잔액도 남겨두고 다음 변경 또는 종료 시 다시 기록합니다.
+      account.pushing = false;
+      account.dirty = true;
+    }
+  }
+
+  /**
+   * 기록 중이 아니면 적재된 내역을 point executor 에서 적재된 순서대로 기록합니다. - 기록 중이면 기록 중인 작업이 이어서
+   * 기록합니다.
+   *
+   * @return point executor 가 기록을 거절한 경우 false - 기록 중인 상태로 남으므로 호출한 쪽에서 해제합니다.
+   */
+  private boolean record(Account account) {
+    if (!account.recording.compareAndSet(false, true)) {
+      return true;
+    }
+    try {
+      pointTaskExecutor.execute(() -> recordHistories(account));
+      return true;
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+  }
+
+  private void recordHistories(Account account) {
+    // NOTE: 기록 중인 상태를 해제한 뒤 적재된 내역이 남아 있다면, event loop 가 이를 보지 못했을 수 있으므로 이어서
+    //  기록합니다.
+    do {
+      PendingHistory history;
+      while ((history = account.histories.poll()) != null) {
+        try {
+          pointHistoryRepository.insert(history.pointHistory());
+          history.result().complete(history.userPoint());
+        } catch (RuntimeException e) {
+          history.result().completeExceptionally(e);
+        }
+      }
+      account.recording.set(false);
+    } while (!account.histories.isEmpty() && account.recording.compareAndSet(false, true));
+  }
+
+  private boolean write(UserPoint userPoint) {
+    try {
+      pointRepository.update(userPoint);
+      return true;
+    } catch (RuntimeException e) {
+      log.warn("failed to write user point. userId={}", userPoint.id(), e);
+      return false;
+    }
+  }
+
+  /**
+   * I/O 를 point executor 에서 수행한 뒤, 반환된 작업을 다시 shard 의 event loop 에서 실행합니다.
+   *
+   * @return point executor 가 I/O 를 거절한 경우 false - event loop 에서 직접 수행하지 않습니다.
+   */
+  private boolean io(Shard shard, IoTask task) {
+    pendingIo.incrementAndGet();
+    try {
+      pointTaskExecutor.execute(() -> {
+        final Runnable callback = task.call();
+        try {
+          shard.loop.execute(() -> {
+            try {
+              callback.run();
+            } finally {
+              pendingIo.decrementAndGet();
+            }
+          });
+        } catch (RejectedExecutionException e) {
+          // NOTE: 종료 대기 시간을 초과한 경우에만 발생하며, 반영하지 못한 잔액은 종료 시 기록하지 않습니다.
+          log.warn("point shard is already closed. shard={}", shard.index, e);
+          pendingIo.decrementAndGet();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      pendingIo.decrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  private RetryLaterException busy() {
+    return new RetryLaterException(PointErrorCode.POINT_SHARD_BUSY, retryAfter);
+  }
+
+  private UserPoint await(CompletableFuture<UserPoint> result) {
+    try {
+      return result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * shard 의 event loop 에서 사용자의 잔액으로 실행하는 작업
+   */
+  @FunctionalInterface
+  private interface Task {
+
+    void run(Shard shard, Account account, CompletableFuture<UserPoint> result);
+  }
+
+  /**
+   * point executor 에서 I/O 를 수행한 뒤 event loop 에서 실행할 작업을 반환합니다.
+   */
+  @FunctionalInterface
+  private interface IoTask {
+
+    Runnable call();
+  }
+
+  private static final class Shard {
+
+    private final int index;
+    private final ThreadPoolExecutor loop;
+    /**
+     * 사용자별 잔액 - event loop 스레드에서만 접근합니다.
+     */
+    private final Map<Long, Account> accounts = new HashMap<>();
+
+    private Shard(int index) {
+      this.index = index;
+      this.loop = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+          new LinkedBlockingQueue<>(), runnable -> {
+        final Thread thread = new Thread(runnable, "point-shard-" + index);
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
+  private static final class Account {
+
+    private UserPoint current;
+    /**
+     * 잔액을 읽는 동안 적재된 작업 - 잔액을 읽은 뒤에는 null 입니다.
+     */
+    private List<Waiting> waiting = new ArrayList<>();
+    private boolean dirty;
+    private boolean pushing;
+    /**
+     * 기록할 내역 - event loop 에서 적재하고, 기록 중인 상태를 획득한 하나의 작업이 적재된 순서대로 기록합니다.
+     */
+    private final Queue<PendingHistory> histories = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean recording = new AtomicBoolean();
+  }
+
+  private record PendingHistory(
+      PointHistory pointHistory,
+      UserPoint userPoint,
+      CompletableFuture<UserPoint> result
+  ) {
+
+  }
+
+  private record Waiting(
+      Task task,
+      CompletableFuture<UserPoint> result
+  ) {
+
+  }
+}
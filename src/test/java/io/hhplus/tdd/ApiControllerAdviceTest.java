@@ -0,0 +1,176 @@
+package io.hhplus.tdd;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.error.RetryLaterException;
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.lock.impl.InMemoryLeaseLockClient;
+import io.hhplus.tdd.point.lock.impl.LeaseLockRegistry;
+import io.hhplus.tdd.point.lock.impl.RefCountedLockRegistry;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointRepository;
+import io.hhplus.tdd.point.repository.impl.WriteBehindPointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.WriteBehindPointHistoryRepository.Durability;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.impl.PointServiceImpl;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+class ApiControllerAdviceTest {
+
+  private final FailingController controller = new FailingController();
+
+  private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+      .setControllerAdvice(new ApiControllerAdvice())
+      .build();
+
+  @ParameterizedTest
+  @EnumSource(PointErrorCode.class)
+  @DisplayName("비동기 처리 중 발생한 BusinessException 은 에러 코드의 상태와 코드로 응답")
+  void shouldRespondWithErrorCodeStatus(PointErrorCode errorCode) throws Exception {
+    // given
+    controller.action = () -> CompletableFuture.failedFuture(new BusinessException(errorCode));
+
+    // when
+    final ResultActions result = perform();
+
+    // then
+    result.andExpect(status().is(errorCode.getStatus().value()))
+        .andExpect(jsonPath("$.code").value(errorCode.getCode()))
+        .andExpect(jsonPath("$.message").value(errorCode.getMessage()))
+        .andExpect(header().doesNotExist(HttpHeaders.RETRY_AFTER));
+  }
+
+  @Test
+  @DisplayName("요청 스레드에서 발생한 BusinessException 도 에러 코드의 상태로 응답")
+  void shouldRespondWithErrorCodeStatusWhenThrownSynchronously() throws Exception {
+    // given
+    controller.action = () -> {
+      throw new BusinessException(PointErrorCode.INVALID_AMOUNT);
+    };
+
+    // when
+    final ResultActions result = mockMvc.perform(patch("/fail"));
+
+    // then
+    result.andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value(PointErrorCode.INVALID_AMOUNT.getCode()));
+  }
+
+  @Test
+  @DisplayName("잠시 후 다시 시도할 수 있는 요청은 Retry-After 헤더를 초 단위로 올림하여 응답")
+  void shouldRespondWithRetryAfterInSeconds() throws Exception {
+    // given
+    controller.action = () -> CompletableFuture.failedFuture(new RetryLaterException(
+        PointErrorCode.POINT_TOO_MANY_REQUESTS, Duration.ofMillis(1_500)));
+
+    // when
+    final ResultActions result = perform();
+
+    // then
+    result.andExpect(status().isTooManyRequests())
+        .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+  }
+
+  @Test
+  @DisplayName("BusinessException 이 아닌 예외는 500 으로 응답")
+  void shouldRespondWithInternalServerErrorForUnexpectedException() throws Exception {
+    // given
+    controller.action = () -> CompletableFuture.failedFuture(new IllegalStateException("boom"));
+
+    // when
+    final ResultActions result = perform();
+
+    // then
+    result.andExpect(status().isInternalServerError())
+        .andExpect(jsonPath("$.code").value("500"));
+  }
+
+  @Test
+  @DisplayName("포인트 내역 기록이 종료된 뒤의 충전은 503 POINT_HISTORY_WRITER_CLOSED 로 응답")
+  void shouldRespondWithServiceUnavailableWhenHistoryWriterIsClosed() throws Exception {
+    // given
+    final PointRepository pointRepository = mock(PointRepository.class);
+    doReturn(Optional.of(UserPoint.empty(1L))).when(pointRepository).findById(1L);
+    doAnswer(invocation -> invocation.getArgument(0)).when(pointRepository).update(any());
+    final WriteBehindPointHistoryRepository pointHistoryRepository =
+        new WriteBehindPointHistoryRepository(mock(PointHistoryRepository.class), 1, 1,
+            Durability.ACK_ON_ENQUEUE, Duration.ofMillis(10));
+    pointHistoryRepository.close();
+    final PointService pointService = new PointServiceImpl(pointRepository,
+        pointHistoryRepository, new RefCountedLockRegistry(), Runnable::run);
+    controller.action = () -> pointService.chargeAsync(UserPointCommand.Charge.from(1L, 100L));
+
+    // when
+    final ResultActions result = perform();
+
+    // then
+    result.andExpect(status().isServiceUnavailable())
+        .andExpect(jsonPath("$.code").value(PointErrorCode.POINT_HISTORY_WRITER_CLOSED.getCode()));
+  }
+
+  @Test
+  @DisplayName("다른 서버가 lease 를 보유하여 대기 시간을 초과한 충전은 503 POINT_LOCK_TIMEOUT 으로 응답")
+  void shouldRespondWithServiceUnavailableWhenLeaseWaitTimesOut() throws Exception {
+    // given
+    final InMemoryLeaseLockClient leaseLockClient = new InMemoryLeaseLockClient();
+    leaseLockClient.tryAcquire("1", "other-node", Duration.ofSeconds(5).toMillis());
+    final PointRepository pointRepository = mock(PointRepository.class);
+    final PointService pointService = new PointServiceImpl(pointRepository,
+        mock(PointHistoryRepository.class), new LeaseLockRegistry(leaseLockClient,
+        Duration.ofSeconds(5), Duration.ofMillis(50), true), Runnable::run);
+    controller.action = () -> pointService.chargeAsync(UserPointCommand.Charge.from(1L, 100L));
+
+    // when
+    final ResultActions result = perform();
+
+    // then
+    result.andExpect(status().isServiceUnavailable())
+        .andExpect(jsonPath("$.code").value(PointErrorCode.POINT_LOCK_TIMEOUT.getCode()));
+    verifyNoInteractions(pointRepository);
+  }
+
+  private ResultActions perform() throws Exception {
+    final MvcResult started = mockMvc.perform(patch("/fail"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    return mockMvc.perform(asyncDispatch(started));
+  }
+
+  @RestController
+  static class FailingController {
+
+    private Supplier<CompletableFuture<?>> action;
+
+    @PatchMapping("/fail")
+    public CompletableFuture<?> fail() {
+      return action.get();
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package io.hhplus.tdd.point.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+class PointHistoryRestartTest {
+
+  @TempDir
+  private Path directory;
+
+  @Test
+  @DisplayName("mapped 저장소는 index 설정과 관계없이 재시작 후에도 이전 내역과 새 내역을 함께 조회")
+  void shouldFindHistoriesRecordedBeforeRestartWithIndexEnabled() {
+    // given
+    try (ConfigurableApplicationContext before = start()) {
+      final PointHistoryRepository repository = before.getBean(PointHistoryRepository.class);
+      repository.insert(PointHistory.from(1L, 100L, TransactionType.CHARGE, 1000L));
+      repository.insert(PointHistory.from(2L, 200L, TransactionType.CHARGE, 1001L));
+      repository.insert(PointHistory.from(1L, 50L, TransactionType.USE, 1002L));
+    }
+
+    // when
+    try (ConfigurableApplicationContext after = start()) {
+      final PointHistoryRepository repository = after.getBean(PointHistoryRepository.class);
+      repository.insert(PointHistory.from(1L, 30L, TransactionType.CHARGE, 2000L));
+
+      // then
+      assertThat(repository.findAllByUserId(1L)).extracting(PointHistory::id)
+          .containsExactly(1L, 3L, 4L);
+      assertThat(repository.findAllByUserId(2L)).extracting(PointHistory::amount)
+          .containsExactly(200L);
+      assertThat(repository.findAllByQuery(new PointHistoryQuery(1L, 1L, null, null, null, 10)))
+          .extracting(PointHistory::id)
+          .containsExactly(3L, 4L);
+    }
+  }
+
+  private ConfigurableApplicationContext start() {
+    return new SpringApplicationBuilder(TddApplication.class)
+        .web(WebApplicationType.NONE)
+        .run("--point.history.store=mapped",
+            "--point.history.index.enabled=true",
+            "--point.history.mapped.directory=" + directory);
+  }
+}
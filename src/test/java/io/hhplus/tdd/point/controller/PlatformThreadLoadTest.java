@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.context.annotation.Import;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@Import(PointLoadTestSupport.InFlightCounterConfig.class)
+class PlatformThreadLoadTest extends PointLoadTestSupport {
+
+  @Test
+  @DisplayName("platform thread 모드 - 동시 처리 요청 수 측정")
+  void measurePlatformThreadInFlightRequests() {
+    measureInFlightRequests("platform");
+  }
+}
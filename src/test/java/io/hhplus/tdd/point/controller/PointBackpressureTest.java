@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "point.lock.registry=bounded",
+    "point.lock.bounded.max-pending=1",
+    "point.lock.bounded.wait-time=0s",
+    "point.lock.bounded.retry-after=1500ms"
+})
+class PointBackpressureTest {
+
+  @LocalServerPort
+  private int port;
+
+  private final HttpClient client = HttpClient.newHttpClient();
+
+  @Test
+  @DisplayName("한 사용자에게 요청이 몰리면 초과한 요청은 429 와 Retry-After 로 거절하고 다른 사용자는 처리")
+  void shouldRejectOverflowWithTooManyRequests() {
+    // given
+    final long userId = 9_201L;
+
+    // when
+    final List<HttpResponse<String>> responses = IntStream.range(0, 10)
+        .mapToObj(i -> client.sendAsync(charge(userId), BodyHandlers.ofString()))
+        .toList()
+        .stream()
+        .map(CompletableFuture::join)
+        .toList();
+    final HttpResponse<String> otherUser =
+        client.sendAsync(charge(9_202L), BodyHandlers.ofString()).join();
+
+    // then
+    assertThat(responses).anyMatch(response -> response.statusCode() == 200);
+    final List<HttpResponse<String>> rejected = responses.stream()
+        .filter(response -> response.statusCode() == 429)
+        .toList();
+    assertThat(rejected).isNotEmpty().allSatisfy(response -> {
+      assertThat(response.headers().firstValue("Retry-After")).contains("2");
+      assertThat(response.body()).contains("POINT_TOO_MANY_REQUESTS");
+    });
+    assertThat(otherUser.statusCode()).isEqualTo(200);
+  }
+
+  private HttpRequest charge(long userId) {
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + userId
+            + "/charge"))
+        .header("Content-Type", "application/json")
+        .method("PATCH", BodyPublishers.ofString("100"))
+        .build();
+  }
+}
@@ -0,0 +1,84 @@
+package io.hhplus.tdd.point.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "point.history.index.enabled=true")
+class PointHistoryExportTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private PointHistoryRepository pointHistoryRepository;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private final HttpClient client = HttpClient.newHttpClient();
+
+  @Test
+  @DisplayName("포인트 내역을 한 줄에 하나씩 내려주고, 마지막으로 받은 내역 이후부터 이어서 받을 수 있음")
+  void shouldExportHistoriesAsNdjsonAndResumeAfterCursor() throws Exception {
+    // given
+    final long userId = 1L;
+    final List<PointHistory> pointHistories = List.of(
+        pointHistoryRepository.insert(PointHistory.from(userId, 100L, TransactionType.CHARGE,
+            System.currentTimeMillis())),
+        pointHistoryRepository.insert(PointHistory.from(userId, 50L, TransactionType.USE,
+            System.currentTimeMillis())),
+        pointHistoryRepository.insert(PointHistory.from(userId, 30L, TransactionType.CHARGE,
+            System.currentTimeMillis())));
+    pointHistoryRepository.insert(PointHistory.from(2L, 10L, TransactionType.CHARGE,
+        System.currentTimeMillis()));
+
+    // when
+    final HttpResponse<String> all = export("/point/" + userId + "/histories/export");
+    final HttpResponse<String> resumed = export(
+        "/point/" + userId + "/histories/export?after=" + pointHistories.get(0).id());
+
+    // then
+    assertThat(all.statusCode()).isEqualTo(200);
+    assertThat(all.headers().firstValue("Content-Type")).hasValue("application/x-ndjson");
+    assertThat(all.body().lines()).allMatch(line -> line.startsWith("{"));
+    assertThat(parse(all.body())).containsExactlyElementsOf(pointHistories);
+    assertThat(parse(resumed.body())).containsExactlyElementsOf(pointHistories.subList(1, 3));
+  }
+
+  private HttpResponse<String> export(String path) throws IOException, InterruptedException {
+    return client.send(HttpRequest.newBuilder()
+            .uri(URI.create("http://localhost:" + port + path))
+            .GET()
+            .build(),
+        HttpResponse.BodyHandlers.ofString());
+  }
+
+  private List<PointHistory> parse(String body) {
+    return body.lines()
+        .map(line -> {
+          try {
+            return objectMapper.readValue(line, PointHistory.class);
+          } catch (IOException e) {
+            throw new IllegalStateException(e);
+          }
+        })
+        .toList();
+  }
+}
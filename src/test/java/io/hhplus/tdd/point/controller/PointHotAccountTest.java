@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+// NOTE: 사용자별 lock 을 거치지 않는 처리 방식에서도 요청이 추적되는지 검증합니다.
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "point.service.mode=sharded",
+    "point.hot-account.enabled=true"
+})
+class PointHotAccountTest {
+
+  @LocalServerPort
+  private int port;
+
+  private final HttpClient client = HttpClient.newHttpClient();
+
+  @Test
+  @DisplayName("사용자별 lock 을 사용하지 않는 처리 방식에서도 충전/사용 요청을 사용자별로 추적")
+  void shouldTrackRequestsWithoutUserLock() throws Exception {
+    // given
+    final long userId = 9_101L;
+    for (int i = 0; i < 3; i++) {
+      patch("/point/" + userId + "/charge", 100L);
+    }
+    patch("/point/" + userId + "/use", 100L);
+
+    // when
+    final HttpResponse<String> response = client.send(
+        HttpRequest.newBuilder(uri("/admin/point/hot-accounts?limit=1")).GET().build(),
+        BodyHandlers.ofString());
+
+    // then
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(response.body())
+        .contains("\"userId\":" + userId)
+        .contains("\"requests\":4")
+        .contains("\"pending\":0");
+  }
+
+  private void patch(String path, long amount) throws Exception {
+    client.send(HttpRequest.newBuilder(uri(path))
+            .header("Content-Type", "application/json")
+            .method("PATCH", BodyPublishers.ofString(Long.toString(amount)))
+            .build(),
+        BodyHandlers.discarding());
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+}
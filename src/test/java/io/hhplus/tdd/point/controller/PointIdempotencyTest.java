@@ -0,0 +1,81 @@
+package io.hhplus.tdd.point.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+class PointIdempotencyTest {
+
+  @LocalServerPort
+  private int port;
+
+  private final HttpClient client = HttpClient.newHttpClient();
+
+  @Test
+  @DisplayName("같은 Idempotency-Key 로 동시에/다시 보낸 충전 요청은 한 번만 충전")
+  void shouldChargeOnceForSameIdempotencyKey() throws Exception {
+    // given
+    final long userId = 9_101L;
+
+    // when
+    final List<CompletableFuture<HttpResponse<String>>> retries = IntStream.range(0, 5)
+        .mapToObj(i -> client.sendAsync(charge(userId, 100L, "charge-1"), BodyHandlers.ofString()))
+        .toList();
+    final List<String> bodies = retries.stream().map(CompletableFuture::join)
+        .map(HttpResponse::body)
+        .toList();
+    final HttpResponse<String> retried = client.send(charge(userId, 100L, "charge-1"),
+        BodyHandlers.ofString());
+    final String point = client.send(HttpRequest.newBuilder(uri("/point/" + userId)).GET().build(),
+        BodyHandlers.ofString()).body();
+
+    // then
+    assertThat(bodies).containsOnly(bodies.get(0));
+    assertThat(retried.body()).isEqualTo(bodies.get(0));
+    assertThat(point).contains("\"point\":100");
+  }
+
+  @Test
+  @DisplayName("Idempotency-Key 가 없으면 요청마다 충전")
+  void shouldChargeEveryRequestWithoutIdempotencyKey() throws Exception {
+    // given
+    final long userId = 9_102L;
+
+    // when
+    client.send(charge(userId, 100L, null), BodyHandlers.discarding());
+    client.send(charge(userId, 100L, null), BodyHandlers.discarding());
+    final String point = client.send(HttpRequest.newBuilder(uri("/point/" + userId)).GET().build(),
+        BodyHandlers.ofString()).body();
+
+    // then
+    assertThat(point).contains("\"point\":200");
+  }
+
+  private HttpRequest charge(long userId, long amount, String idempotencyKey) {
+    final HttpRequest.Builder builder = HttpRequest.newBuilder(uri("/point/" + userId + "/charge"))
+        .header("Content-Type", "application/json")
+        .method("PATCH", BodyPublishers.ofString(Long.toString(amount)));
+    if (idempotencyKey != null) {
+      builder.header("Idempotency-Key", idempotencyKey);
+    }
+    return builder.build();
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.tdd.point.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 동시에 많은 요청을 보내고 서버에서 동시에 처리 중인 요청 수(in-flight)의 최대값을 측정합니다.
+ * <p>
+ * -Dbenchmark.requests 로 요청 수를 조절할 수 있습니다. 클라이언트와 서버가 같은 프로세스에서 연결마다 file
+ * descriptor 를 2 개씩 사용하므로, 요청 수는 open files 제한(ulimit -n)의 절반보다 작아야 합니다.
+ */
+abstract class PointLoadTestSupport {
+
+  private static final int REQUESTS = Integer.getInteger("benchmark.requests", 5_000);
+  private static final long USER_KEY_SPACE = 1_000L;
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private InFlightCounter inFlightCounter;
+
+  protected void measureInFlightRequests(String mode) {
+    final HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(30))
+        .build();
+
+    final long start = System.nanoTime();
+    final List<CompletableFuture<HttpResponse<Void>>> responses = IntStream.range(0, REQUESTS)
+        .mapToObj(i -> client.sendAsync(HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + port + "/point/"
+                    + ThreadLocalRandom.current().nextLong(1, USER_KEY_SPACE + 1)))
+                .timeout(Duration.ofMinutes(5))
+                .GET()
+                .build(),
+            HttpResponse.BodyHandlers.discarding()))
+        .toList();
+    CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+    final long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+    System.out.printf("mode=%s, requests=%d, peak in-flight=%d, elapsed=%dms, heap max=%dMB%n",
+        mode, REQUESTS, inFlightCounter.peak(), elapsedMillis,
+        Runtime.getRuntime().maxMemory() / 1024 / 1024);
+    assertThat(responses).allMatch(response -> response.join().statusCode() == 200);
+  }
+
+  @TestConfiguration
+  static class InFlightCounterConfig {
+
+    @Bean
+    InFlightCounter inFlightCounter() {
+      return new InFlightCounter();
+    }
+  }
+
+  static class InFlightCounter extends OncePerRequestFilter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+      peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      boolean async = false;
+      try {
+        filterChain.doFilter(request, response);
+        // NOTE: 비동기로 처리하는 요청은 요청 스레드가 반환된 뒤에도 처리 중이므로 응답이 끝날 때 감소시킵니다.
+        if (request.isAsyncStarted()) {
+          request.getAsyncContext().addListener(new CompletionListener(inFlight));
+          async = true;
+        }
+      } finally {
+        if (!async) {
+          inFlight.decrementAndGet();
+        }
+      }
+    }
+
+    int peak() {
+      return peak.get();
+    }
+  }
+
+  private record CompletionListener(AtomicInteger inFlight) implements AsyncListener {
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      inFlight.decrementAndGet();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+  }
+}
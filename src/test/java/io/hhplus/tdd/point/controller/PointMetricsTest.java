@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
+class PointMetricsTest {
+
+  @LocalServerPort
+  private int port;
+
+  private final HttpClient client = HttpClient.newHttpClient();
+
+  @Test
+  @DisplayName("충전/사용 요청의 처리 시간, lock 대기/보유 시간, 저장소 호출 시간, 거절 사유를 prometheus 형식으로 제공")
+  void shouldExposePointMetricsToPrometheus() throws Exception {
+    // given
+    final long userId = 9_001L;
+    patch("/point/" + userId + "/charge", 100L);
+
+    // when
+    final int status = patch("/point/" + userId + "/use", 1_000L);
+    final String scrape = client.send(
+        HttpRequest.newBuilder(uri("/actuator/prometheus")).GET().build(),
+        BodyHandlers.ofString()).body();
+
+    // then
+    assertThat(status).isNotEqualTo(200);
+    assertThat(scrape)
+        .contains("point_operation_seconds_bucket{operation=\"charge\",outcome=\"success\"")
+        .contains("point_operation_seconds_count{operation=\"use\",outcome=\"rejected\",} 1.0")
+        .contains("point_rejections_total{code=\"POINT_NOT_ENOUGH\",} 1.0")
+        .contains("point_lock_acquire_seconds_bucket")
+        .contains("point_lock_hold_seconds_bucket")
+        .contains("point_lock_live")
+        .contains("point_lock_waiting")
+        .contains("point_repository_seconds_count{method=\"update\",repository=\"point\",} 1.0")
+        .contains("point_repository_seconds_count{method=\"insert\",repository=\"history\",} 1.0");
+  }
+
+  // NOTE: 충전과 일괄 처리로 늘어난 저장소 호출 수가 다른 Test 의 검증에 영향을 주지 않도록 DirtiesContext를 사용합니다.
+  @Test
+  @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+  @DisplayName("내역 페이지 조회, 내역 내려받기, 일괄 처리 요청의 처리 시간도 operation 별로 제공")
+  void shouldExposeHistoryAndBatchOperations() throws Exception {
+    // given
+    final long userId = 9_002L;
+    patch("/point/" + userId + "/charge", 100L);
+
+    // when
+    get("/point/" + userId + "/histories/page");
+    get("/point/" + userId + "/histories/export");
+    client.send(HttpRequest.newBuilder(uri("/point/batch"))
+            .header("Content-Type", "application/json")
+            .POST(BodyPublishers.ofString(
+                "[{\"userId\":" + userId + ",\"type\":\"CHARGE\",\"amount\":10}]"))
+            .build(),
+        BodyHandlers.discarding());
+    final String scrape = get("/actuator/prometheus");
+
+    // then
+    assertThat(scrape)
+        .contains(successCount("history_page"))
+        .contains(successCount("export"))
+        .contains(successCount("batch"));
+  }
+
+  private static String successCount(String operation) {
+    return "point_operation_seconds_count{operation=\"" + operation
+        + "\",outcome=\"success\",} 1.0";
+  }
+
+  private String get(String path) throws Exception {
+    return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), BodyHandlers.ofString())
+        .body();
+  }
+
+  private int patch(String path, long amount) throws Exception {
+    final HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri(path))
+            .header("Content-Type", "application/json")
+            .method("PATCH", BodyPublishers.ofString(Long.toString(amount)))
+            .build(),
+        BodyHandlers.discarding());
+    return response.statusCode();
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+}
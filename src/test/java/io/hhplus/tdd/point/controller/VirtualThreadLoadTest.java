@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * ./gradlew benchmark -Papp.java.version=21 로 실행합니다.
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("virtual")
+@Import(PointLoadTestSupport.InFlightCounterConfig.class)
+class VirtualThreadLoadTest extends PointLoadTestSupport {
+
+  @Test
+  @DisplayName("virtual thread 모드 - 동시 처리 요청 수 측정")
+  void measureVirtualThreadInFlightRequests() {
+    measureInFlightRequests("virtual");
+  }
+}
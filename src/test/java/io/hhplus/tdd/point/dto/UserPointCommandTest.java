@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import io.hhplus.tdd.error.BusinessException;
 import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.type.TransactionType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -185,4 +186,57 @@ class UserPointCommandTest {
     assertThat(result.userId()).isEqualTo(userId);
   }
 
+  @Test
+  @DisplayName("UserPointCommand.GetUserPointHistoryPage 생성 실패 - limit이 최대치 초과")
+  void shouldFailToCreateUserPointCommandGetUserPointHistoryPageWhenLimitIsTooLarge() {
+    // given
+    final Long userId = 1L;
+    final Integer limit = UserPointCommand.GetUserPointHistoryPage.MAX_LIMIT + 1;
+
+    // when
+    final BusinessException result = assertThrows(BusinessException.class,
+        () -> UserPointCommand.GetUserPointHistoryPage.from(userId, null, null, null, null,
+            limit));
+
+    // then
+    assertThat(result.getMessage()).isEqualTo(PointErrorCode.INVALID_PAGE_LIMIT.getMessage());
+  }
+
+  @Test
+  @DisplayName("UserPointCommand.GetUserPointHistoryPage 생성 실패 - 조회 기간의 시작이 끝보다 늦음")
+  void shouldFailToCreateUserPointCommandGetUserPointHistoryPageWhenTimeRangeIsInvalid() {
+    // given
+    final Long userId = 1L;
+    final Long fromMillis = 2000L;
+    final Long toMillis = 1000L;
+
+    // when
+    final BusinessException result = assertThrows(BusinessException.class,
+        () -> UserPointCommand.GetUserPointHistoryPage.from(userId, null, fromMillis, toMillis,
+            null, 20));
+
+    // then
+    assertThat(result.getMessage()).isEqualTo(PointErrorCode.INVALID_TIME_RANGE.getMessage());
+  }
+
+  @Test
+  @DisplayName("UserPointCommand.GetUserPointHistoryPage 생성 성공")
+  void shouldCreateUserPointCommandGetUserPointHistoryPage() {
+    // given
+    final Long userId = 1L;
+    final Long after = 10L;
+    final Integer limit = 20;
+
+    // when
+    final UserPointCommand.GetUserPointHistoryPage result =
+        UserPointCommand.GetUserPointHistoryPage.from(userId, after, null, null,
+            TransactionType.CHARGE, limit);
+
+    // then
+    assertThat(result.userId()).isEqualTo(userId);
+    assertThat(result.after()).isEqualTo(after);
+    assertThat(result.type()).isEqualTo(TransactionType.CHARGE);
+    assertThat(result.limit()).isEqualTo(limit);
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package io.hhplus.tdd.point.hotspot.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.point.dto.HotAccount;
+import io.hhplus.tdd.point.hotspot.HotAccountTracker.Ticket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SpaceSavingHotAccountTrackerTest {
+
+  private final SpaceSavingHotAccountTracker target =
+      new SpaceSavingHotAccountTracker(64, Duration.ZERO, 3);
+
+  @AfterEach
+  void tearDown() {
+    target.close();
+  }
+
+  @Test
+  @DisplayName("추적 가능한 사용자 수 이내에서는 요청 수를 정확히 세고 많은 순으로 조회")
+  void shouldCountExactlyWithinCapacity() {
+    // given
+    request(1L, 3);
+    request(2L, 5);
+    request(3L, 1);
+
+    // when
+    final List<HotAccount> top = target.top(2);
+
+    // then
+    assertThat(top).extracting(HotAccount::userId).containsExactly(2L, 1L);
+    assertThat(top).extracting(HotAccount::requests).containsExactly(5L, 3L);
+    assertThat(top).extracting(HotAccount::overestimation).containsOnly(0L);
+  }
+
+  @Test
+  @DisplayName("추적 가능한 사용자 수보다 많은 사용자가 요청해도 요청이 몰리는 사용자는 상위에 남음")
+  void shouldKeepHeavyHitterAmongLongTail() {
+    // given
+    final long hotUserId = 7L;
+    for (long userId = 1_000L; userId < 101_000L; userId++) {
+      request(userId, 1);
+      if (userId % 10 == 0) {
+        request(hotUserId, 1);
+      }
+    }
+
+    // when
+    final List<HotAccount> top = target.top(1);
+
+    // then
+    assertThat(top).hasSize(1);
+    final HotAccount hot = top.get(0);
+    assertThat(hot.userId()).isEqualTo(hotUserId);
+    assertThat(hot.requests()).isGreaterThanOrEqualTo(10_000L);
+    assertThat(hot.requests() - hot.overestimation()).isLessThanOrEqualTo(10_000L);
+    assertThat(target.top(1_000)).hasSizeLessThanOrEqualTo(64);
+  }
+
+  @Test
+  @DisplayName("요청이 도착했을 때의 대기열 길이와 lock 대기 시간을 사용자별로 기록")
+  void shouldRecordQueueLengthAndLockWait() {
+    // given
+    final Ticket first = target.enter(1L);
+    final Ticket second = target.enter(1L);
+    final Ticket third = target.enter(1L);
+
+    // when
+    target.lockAcquired(1L, TimeUnit.MILLISECONDS.toNanos(0));
+    first.exit();
+    target.lockAcquired(1L, TimeUnit.MILLISECONDS.toNanos(10));
+    second.exit();
+    target.lockAcquired(1L, TimeUnit.MILLISECONDS.toNanos(20));
+    final HotAccount hot = target.top(1).get(0);
+
+    // then
+    assertThat(hot.requests()).isEqualTo(3);
+    assertThat(hot.averageQueueLength()).isEqualTo(1.0);
+    assertThat(hot.maxQueueLength()).isEqualTo(2);
+    assertThat(hot.averageLockWaitMillis()).isEqualTo(10.0);
+    assertThat(hot.pending()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("주기적으로 요청 수를 절반으로 줄여 최근 요청이 순위에 반영")
+  void shouldHalveRequestsOnDecay() {
+    // given
+    request(1L, 8);
+    target.decay();
+
+    // when
+    request(2L, 5);
+    final List<HotAccount> top = target.top(2);
+
+    // then
+    assertThat(top).extracting(HotAccount::userId).containsExactly(2L, 1L);
+    assertThat(top).extracting(HotAccount::requests).containsExactly(5L, 4L);
+  }
+
+  @Test
+  @DisplayName("상위 사용자를 순위별 gauge 로 제공")
+  void shouldExposeRanksAsGauges() {
+    // given
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    target.bindTo(meterRegistry);
+    request(1L, 2);
+    request(2L, 4);
+
+    // when
+    final double first = meterRegistry.get("point.hot.account.user").tag("rank", "1")
+        .gauge().value();
+    final double second = meterRegistry.get("point.hot.account.requests").tag("rank", "2")
+        .gauge().value();
+    final double third = meterRegistry.get("point.hot.account.user").tag("rank", "3")
+        .gauge().value();
+
+    // then
+    assertThat(first).isEqualTo(2);
+    assertThat(second).isEqualTo(2);
+    assertThat(third).isZero();
+  }
+
+  @Test
+  @DisplayName("추적 중이지 않은 사용자의 lock 대기 시간은 기록하지 않음")
+  void shouldIgnoreLockWaitOfUntrackedUser() {
+    // given
+    request(1L, 1);
+
+    // when
+    target.lockAcquired(2L, TimeUnit.MILLISECONDS.toNanos(10));
+    final List<HotAccount> top = target.top(2);
+
+    // then
+    assertThat(top).extracting(HotAccount::userId).containsExactly(1L);
+    assertThat(top.get(0).averageLockWaitMillis()).isZero();
+  }
+
+  private void request(long userId, int count) {
+    for (int i = 0; i < count; i++) {
+      target.enter(userId).exit();
+    }
+  }
+}
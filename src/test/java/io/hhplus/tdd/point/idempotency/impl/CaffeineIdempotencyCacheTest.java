@@ -0,0 +1,180 @@
+package io.hhplus.tdd.point.idempotency.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CaffeineIdempotencyCacheTest {
+
+  private final CaffeineIdempotencyCache target =
+      new CaffeineIdempotencyCache(100, Duration.ofMinutes(1));
+  private final AtomicInteger executions = new AtomicInteger();
+
+  @Test
+  @DisplayName("같은 key 로 다시 보낸 요청은 실행하지 않고 처음 요청의 결과를 반환")
+  void shouldReturnRememberedResult() {
+    // given
+    final UserPointCommand.Charge command = UserPointCommand.Charge.from(1L, 100L);
+    final UserPoint charged = target.execute(1L, "key", command, this::charge).join();
+
+    // when
+    final UserPoint retried = target.execute(1L, "key", command, this::charge).join();
+
+    // then
+    assertThat(retried).isEqualTo(charged);
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("처리 중인 요청과 같은 key 의 요청은 처리 중인 결과를 함께 기다림")
+  void shouldAttachToInFlightExecution() {
+    // given
+    final UserPointCommand.Use command = UserPointCommand.Use.from(1L, 100L);
+    final CompletableFuture<UserPoint> inFlight = new CompletableFuture<>();
+    final CompletableFuture<UserPoint> first = target.execute(1L, "key", command, () -> {
+      executions.incrementAndGet();
+      return inFlight;
+    });
+
+    // when
+    final CompletableFuture<UserPoint> duplicate =
+        target.execute(1L, "key", command, this::charge);
+    final boolean doneBeforeComplete = duplicate.isDone();
+    inFlight.complete(UserPoint.from(1L, 0L, 1L));
+
+    // then
+    assertThat(doneBeforeComplete).isFalse();
+    assertThat(duplicate.join()).isEqualTo(first.join());
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("잔액을 변경하기 전에 거절된 결과는 보관하지 않아 같은 key 로 다시 시도할 수 있음")
+  void shouldRetryAfterFailure() {
+    // given
+    final UserPointCommand.Use command = UserPointCommand.Use.from(1L, 100L);
+    final CompletableFuture<UserPoint> failed = target.execute(1L, "key", command,
+        () -> CompletableFuture.failedFuture(
+            new BusinessException(PointErrorCode.POINT_NOT_ENOUGH)));
+    assertThrows(CompletionException.class, failed::join);
+
+    // when
+    final UserPoint retried = target.execute(1L, "key", command, this::charge).join();
+
+    // then
+    assertThat(retried.point()).isEqualTo(100L);
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("잔액이 변경되었을 수 있는 실패는 보관하여 같은 key 로 다시 실행하지 않음")
+  void shouldRememberFailureAfterUpdate() {
+    // given
+    final UserPointCommand.Charge command = UserPointCommand.Charge.from(1L, 100L);
+    final CompletableFuture<UserPoint> failed = target.execute(1L, "key", command, () -> {
+      executions.incrementAndGet();
+      return CompletableFuture.failedFuture(
+          new BusinessException(PointErrorCode.POINT_HISTORY_WRITER_CLOSED));
+    });
+    assertThrows(CompletionException.class, failed::join);
+
+    // when
+    final CompletableFuture<UserPoint> retried =
+        target.execute(1L, "key", command, this::charge);
+
+    // then
+    final CompletionException exception = assertThrows(CompletionException.class,
+        retried::join);
+    assertThat(exception.getCause()).isInstanceOf(BusinessException.class);
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("처리 중인 요청은 보관 개수를 초과해도 제거되지 않아 같은 key 의 요청이 다시 실행되지 않음")
+  void shouldKeepInFlightExecutionWhenCacheIsFull() {
+    // given
+    final CaffeineIdempotencyCache bounded =
+        new CaffeineIdempotencyCache(10, Duration.ofMinutes(1));
+    final UserPointCommand.Charge command = UserPointCommand.Charge.from(1L, 100L);
+    final CompletableFuture<UserPoint> inFlight = new CompletableFuture<>();
+    bounded.execute(1L, "in-flight", command, () -> {
+      executions.incrementAndGet();
+      return inFlight;
+    });
+
+    // when
+    for (int i = 0; i < 1_000; i++) {
+      bounded.execute(1L, "key-" + i, UserPointCommand.Charge.from(1L, 100L),
+          this::charge).join();
+    }
+    final CompletableFuture<UserPoint> duplicate =
+        bounded.execute(1L, "in-flight", command, this::charge);
+    inFlight.complete(UserPoint.from(1L, 100L, 1L));
+
+    // then
+    assertThat(duplicate.join()).isEqualTo(UserPoint.from(1L, 100L, 1L));
+    assertThat(executions).hasValue(1_001);
+    assertThat(bounded.size()).isLessThanOrEqualTo(11);
+  }
+
+  @Test
+  @DisplayName("같은 key 를 다른 요청에 사용하면 IDEMPOTENCY_KEY_REUSED")
+  void shouldRejectKeyReusedForDifferentRequest() {
+    // given
+    target.execute(1L, "key", UserPointCommand.Charge.from(1L, 100L), this::charge).join();
+
+    // when
+    final BusinessException exception = assertThrows(BusinessException.class,
+        () -> target.execute(1L, "key", UserPointCommand.Use.from(1L, 100L), this::charge));
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(PointErrorCode.IDEMPOTENCY_KEY_REUSED);
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("key 는 사용자별로 구분")
+  void shouldScopeKeyByUser() {
+    // when
+    target.execute(1L, "key", UserPointCommand.Charge.from(1L, 100L), this::charge).join();
+    target.execute(2L, "key", UserPointCommand.Charge.from(2L, 100L), this::charge).join();
+
+    // then
+    assertThat(executions).hasValue(2);
+    assertThat(target.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("비어 있거나 너무 긴 key 는 INVALID_IDEMPOTENCY_KEY")
+  void shouldRejectInvalidKey() {
+    // given
+    final UserPointCommand.Charge command = UserPointCommand.Charge.from(1L, 100L);
+    final String tooLong = "k".repeat(CaffeineIdempotencyCache.MAX_KEY_LENGTH + 1);
+
+    // when
+    final BusinessException blank = assertThrows(BusinessException.class,
+        () -> target.execute(1L, " ", command, this::charge));
+    final BusinessException longKey = assertThrows(BusinessException.class,
+        () -> target.execute(1L, tooLong, command, this::charge));
+
+    // then
+    assertThat(blank.getErrorCode()).isEqualTo(PointErrorCode.INVALID_IDEMPOTENCY_KEY);
+    assertThat(longKey.getErrorCode()).isEqualTo(PointErrorCode.INVALID_IDEMPOTENCY_KEY);
+    assertThat(executions).hasValue(0);
+  }
+
+  private CompletableFuture<UserPoint> charge() {
+    final int count = executions.incrementAndGet();
+    return CompletableFuture.completedFuture(UserPoint.from(1L, 100L * count, count));
+  }
+}
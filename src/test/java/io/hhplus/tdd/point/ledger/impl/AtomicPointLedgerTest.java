@@ -0,0 +1,158 @@
+package io.hhplus.tdd.point.ledger.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.repository.PointRepository;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AtomicPointLedgerTest {
+
+  private AtomicPointLedger target;
+
+  @Mock
+  private PointRepository pointRepository;
+
+  // NOTE: 저장소 기록 시점을 테스트에서 제어하기 위해 작업을 쌓아두기만 하는 executor 를 사용합니다.
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+  @BeforeEach
+  void setUp() {
+    target = new AtomicPointLedger(pointRepository, tasks::add);
+  }
+
+  @Test
+  @DisplayName("저장소의 잔액을 읽어 충전/사용 반영")
+  void shouldApplyChargeAndUseOnLoadedPoint() {
+    // given
+    final long userId = 1L;
+    doReturn(Optional.of(UserPoint.from(userId, 100L, 0L))).when(pointRepository)
+        .findById(userId);
+
+    // when
+    final var charged = target.charge(userId, 50L);
+    final var used = target.use(userId, 30L);
+
+    // then
+    assertThat(charged.point()).isEqualTo(150L);
+    assertThat(used.point()).isEqualTo(120L);
+    assertThat(target.get(userId).point()).isEqualTo(120L);
+    verify(pointRepository, times(1)).findById(userId);
+  }
+
+  @Test
+  @DisplayName("최대 잔액 초과 충전/잔액 부족 사용은 실패하고 잔액 유지")
+  void shouldRejectChargeOverMaxAndUseOverBalance() {
+    // given
+    final long userId = 1L;
+    doReturn(Optional.of(UserPoint.from(userId, Long.MAX_VALUE - 10L, 0L))).when(pointRepository)
+        .findById(userId);
+
+    // when & then
+    assertThatThrownBy(() -> target.charge(userId, 11L))
+        .isInstanceOf(BusinessException.class)
+        .hasMessage(PointErrorCode.EXCEED_MAX_POINT.getMessage());
+    assertThatThrownBy(() -> target.use(userId, Long.MAX_VALUE))
+        .isInstanceOf(BusinessException.class)
+        .hasMessage(PointErrorCode.POINT_NOT_ENOUGH.getMessage());
+    assertThat(target.get(userId).point()).isEqualTo(Long.MAX_VALUE - 10L);
+    assertThat(tasks).isEmpty();
+  }
+
+  @Test
+  @DisplayName("연속된 변경은 하나의 작업이 최신 잔액만 기록")
+  void shouldPushOnlyLatestPoint() {
+    // given
+    final long userId = 1L;
+    doReturn(Optional.empty()).when(pointRepository).findById(userId);
+
+    // when
+    target.charge(userId, 100L);
+    target.charge(userId, 200L);
+    target.use(userId, 50L);
+    runTasks();
+
+    // then
+    final ArgumentCaptor<UserPoint> captor = ArgumentCaptor.forClass(UserPoint.class);
+    verify(pointRepository, times(1)).update(captor.capture());
+    assertThat(captor.getValue().point()).isEqualTo(250L);
+  }
+
+  @Test
+  @DisplayName("기록에 실패한 잔액은 종료 시 다시 기록")
+  void shouldRetryFailedPushOnFlush() {
+    // given
+    final long userId = 1L;
+    doReturn(Optional.empty()).when(pointRepository).findById(userId);
+    doThrow(new IllegalStateException("table unavailable")).doReturn(null).when(pointRepository)
+        .update(any());
+    target.charge(userId, 100L);
+    runTasks();
+
+    // when
+    target.flush();
+    target.flush();
+
+    // then
+    verify(pointRepository, times(2)).update(UserPoint.from(userId, 100L,
+        target.get(userId).updateMillis()));
+  }
+
+  @Test
+  @DisplayName("여러 사용자의 동시 충전/사용이 모두 반영")
+  void shouldApplyConcurrentChargeAndUse() {
+    // given
+    doReturn(Optional.empty()).when(pointRepository).findById(anyLong());
+    final int users = 1_000;
+    final int operations = 20;
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    final AtomicPointLedger ledger = new AtomicPointLedger(pointRepository, Runnable::run);
+
+    // when
+    final CompletableFuture<?>[] futures = IntStream.range(0, users * operations)
+        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+          final long userId = i % users + 1;
+          ledger.charge(userId, 10L);
+          ledger.use(userId, 3L);
+        }, executor))
+        .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(futures).join();
+    executor.shutdown();
+
+    // then
+    assertThat(ledger.size()).isEqualTo(users);
+    for (long userId = 1; userId <= users; userId++) {
+      assertThat(ledger.get(userId).point()).isEqualTo(7L * operations);
+    }
+  }
+
+  private void runTasks() {
+    Runnable task;
+    while ((task = tasks.poll()) != null) {
+      task.run();
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.lock.impl.InMemoryLeaseLockClient;
+import io.hhplus.tdd.point.lock.impl.LeaseLockRegistry;
+import io.hhplus.tdd.point.lock.impl.RefCountedLockRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * lease lock 사용 시 요청당 추가되는 지연 시간과, 여러 서버가 같은 lock 저장소를 공유할 때의 처리량을 측정합니다.
+ * <p>
+ * lock 저장소는 요청마다 지정된 왕복 시간만큼 지연되는 메모리 저장소를 사용하고, 서버는 각자 owner 가 다른 registry 와
+ * 스레드로 흉내 냅니다. ./gradlew benchmark 로 실행하며, -Dbenchmark.rtt-micros, -Dbenchmark.work-micros,
+ * -Dbenchmark.threads (서버당), -Dbenchmark.duration-millis 로 조절할 수 있습니다.
+ */
+@Tag("benchmark")
+class LeaseLockBenchmarkTest {
+
+  private static final long RTT_MICROS = Long.getLong("benchmark.rtt-micros", 200);
+  private static final long WORK_MICROS = Long.getLong("benchmark.work-micros", 100);
+  private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+  private static final long DURATION_MILLIS = Long.getLong("benchmark.duration-millis", 1_000);
+  private static final int LATENCY_SAMPLES = 5_000;
+  private static final Duration LEASE_TIME = Duration.ofSeconds(5);
+  private static final Duration WAIT_TIME = Duration.ofSeconds(30);
+
+  @Test
+  @DisplayName("lease lock - 추가 지연 시간/서버 수별 처리량")
+  void measureLeaseLock() throws Exception {
+    System.out.printf("rtt=%dus, work=%dus, threads/node=%d, duration=%dms, cpus=%d%n", RTT_MICROS,
+        WORK_MICROS, THREADS, DURATION_MILLIS, Runtime.getRuntime().availableProcessors());
+    latency();
+    throughput();
+  }
+
+  /**
+   * 경합이 없는 요청 하나의 lock 획득부터 해제까지의 시간
+   */
+  private void latency() {
+    System.out.printf("%-12s %10s %10s %10s%n", "registry", "avg(us)", "p50(us)", "p99(us)");
+    printLatency("ref-counted", new RefCountedLockRegistry());
+    printLatency("lease", new LeaseLockRegistry(new DelayedLeaseLockClient(), LEASE_TIME,
+        WAIT_TIME, true));
+  }
+
+  private void printLatency(String name, LockRegistry registry) {
+    final long[] samples = new long[LATENCY_SAMPLES];
+    for (int i = 0; i < LATENCY_SAMPLES; i++) {
+      final long start = System.nanoTime();
+      registry.executeWithLock(i, () -> null);
+      samples[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(samples);
+    System.out.printf("%-12s %10.1f %10.1f %10.1f%n", name,
+        Arrays.stream(samples).average().orElse(0) / 1_000, samples[LATENCY_SAMPLES / 2] / 1_000.0,
+        samples[LATENCY_SAMPLES * 99 / 100] / 1_000.0);
+  }
+
+  /**
+   * 서버 수와 key 분포, lease 넘겨주기 여부에 따른 처리량과 요청당 lock 저장소 획득 횟수
+   */
+  private void throughput() throws Exception {
+    System.out.printf("%-6s %-6s %-9s %12s %14s%n", "keys", "nodes", "handover", "ops/s",
+        "acquires/op");
+    for (int keys : new int[]{16, 100_000}) {
+      for (int nodes : new int[]{1, 2, 4}) {
+        for (boolean handover : new boolean[]{false, true}) {
+          final DelayedLeaseLockClient server = new DelayedLeaseLockClient();
+          final List<LockRegistry> registries = new ArrayList<>();
+          for (int node = 0; node < nodes; node++) {
+            registries.add(new LeaseLockRegistry(server, LEASE_TIME, WAIT_TIME, handover));
+          }
+          final long operations = run(registries, keys);
+          System.out.printf("%-6d %-6d %-9s %12.0f %14.3f%n", keys, nodes, handover,
+              operations * 1_000.0 / DURATION_MILLIS,
+              server.acquired.sum() / (double) operations);
+        }
+      }
+    }
+  }
+
+  private long run(List<LockRegistry> registries, int keys) throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS * registries.size());
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+    final List<Future<Long>> results = new ArrayList<>();
+    for (LockRegistry registry : registries) {
+      for (int thread = 0; thread < THREADS; thread++) {
+        results.add(executor.submit(() -> {
+          long operations = 0;
+          while (System.nanoTime() < deadline) {
+            registry.executeWithLock(ThreadLocalRandom.current().nextInt(keys), () -> {
+              delay(WORK_MICROS);
+              return null;
+            });
+            operations++;
+          }
+          return operations;
+        }));
+      }
+    }
+
+    long operations = 0;
+    for (Future<Long> result : results) {
+      operations += result.get();
+    }
+    executor.shutdown();
+    return operations;
+  }
+
+  private static void delay(long micros) {
+    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+  }
+
+  /**
+   * 요청마다 lock 저장소 왕복 시간만큼 지연되는 메모리 lock 저장소
+   */
+  private static final class DelayedLeaseLockClient implements LeaseLockClient {
+
+    private final InMemoryLeaseLockClient delegate = new InMemoryLeaseLockClient();
+    private final LongAdder acquired = new LongAdder();
+
+    @Override
+    public long tryAcquire(String key, String owner, long leaseMillis) {
+      delay(RTT_MICROS);
+      final long token = delegate.tryAcquire(key, owner, leaseMillis);
+      if (token > 0) {
+        acquired.increment();
+      }
+      return token;
+    }
+
+    @Override
+    public boolean release(String key, String owner) {
+      delay(RTT_MICROS);
+      return delegate.release(key, owner);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.lock.impl.ConcurrentMapLockRegistry;
+import io.hhplus.tdd.point.lock.impl.RefCountedLockRegistry;
+import io.hhplus.tdd.point.lock.impl.StripedLockRegistry;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 10M 사용자 key 공간에서 uniform 분포로 lock 을 요청할 때의 처리량과 heap 증가량을 비교합니다.
+ * <p>
+ * ./gradlew benchmark 로 실행하며, -Dbenchmark.ops 로 스레드당 요청 수를 조절할 수 있습니다.
+ */
+@Tag("benchmark")
+class LockRegistryBenchmarkTest {
+
+  private static final long KEY_SPACE = 10_000_000L;
+  private static final int THREADS = Runtime.getRuntime().availableProcessors() * 2;
+  private static final int OPS_PER_THREAD = Integer.getInteger("benchmark.ops", 1_000_000);
+
+  private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+  @Test
+  @DisplayName("LockRegistry 처리량/heap 증가량 비교")
+  void compareLockRegistries() {
+    System.out.printf("threads=%d, ops/thread=%d, keySpace=%d%n", THREADS, OPS_PER_THREAD,
+        KEY_SPACE);
+    System.out.printf("%-12s %14s %16s %12s%n", "registry", "ops/sec", "heap growth(MB)", "locks");
+
+    run("map", ConcurrentMapLockRegistry::new);
+    run("striped", StripedLockRegistry::ofAvailableProcessors);
+    run("ref-counted", RefCountedLockRegistry::new);
+  }
+
+  private void run(String name, Supplier<LockRegistry> factory) {
+    final long heapBefore = usedHeapAfterGc();
+    final LockRegistry registry = factory.get();
+    final LongAdder counter = new LongAdder();
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    final long start = System.nanoTime();
+    final List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      futures.add(CompletableFuture.runAsync(() -> {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < OPS_PER_THREAD; i++) {
+          registry.executeWithLock(random.nextLong(1, KEY_SPACE + 1), () -> {
+            counter.increment();
+            return null;
+          });
+        }
+      }, executor));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    final long elapsed = System.nanoTime() - start;
+    executor.shutdown();
+
+    final long heapGrowth = usedHeapAfterGc() - heapBefore;
+    System.out.printf("%-12s %14.0f %16.1f %12d%n", name,
+        counter.sum() * 1_000_000_000.0 / elapsed, heapGrowth / 1024.0 / 1024.0, registry.size());
+  }
+
+  private long usedHeapAfterGc() {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+}
@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestArrivalTest {
+
+  @Test
+  @DisplayName("작업을 적재한 요청의 도착 시각을 작업을 실행하는 스레드에 전달하고, 실행 후 제거")
+  void shouldPropagateArrivalToDecoratedTask() throws Exception {
+    // given
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final long arrivalNanos = System.nanoTime();
+
+    // when
+    final OptionalLong propagated = RequestArrival.run(arrivalNanos,
+        () -> CompletableFuture.supplyAsync(RequestArrival::current,
+            task -> executor.execute(RequestArrival.decorate(task)))).join();
+    final OptionalLong afterTask = CompletableFuture.supplyAsync(RequestArrival::current,
+        executor).join();
+    executor.shutdown();
+
+    // then
+    assertThat(propagated).hasValue(arrivalNanos);
+    assertThat(afterTask).isEmpty();
+    assertThat(RequestArrival.current()).isEmpty();
+  }
+}
@@ -0,0 +1,140 @@
+package io.hhplus.tdd.point.lock.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.hhplus.tdd.error.RetryLaterException;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.lock.RequestArrival;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedWaitLockRegistryTest {
+
+  private final BoundedWaitLockRegistry target =
+      new BoundedWaitLockRegistry(2, Duration.ofMillis(100), Duration.ofSeconds(2));
+
+  @Test
+  @DisplayName("사용자별 대기 요청 수를 초과한 요청은 기다리지 않고 POINT_TOO_MANY_REQUESTS")
+  void shouldRejectImmediatelyWhenPendingExceeded() throws Exception {
+    // given
+    final BoundedWaitLockRegistry target =
+        new BoundedWaitLockRegistry(2, Duration.ofSeconds(5), Duration.ofSeconds(2));
+    final long key = 1L;
+    final CountDownLatch release = new CountDownLatch(1);
+    final CompletableFuture<Integer> holder = holdLock(target, key, release);
+    final Thread waiter = new Thread(() -> target.executeWithLock(key, () -> 2));
+    waiter.start();
+    awaitParked(waiter);
+
+    // when
+    final long startNanos = System.nanoTime();
+    final RetryLaterException exception = assertThrows(RetryLaterException.class,
+        () -> target.executeWithLock(key, () -> 3));
+    final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    final int otherUser = target.executeWithLock(2L, () -> 4);
+    release.countDown();
+    holder.join();
+    waiter.join();
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(PointErrorCode.POINT_TOO_MANY_REQUESTS);
+    assertThat(exception.getRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+    assertThat(elapsedMillis).isLessThan(1_000);
+    assertThat(otherUser).isEqualTo(4);
+    assertThat(target.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("lock 획득 대기 시간을 초과하면 POINT_TOO_MANY_REQUESTS 후 lock 제거")
+  void shouldRejectWhenWaitTimeExceeded() throws Exception {
+    // given
+    final long key = 1L;
+    final CountDownLatch release = new CountDownLatch(1);
+    final CompletableFuture<Integer> holder = holdLock(target, key, release);
+
+    // when
+    final RetryLaterException exception = assertThrows(RetryLaterException.class,
+        () -> target.executeWithLock(key, () -> 2));
+    final int sizeWhileHolding = target.size();
+    release.countDown();
+    holder.join();
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(PointErrorCode.POINT_TOO_MANY_REQUESTS);
+    assertThat(sizeWhileHolding).isEqualTo(1);
+    assertThat(target.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("요청이 도착한 뒤 대기 시간이 지났다면 lock 을 기다리지 않고 POINT_TOO_MANY_REQUESTS")
+  void shouldCountWaitFromRequestArrival() throws Exception {
+    // given
+    final BoundedWaitLockRegistry target =
+        new BoundedWaitLockRegistry(2, Duration.ofSeconds(5), Duration.ofSeconds(2));
+    final long key = 1L;
+    // NOTE: point executor 의 대기열에서 대기 시간보다 오래 기다린 요청입니다.
+    final long arrivalNanos = System.nanoTime() - TimeUnit.SECONDS.toNanos(10);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CompletableFuture<Integer> holder = holdLock(target, key, release);
+
+    // when
+    final long startNanos = System.nanoTime();
+    final RetryLaterException exception = assertThrows(RetryLaterException.class,
+        () -> RequestArrival.run(arrivalNanos, () -> target.executeWithLock(key, () -> 2)));
+    final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    release.countDown();
+    holder.join();
+    final int free = RequestArrival.run(arrivalNanos, () -> target.executeWithLock(key, () -> 3));
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(PointErrorCode.POINT_TOO_MANY_REQUESTS);
+    assertThat(elapsedMillis).isLessThan(1_000);
+    assertThat(free).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("action 에서 예외가 발생해도 lock 이 제거되어 다음 요청을 처리")
+  void shouldReleaseWhenActionThrows() {
+    // given
+    final long key = 1L;
+    assertThrows(IllegalStateException.class, () -> target.executeWithLock(key, () -> {
+      throw new IllegalStateException();
+    }));
+
+    // when
+    final int result = target.executeWithLock(key, () -> 1);
+
+    // then
+    assertThat(result).isEqualTo(1);
+    assertThat(target.size()).isZero();
+  }
+
+  private static CompletableFuture<Integer> holdLock(BoundedWaitLockRegistry target, long key,
+      CountDownLatch release) throws InterruptedException {
+    final CountDownLatch holding = new CountDownLatch(1);
+    final CompletableFuture<Integer> holder = CompletableFuture.supplyAsync(
+        () -> target.executeWithLock(key, () -> {
+          holding.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return 1;
+        }));
+    holding.await();
+    return holder;
+  }
+
+  private static void awaitParked(Thread thread) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (thread.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(1);
+    }
+  }
+}
@@ -0,0 +1,206 @@
+package io.hhplus.tdd.point.lock.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.lock.LeaseLockClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LeaseLockRegistryTest {
+
+  private static final Duration LEASE_TIME = Duration.ofSeconds(5);
+  private static final Duration WAIT_TIME = Duration.ofSeconds(5);
+
+  // NOTE: 여러 서버의 registry 가 공유하는 lock 저장소 역할을 합니다.
+  private final CountingLeaseLockClient server = new CountingLeaseLockClient();
+
+  @Test
+  @DisplayName("서로 다른 서버의 같은 key 에 대한 동시 실행은 순차 처리")
+  void shouldExecuteSequentiallyAcrossNodes() {
+    // given
+    final List<LeaseLockRegistry> nodes = List.of(
+        new LeaseLockRegistry(server, "node-1", LEASE_TIME, WAIT_TIME, true),
+        new LeaseLockRegistry(server, "node-2", LEASE_TIME, WAIT_TIME, true),
+        new LeaseLockRegistry(server, "node-3", LEASE_TIME, WAIT_TIME, true));
+    final long key = 1L;
+    final int numOperations = 300;
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final ExecutorService executor = Executors.newFixedThreadPool(16);
+
+    List<CompletableFuture<Void>> futures = IntStream.range(0, numOperations)
+        .mapToObj(i -> CompletableFuture.runAsync(
+            () -> nodes.get(i % nodes.size()).executeWithLock(key, () -> {
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              return running.decrementAndGet();
+            }), executor))
+        .toList();
+
+    // when
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    executor.shutdown();
+
+    // then
+    assertThat(maxRunning.get()).isEqualTo(1);
+    assertThat(server.size()).isZero();
+    nodes.forEach(node -> assertThat(node.size()).isZero());
+  }
+
+  @Test
+  @DisplayName("같은 서버에서 기다리는 요청에는 lease 를 해제하지 않고 fencing token 과 함께 넘겨줌")
+  void shouldHandOverLeaseToLocalWaiter() throws Exception {
+    // given
+    final LeaseLockRegistry target = new LeaseLockRegistry(server, "node-1", LEASE_TIME,
+        WAIT_TIME, true);
+    final long key = 1L;
+    final CountDownLatch holding = new CountDownLatch(1);
+    final CountDownLatch waiting = new CountDownLatch(1);
+    final CompletableFuture<Long> first = CompletableFuture.supplyAsync(
+        () -> target.executeWithLock(key, () -> {
+          holding.countDown();
+          await(waiting);
+          return LeaseLockRegistry.currentFencingToken();
+        }));
+    holding.await();
+    final CompletableFuture<Long> second = CompletableFuture.supplyAsync(
+        () -> target.executeWithLock(key, LeaseLockRegistry::currentFencingToken));
+    // NOTE: 두 번째 요청이 서버 안의 lock 을 기다리기 시작할 때까지 잠시 기다립니다.
+    Thread.sleep(100);
+
+    // when
+    waiting.countDown();
+
+    // then
+    assertThat(first.join()).isPositive();
+    assertThat(second.join()).isEqualTo(first.join());
+    assertThat(server.acquired.get()).isEqualTo(1);
+    assertThat(server.released.get()).isEqualTo(1);
+    assertThat(LeaseLockRegistry.currentFencingToken()).isZero();
+  }
+
+  @Test
+  @DisplayName("lease 를 새로 획득할 때마다 더 큰 fencing token 발급")
+  void shouldIssueIncreasingFencingTokens() {
+    // given
+    final LeaseLockRegistry node1 = new LeaseLockRegistry(server, "node-1", LEASE_TIME,
+        WAIT_TIME, true);
+    final LeaseLockRegistry node2 = new LeaseLockRegistry(server, "node-2", LEASE_TIME,
+        WAIT_TIME, true);
+    final long key = 1L;
+
+    // when
+    final long first = node1.executeWithLock(key, LeaseLockRegistry::currentFencingToken);
+    final long second = node2.executeWithLock(key, LeaseLockRegistry::currentFencingToken);
+    final long third = node1.executeWithLock(key, LeaseLockRegistry::currentFencingToken);
+
+    // then
+    assertThat(first).isLessThan(second);
+    assertThat(second).isLessThan(third);
+  }
+
+  @Test
+  @DisplayName("다른 서버가 lease 를 보유한 동안 대기 시간을 초과하면 POINT_LOCK_TIMEOUT")
+  void shouldTimeoutWhenOtherNodeHoldsLease() {
+    // given
+    final long key = 1L;
+    server.tryAcquire(String.valueOf(key), "node-2", LEASE_TIME.toMillis());
+    final LeaseLockRegistry target = new LeaseLockRegistry(server, "node-1", LEASE_TIME,
+        Duration.ofMillis(50), true);
+
+    // when
+    final BusinessException exception = assertThrows(BusinessException.class,
+        () -> target.executeWithLock(key, () -> key));
+
+    // then
+    assertThat(exception.getMessage()).isEqualTo(PointErrorCode.POINT_LOCK_TIMEOUT.getMessage());
+    assertThat(target.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("만료된 lease 는 다른 서버가 획득")
+  void shouldAcquireExpiredLease() throws Exception {
+    // given
+    final long key = 1L;
+    final long expiredToken = server.tryAcquire(String.valueOf(key), "node-2", 10L);
+    Thread.sleep(20);
+    final LeaseLockRegistry target = new LeaseLockRegistry(server, "node-1", LEASE_TIME,
+        WAIT_TIME, true);
+
+    // when
+    final long token = target.executeWithLock(key, LeaseLockRegistry::currentFencingToken);
+
+    // then
+    assertThat(token).isGreaterThan(expiredToken);
+    assertThat(server.release(String.valueOf(key), "node-2")).isFalse();
+  }
+
+  @Test
+  @DisplayName("action 이 끝나기 전에 lease 가 만료되면 결과를 반환하고 만료된 action 으로 기록")
+  void shouldCountActionCompletedAfterLeaseExpired() {
+    // given
+    final LeaseLockRegistry target = new LeaseLockRegistry(server, "node-1",
+        Duration.ofMillis(10), WAIT_TIME, true);
+
+    // when
+    final int result = target.executeWithLock(1L, () -> {
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(30));
+      return 1;
+    });
+
+    // then
+    assertThat(result).isEqualTo(1);
+    assertThat(target.expiredActionCount()).isEqualTo(1);
+    assertThat(target.executeWithLock(1L, () -> 2)).isEqualTo(2);
+    assertThat(target.expiredActionCount()).isEqualTo(1);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class CountingLeaseLockClient implements LeaseLockClient {
+
+    private final InMemoryLeaseLockClient delegate = new InMemoryLeaseLockClient();
+    private final AtomicInteger acquired = new AtomicInteger();
+    private final AtomicInteger released = new AtomicInteger();
+
+    @Override
+    public long tryAcquire(String key, String owner, long leaseMillis) {
+      final long token = delegate.tryAcquire(key, owner, leaseMillis);
+      if (token > 0) {
+        acquired.incrementAndGet();
+      }
+      return token;
+    }
+
+    @Override
+    public boolean release(String key, String owner) {
+      final boolean result = delegate.release(key, owner);
+      if (result) {
+        released.incrementAndGet();
+      }
+      return result;
+    }
+
+    private int size() {
+      return delegate.size();
+    }
+  }
+}
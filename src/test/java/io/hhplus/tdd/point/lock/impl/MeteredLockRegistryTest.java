@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.lock.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.hhplus.tdd.point.dto.HotAccount;
+import io.hhplus.tdd.point.hotspot.impl.SpaceSavingHotAccountTracker;
+import io.hhplus.tdd.point.lock.LockRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MeteredLockRegistryTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final MeteredLockRegistry target =
+      new MeteredLockRegistry(new RefCountedLockRegistry(), meterRegistry);
+
+  @Test
+  @DisplayName("lock 획득 대기 시간과 보유 시간을 나누어 기록")
+  void shouldRecordAcquireAndHoldTime() throws Exception {
+    // given
+    final long key = 1L;
+    final CountDownLatch holding = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CompletableFuture<Integer> holder = CompletableFuture.supplyAsync(
+        () -> target.executeWithLock(key, () -> {
+          holding.countDown();
+          await(release);
+          return 1;
+        }));
+    holding.await();
+
+    // when
+    final CompletableFuture<Integer> waiter = CompletableFuture.supplyAsync(
+        () -> target.executeWithLock(key, () -> 2));
+    awaitGauge("point.lock.waiting", 1);
+    final double live = meterRegistry.get("point.lock.live").gauge().value();
+    TimeUnit.MILLISECONDS.sleep(50);
+    release.countDown();
+    holder.join();
+    waiter.join();
+
+    // then
+    assertThat(live).isEqualTo(1);
+    assertThat(meterRegistry.get("point.lock.acquire").timer().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("point.lock.acquire").timer().max(TimeUnit.MILLISECONDS))
+        .isGreaterThanOrEqualTo(50);
+    assertThat(meterRegistry.get("point.lock.hold").timer().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("point.lock.hold").timer().max(TimeUnit.MILLISECONDS))
+        .isGreaterThanOrEqualTo(50);
+    assertThat(meterRegistry.get("point.lock.waiting").gauge().value()).isZero();
+    assertThat(meterRegistry.get("point.lock.live").gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("lock 을 획득하지 못해도 대기 중인 요청 수에서 제외")
+  void shouldNotCountWaiterWhenAcquireFails() {
+    // given
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final MeteredLockRegistry failing = new MeteredLockRegistry(new LockRegistry() {
+      @Override
+      public <T> T executeWithLock(long key, Supplier<T> action) {
+        throw new IllegalStateException();
+      }
+
+      @Override
+      public int size() {
+        return 0;
+      }
+    }, meterRegistry);
+
+    // when
+    assertThrows(IllegalStateException.class, () -> failing.executeWithLock(1L, () -> 1));
+
+    // then
+    assertThat(meterRegistry.get("point.lock.waiting").gauge().value()).isZero();
+    assertThat(meterRegistry.get("point.lock.acquire").timer().count()).isZero();
+  }
+
+  @Test
+  @DisplayName("사용자별 lock 대기 시간을 hot account tracker 에 기록하고 요청 수는 세지 않음")
+  void shouldFeedLockWaitToHotAccountTracker() {
+    // given
+    final SpaceSavingHotAccountTracker tracker =
+        new SpaceSavingHotAccountTracker(16, Duration.ZERO, 1);
+    final MeteredLockRegistry tracked = new MeteredLockRegistry(new RefCountedLockRegistry(),
+        new SimpleMeterRegistry(), tracker);
+    tracker.enter(1L).exit();
+
+    // when
+    tracked.executeWithLock(1L, () -> 1);
+    tracked.executeWithLock(2L, () -> 1);
+    final HotAccount hot = tracker.top(1).get(0);
+    tracker.close();
+
+    // then
+    assertThat(hot.userId()).isEqualTo(1L);
+    assertThat(hot.requests()).isEqualTo(1);
+    assertThat(hot.averageLockWaitMillis()).isGreaterThanOrEqualTo(0);
+  }
+
+  private void awaitGauge(String name, double expected) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (meterRegistry.get(name).gauge().value() != expected && System.nanoTime() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(1);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
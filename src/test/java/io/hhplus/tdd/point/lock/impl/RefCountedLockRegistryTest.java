@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point.lock.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RefCountedLockRegistryTest {
+
+  private final RefCountedLockRegistry target = new RefCountedLockRegistry();
+
+  @Test
+  @DisplayName("lock 사용이 끝나면 registry 에서 제거")
+  void shouldRemoveLockWhenNoLongerUsed() {
+    // given
+    final long key = 1L;
+
+    // when
+    final var result = target.executeWithLock(key, () -> target.size());
+
+    // then
+    assertThat(result).isEqualTo(1);
+    assertThat(target.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("action 에서 예외가 발생해도 lock 이 제거")
+  void shouldRemoveLockWhenActionThrows() {
+    // given
+    final long key = 1L;
+
+    // when
+    assertThrows(IllegalStateException.class, () -> target.executeWithLock(key, () -> {
+      throw new IllegalStateException();
+    }));
+
+    // then
+    assertThat(target.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("같은 key 에 대한 동시 실행은 순차 처리")
+  void shouldExecuteSequentiallyForSameKey() {
+    // given
+    final long key = 1L;
+    final int numOperations = 1000;
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final int[] counter = {0};
+
+    List<CompletableFuture<Void>> futures = IntStream.range(0, numOperations)
+        .mapToObj(i -> CompletableFuture.runAsync(() -> target.executeWithLock(key, () -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          counter[0]++;
+          return running.decrementAndGet();
+        })))
+        .toList();
+
+    // when
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    // then
+    assertThat(counter[0]).isEqualTo(numOperations);
+    assertThat(maxRunning.get()).isEqualTo(1);
+    assertThat(target.size()).isZero();
+  }
+}
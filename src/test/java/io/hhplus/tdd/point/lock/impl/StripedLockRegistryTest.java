@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.lock.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StripedLockRegistryTest {
+
+  @Test
+  @DisplayName("stripe 개수는 2의 거듭제곱으로 올림")
+  void shouldRoundUpStripesToPowerOfTwo() {
+    // given
+    final int stripes = 10;
+
+    // when
+    final var result = new StripedLockRegistry(stripes);
+
+    // then
+    assertThat(result.size()).isEqualTo(16);
+  }
+
+  @Test
+  @DisplayName("사용자 수와 관계없이 lock 개수가 고정")
+  void shouldKeepFixedNumberOfLocks() {
+    // given
+    final StripedLockRegistry target = new StripedLockRegistry(8);
+
+    // when
+    IntStream.range(1, 10_000).forEach(key -> target.executeWithLock(key, () -> key));
+
+    // then
+    assertThat(target.size()).isEqualTo(8);
+  }
+
+  @Test
+  @DisplayName("같은 key 에 대한 동시 실행은 순차 처리")
+  void shouldExecuteSequentiallyForSameKey() {
+    // given
+    final StripedLockRegistry target = new StripedLockRegistry(8);
+    final long key = 1L;
+    final int numOperations = 1000;
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+
+    List<CompletableFuture<Void>> futures = IntStream.range(0, numOperations)
+        .mapToObj(i -> CompletableFuture.runAsync(() -> target.executeWithLock(key, () -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          return running.decrementAndGet();
+        })))
+        .toList();
+
+    // when
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    // then
+    assertThat(maxRunning.get()).isEqualTo(1);
+  }
+}
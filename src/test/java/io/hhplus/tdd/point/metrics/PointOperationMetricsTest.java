@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.metrics.PointOperationMetrics.Operation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PointOperationMetricsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final PointOperationMetrics target = new PointOperationMetrics(meterRegistry);
+
+  @Test
+  @DisplayName("처리가 끝난 요청의 처리 시간을 성공으로 기록")
+  void shouldRecordSuccessWhenCompleted() {
+    // given
+    final CompletableFuture<UserPoint> future = new CompletableFuture<>();
+
+    // when
+    final CompletableFuture<UserPoint> result = target.record(Operation.CHARGE, () -> future);
+    final long countBeforeCompletion = timerCount("charge", "success");
+    future.complete(UserPoint.empty(1L));
+
+    // then
+    assertThat(result).isSameAs(future);
+    assertThat(countBeforeCompletion).isZero();
+    assertThat(timerCount("charge", "success")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("시작한 기록은 반환된 작업을 완료할 때 처리 시간을 기록")
+  void shouldRecordWhenStartedOperationCompletes() {
+    // when
+    final CompletableFuture<Void> exported = target.start(Operation.EXPORT);
+    final long countBeforeCompletion = timerCount("export", "success");
+    exported.complete(null);
+
+    // then
+    assertThat(countBeforeCompletion).isZero();
+    assertThat(timerCount("export", "success")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("비동기 처리 중 거절된 요청은 거절 사유별로 기록")
+  void shouldCountRejectionByErrorCode() {
+    // given
+    final CompletableFuture<UserPoint> future = CompletableFuture.failedFuture(
+        new BusinessException(PointErrorCode.POINT_NOT_ENOUGH));
+
+    // when
+    target.record(Operation.USE, () -> future);
+
+    // then
+    assertThat(timerCount("use", "rejected")).isEqualTo(1);
+    assertThat(rejectionCount(PointErrorCode.POINT_NOT_ENOUGH)).isEqualTo(1);
+    assertThat(rejectionCount(PointErrorCode.EXCEED_MAX_POINT)).isZero();
+  }
+
+  @Test
+  @DisplayName("요청 값 검증에서 거절된 요청도 기록")
+  void shouldCountRejectionWhenCommandIsInvalid() {
+    // when
+    assertThrows(BusinessException.class, () -> target.record(Operation.CHARGE,
+        () -> CompletableFuture.completedFuture(UserPointCommand.Charge.from(1L, -1L))));
+
+    // then
+    assertThat(timerCount("charge", "rejected")).isEqualTo(1);
+    assertThat(rejectionCount(PointErrorCode.INVALID_AMOUNT)).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("업무 외 예외는 거절로 세지 않고 오류로 기록")
+  void shouldRecordErrorWhenUnexpectedExceptionOccurs() {
+    // when
+    target.record(Operation.POINT,
+        () -> CompletableFuture.failedFuture(new IllegalStateException()));
+
+    // then
+    assertThat(timerCount("point", "error")).isEqualTo(1);
+    assertThat(meterRegistry.get("point.rejections").counters())
+        .allSatisfy(counter -> assertThat(counter.count()).isZero());
+  }
+
+  private long timerCount(String operation, String outcome) {
+    return meterRegistry.get("point.operation")
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .timer()
+        .count();
+  }
+
+  private double rejectionCount(PointErrorCode errorCode) {
+    return meterRegistry.get("point.rejections").tag("code", errorCode.getCode()).counter()
+        .count();
+  }
+}
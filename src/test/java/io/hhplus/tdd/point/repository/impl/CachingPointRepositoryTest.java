@@ -0,0 +1,117 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingPointRepositoryTest {
+
+  private CachingPointRepository target;
+
+  @Mock
+  private PointRepository delegate;
+
+  private Cache<Long, UserPoint> cache;
+
+  @BeforeEach
+  void setUp() {
+    // NOTE: 제거 작업이 호출한 스레드에서 바로 수행되도록 executor 를 지정합니다.
+    cache = Caffeine.newBuilder()
+        .maximumSize(100)
+        .executor(Runnable::run)
+        .recordStats()
+        .build();
+    target = new CachingPointRepository(delegate, cache);
+  }
+
+  @Test
+  @DisplayName("한 번 조회된 사용자는 Table 을 조회하지 않고 반환")
+  void shouldReturnCachedUserPointWithoutReadingTable() {
+    // given
+    final long userId = 1L;
+    final UserPoint userPoint = UserPoint.from(userId, 100L, System.currentTimeMillis());
+    doReturn(Optional.of(userPoint)).when(delegate).findById(userId);
+    target.findById(userId);
+
+    // when
+    final var result = target.findById(userId);
+
+    // then
+    assertThat(result).contains(userPoint);
+    verify(delegate, times(1)).findById(userId);
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+    assertThat(cache.stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("갱신된 잔액은 Table 에 기록 후 조회 시 바로 반환")
+  void shouldWriteThroughAndReturnUpdatedUserPoint() {
+    // given
+    final long userId = 1L;
+    final UserPoint userPoint = UserPoint.from(userId, 100L, System.currentTimeMillis());
+    doReturn(userPoint).when(delegate).update(userPoint);
+
+    // when
+    final var updated = target.update(userPoint);
+    final var result = target.findById(userId);
+
+    // then
+    assertThat(updated).isEqualTo(userPoint);
+    assertThat(result).contains(userPoint);
+    verify(delegate).update(userPoint);
+    verify(delegate, never()).findById(userId);
+  }
+
+  @Test
+  @DisplayName("Table 기록 실패 시 보관된 잔액을 제거")
+  void shouldInvalidateWhenUpdateFails() {
+    // given
+    final long userId = 1L;
+    final UserPoint userPoint = UserPoint.from(userId, 100L, System.currentTimeMillis());
+    final UserPoint updatedUserPoint = UserPoint.from(userId, 200L, System.currentTimeMillis());
+    doReturn(userPoint).when(delegate).update(userPoint);
+    doThrow(new IllegalStateException()).when(delegate).update(updatedUserPoint);
+    target.update(userPoint);
+
+    // when
+    assertThrows(IllegalStateException.class, () -> target.update(updatedUserPoint));
+
+    // then
+    assertThat(cache.getIfPresent(userId)).isNull();
+  }
+
+  @Test
+  @DisplayName("보관할 사용자 수를 초과하면 일부 사용자를 제거")
+  void shouldEvictWhenExceedMaximumSize() {
+    // given
+    for (long userId = 1; userId <= 200; userId++) {
+      final UserPoint userPoint = UserPoint.from(userId, 100L, System.currentTimeMillis());
+      doReturn(userPoint).when(delegate).update(userPoint);
+      target.update(userPoint);
+    }
+
+    // when
+    cache.cleanUp();
+
+    // then
+    assertThat(cache.estimatedSize()).isLessThanOrEqualTo(100);
+    assertThat(cache.stats().evictionCount()).isGreaterThanOrEqualTo(100);
+  }
+}
@@ -0,0 +1,154 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointRepository;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingPointRepositoryTest {
+
+  private CoalescingPointRepository target;
+
+  @Mock
+  private PointRepository delegate;
+
+  // NOTE: flush 시점을 테스트에서 제어하기 위해 작업을 쌓아두기만 하는 executor 를 사용합니다.
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+  @BeforeEach
+  void setUp() {
+    target = new CoalescingPointRepository(delegate, tasks::add);
+  }
+
+  @Test
+  @DisplayName("연속된 잔액 갱신은 마지막 값만 한 번 기록")
+  void shouldWriteOnlyLatestValue() {
+    // given
+    final long userId = 1L;
+    final UserPoint first = UserPoint.from(userId, 100L, System.currentTimeMillis());
+    final UserPoint second = UserPoint.from(userId, 200L, System.currentTimeMillis());
+    final UserPoint third = UserPoint.from(userId, 300L, System.currentTimeMillis());
+
+    // when
+    final var result = target.update(first);
+    target.update(second);
+    target.update(third);
+    runTasks();
+
+    // then
+    assertThat(result).isEqualTo(first);
+    verify(delegate, times(1)).update(any());
+    verify(delegate).update(third);
+    assertThat(target.pendingSize()).isZero();
+  }
+
+  @Test
+  @DisplayName("반영 전의 잔액은 Table 을 조회하지 않고 반환")
+  void shouldReturnPendingValueWithoutReadingTable() {
+    // given
+    final long userId = 1L;
+    final UserPoint userPoint = UserPoint.from(userId, 100L, System.currentTimeMillis());
+    target.update(userPoint);
+
+    // when
+    final var result = target.findById(userId);
+
+    // then
+    assertThat(result).contains(userPoint);
+    verify(delegate, never()).findById(userId);
+  }
+
+  @Test
+  @DisplayName("반영 후에는 Table 에서 조회")
+  void shouldReadFromTableAfterFlush() {
+    // given
+    final long userId = 1L;
+    final UserPoint userPoint = UserPoint.from(userId, 100L, System.currentTimeMillis());
+    target.update(userPoint);
+    runTasks();
+    doReturn(Optional.of(userPoint)).when(delegate).findById(userId);
+
+    // when
+    final var result = target.findById(userId);
+
+    // then
+    assertThat(result).contains(userPoint);
+    verify(delegate).findById(userId);
+  }
+
+  @Test
+  @DisplayName("기록에 실패한 잔액은 다음 갱신 시 다시 기록")
+  void shouldRetryFailedWriteOnNextUpdate() {
+    // given
+    final long userId = 1L;
+    final UserPoint first = UserPoint.from(userId, 100L, System.currentTimeMillis());
+    final UserPoint second = UserPoint.from(userId, 200L, System.currentTimeMillis());
+    doThrow(new IllegalStateException()).when(delegate).update(first);
+    target.update(first);
+    runTasks();
+
+    // when
+    target.update(second);
+    runTasks();
+
+    // then
+    verify(delegate).update(second);
+    assertThat(target.pendingSize()).isZero();
+  }
+
+  @Test
+  @DisplayName("flush 작업 등록이 거절되어도 다음 갱신과 종료 시 다시 기록")
+  void shouldFlushAfterScheduleRejected() {
+    // given
+    final long userId = 1L;
+    final UserPoint first = UserPoint.from(userId, 100L, System.currentTimeMillis());
+    final UserPoint second = UserPoint.from(userId, 200L, System.currentTimeMillis());
+    final boolean[] reject = {true};
+    target = new CoalescingPointRepository(delegate, task -> {
+      if (reject[0]) {
+        throw new RejectedExecutionException();
+      }
+      tasks.add(task);
+    });
+    target.update(first);
+
+    // when
+    reject[0] = false;
+    target.update(second);
+    runTasks();
+    final UserPoint third = UserPoint.from(userId, 300L, System.currentTimeMillis());
+    reject[0] = true;
+    target.update(third);
+    target.flush();
+
+    // then
+    verify(delegate).update(second);
+    verify(delegate).update(third);
+    verify(delegate, never()).update(first);
+    assertThat(target.pendingSize()).isZero();
+  }
+
+  private void runTasks() {
+    Runnable task;
+    while ((task = tasks.poll()) != null) {
+      task.run();
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ColumnarPointHistoryRepositoryTest {
+
+  @Test
+  @DisplayName("기록 순서대로 ID 를 부여하고, 배열이 가득 차면 늘려서 보관")
+  void shouldAssignIdsAndGrowColumns() {
+    // given
+    final ColumnarPointHistoryRepository target = new ColumnarPointHistoryRepository(2);
+
+    // when
+    final var first = target.insert(PointHistory.from(1L, 100L, TransactionType.CHARGE, 1000L));
+    final var second = target.insert(PointHistory.from(2L, 200L, TransactionType.USE, 2000L));
+    final var third = target.insert(PointHistory.from(1L, 300L, TransactionType.USE, 3000L));
+
+    // then
+    assertThat(first.id()).isEqualTo(1L);
+    assertThat(second.id()).isEqualTo(2L);
+    assertThat(third.id()).isEqualTo(3L);
+    assertThat(target.size()).isEqualTo(3);
+    assertThat(target.findAllByUserId(1L)).containsExactly(
+        new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1000L),
+        new PointHistory(3L, 1L, 300L, TransactionType.USE, 3000L));
+    assertThat(target.findAllByUserId(3L)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("cursor 이후의 내역을 조건에 맞게 limit 개까지 조회")
+  void shouldFindHistoriesAfterCursorByQuery() {
+    // given
+    final ColumnarPointHistoryRepository target = new ColumnarPointHistoryRepository();
+    for (int i = 0; i < 10; i++) {
+      target.insert(PointHistory.from(1L, 100L + i,
+          i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, 1000L + i));
+      target.insert(PointHistory.from(2L, 100L + i, TransactionType.CHARGE, 1000L + i));
+    }
+    final PointHistoryQuery query = new PointHistoryQuery(1L, 3L, null, null,
+        TransactionType.CHARGE, 2);
+
+    // when
+    final var result = target.findAllByQuery(query);
+
+    // then
+    assertThat(result).extracting(PointHistory::id).containsExactly(5L, 9L);
+    assertThat(result).extracting(PointHistory::amount).containsExactly(102L, 104L);
+  }
+
+  @Test
+  @DisplayName("기록 중에 조회해도 기록이 끝난 내역만 순서대로 반환")
+  void shouldReturnCompletedRowsWhileInserting() {
+    // given
+    final ColumnarPointHistoryRepository target = new ColumnarPointHistoryRepository(1);
+    final int count = 100_000;
+    final CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+      for (int i = 0; i < count; i++) {
+        target.insert(PointHistory.from(1L, i + 1, TransactionType.CHARGE, 1000L));
+      }
+    });
+
+    // when
+    while (!writer.isDone()) {
+      final var result = target.findAllByUserId(1L);
+
+      // then
+      for (int i = 0; i < result.size(); i++) {
+        assertThat(result.get(i).amount()).isEqualTo(i + 1);
+      }
+    }
+    writer.join();
+    assertThat(target.findAllByUserId(1L)).hasSize(count);
+  }
+}
@@ -0,0 +1,131 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IndexedPointHistoryRepositoryTest {
+
+  private IndexedPointHistoryRepository target;
+
+  @Mock
+  private PointHistoryRepository delegate;
+
+  private final AtomicLong cursor = new AtomicLong(1);
+
+  @BeforeEach
+  void setUp() {
+    target = new IndexedPointHistoryRepository(delegate);
+    doAnswer(invocation -> {
+      final PointHistory pointHistory = invocation.getArgument(0);
+      return new PointHistory(cursor.getAndIncrement(), pointHistory.userId(),
+          pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+    }).when(delegate).insert(any());
+  }
+
+  @Test
+  @DisplayName("사용자별 내역을 기록 순서대로 Table 탐색 없이 조회")
+  void shouldFindUserHistoriesWithoutScanningTable() {
+    // given
+    for (int i = 0; i < 10; i++) {
+      target.insert(PointHistory.from(1L, 100L + i, TransactionType.CHARGE,
+          System.currentTimeMillis()));
+      target.insert(PointHistory.from(2L, 100L + i, TransactionType.USE,
+          System.currentTimeMillis()));
+    }
+
+    // when
+    final var result = target.findAllByUserId(1L);
+
+    // then
+    assertThat(result).hasSize(10);
+    assertThat(result).allMatch(pointHistory -> pointHistory.userId() == 1L);
+    assertThat(result).extracting(PointHistory::amount)
+        .containsExactly(100L, 101L, 102L, 103L, 104L, 105L, 106L, 107L, 108L, 109L);
+    assertThat(result).extracting(PointHistory::id).isSorted();
+    assertThat(target.findAllByUserId(3L)).isEmpty();
+    verify(delegate, never()).findAllByUserId(any());
+  }
+
+  @Test
+  @DisplayName("cursor 이후의 내역을 조건에 맞게 limit 개까지 조회")
+  void shouldFindHistoriesAfterCursorByQuery() {
+    // given
+    for (int i = 0; i < 10; i++) {
+      target.insert(PointHistory.from(1L, 100L + i,
+          i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, 1000L + i));
+    }
+    final PointHistoryQuery query = new PointHistoryQuery(1L, 2L, null, 1009L,
+        TransactionType.CHARGE, 3);
+
+    // when
+    final var result = target.findAllByQuery(query);
+
+    // then
+    assertThat(result).extracting(PointHistory::id).containsExactly(3L, 5L, 7L);
+    assertThat(target.findAllByQuery(new PointHistoryQuery(1L, 7L, null, 1008L,
+        TransactionType.CHARGE, 3))).isEmpty();
+    verify(delegate, never()).findAllByQuery(any());
+  }
+
+  @Test
+  @DisplayName("조회한 목록은 이후 기록되는 내역의 영향을 받지 않음")
+  void shouldReturnConsistentSnapshot() {
+    // given
+    target.insert(PointHistory.from(1L, 100L, TransactionType.CHARGE,
+        System.currentTimeMillis()));
+    final List<PointHistory> snapshot = target.findAllByUserId(1L);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      target.insert(PointHistory.from(1L, 100L, TransactionType.CHARGE,
+          System.currentTimeMillis()));
+    }
+
+    // then
+    assertThat(snapshot).hasSize(1);
+    assertThat(target.findAllByUserId(1L)).hasSize(11);
+  }
+
+  @Test
+  @DisplayName("기록 중에 조회해도 누락/중복 없는 snapshot 을 반환")
+  void shouldReturnConsistentSnapshotWhileInserting() {
+    // given
+    final int count = 10_000;
+    final CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+      for (int i = 0; i < count; i++) {
+        target.insert(PointHistory.from(1L, i + 1, TransactionType.CHARGE,
+            System.currentTimeMillis()));
+      }
+    });
+
+    // when
+    while (!writer.isDone()) {
+      final var result = target.findAllByUserId(1L);
+
+      // then
+      for (int i = 0; i < result.size(); i++) {
+        assertThat(result.get(i).amount()).isEqualTo(i + 1);
+      }
+    }
+    writer.join();
+    assertThat(target.findAllByUserId(1L)).hasSize(count);
+  }
+}
@@ -0,0 +1,133 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedPointHistoryRepositoryTest {
+
+  // NOTE: segment 전환을 검증하기 위해 segment 하나에 record 4개만 기록합니다.
+  private static final long SEGMENT_SIZE = MappedPointHistoryRepository.RECORD_SIZE * 4L;
+
+  @TempDir
+  private Path directory;
+
+  @Test
+  @DisplayName("segment 가 가득 차면 다음 segment 에 이어서 기록하고 사용자별로 조회")
+  void shouldRollSegmentsAndFindUserHistories() throws IOException {
+    // given
+    final MappedPointHistoryRepository target = new MappedPointHistoryRepository(directory,
+        SEGMENT_SIZE);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      target.insert(PointHistory.from(i % 2 == 0 ? 1L : 2L, 100L + i, TransactionType.CHARGE,
+          1000L + i));
+    }
+
+    // then
+    try (var files = Files.list(directory)) {
+      assertThat(files.count()).isEqualTo(3);
+    }
+    assertThat(target.findAllByUserId(1L)).extracting(PointHistory::id)
+        .containsExactly(1L, 3L, 5L, 7L, 9L);
+    assertThat(target.findAllByUserId(2L)).extracting(PointHistory::amount)
+        .containsExactly(101L, 103L, 105L, 107L, 109L);
+    assertThat(target.findAllByUserId(3L)).isEmpty();
+    target.close();
+  }
+
+  @Test
+  @DisplayName("cursor 이후의 내역을 조건에 맞게 limit 개까지 조회")
+  void shouldFindHistoriesAfterCursorByQuery() throws IOException {
+    // given
+    final MappedPointHistoryRepository target = new MappedPointHistoryRepository(directory,
+        MappedPointHistoryRepository.RECORD_SIZE * 1024L);
+    for (int i = 0; i < 300; i++) {
+      target.insert(PointHistory.from(1L, i + 1,
+          i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, 1000L + i));
+      target.insert(PointHistory.from(2L, i + 1, TransactionType.CHARGE, 1000L + i));
+    }
+    // NOTE: 사용자 1의 내역 ID 는 1, 3, 5 ... 이며 USE 는 3개마다 한 번입니다.
+    final PointHistoryQuery query = new PointHistoryQuery(1L, 400L, null, null,
+        TransactionType.USE, 3);
+
+    // when
+    final var result = target.findAllByQuery(query);
+
+    // then
+    assertThat(result).extracting(PointHistory::id).containsExactly(403L, 409L, 415L);
+    assertThat(result).allMatch(pointHistory -> pointHistory.userId() == 1L);
+    target.close();
+  }
+
+  @Test
+  @DisplayName("재시작 시 기록된 내역을 복구하고 이어서 ID 를 부여")
+  void shouldRecoverHistoriesAfterReopen() throws IOException {
+    // given
+    final MappedPointHistoryRepository before = new MappedPointHistoryRepository(directory,
+        SEGMENT_SIZE);
+    for (int i = 0; i < 6; i++) {
+      before.insert(PointHistory.from(1L, 100L + i, TransactionType.CHARGE, 1000L + i));
+    }
+    before.close();
+
+    // when
+    final MappedPointHistoryRepository target = new MappedPointHistoryRepository(directory,
+        SEGMENT_SIZE);
+    final var inserted = target.insert(PointHistory.from(1L, 200L, TransactionType.USE, 2000L));
+
+    // then
+    assertThat(inserted.id()).isEqualTo(7L);
+    assertThat(target.size()).isEqualTo(7);
+    assertThat(target.findAllByUserId(1L)).extracting(PointHistory::amount)
+        .containsExactly(100L, 101L, 102L, 103L, 104L, 105L, 200L);
+    target.close();
+  }
+
+  @Test
+  @DisplayName("기록이 끝나지 않은 record 이후의 내역은 복구하지 않음")
+  void shouldDiscardRecordsAfterIncompleteRecord() throws IOException {
+    // given
+    final MappedPointHistoryRepository before = new MappedPointHistoryRepository(directory,
+        SEGMENT_SIZE);
+    for (int i = 0; i < 3; i++) {
+      before.insert(PointHistory.from(1L, 100L + i, TransactionType.CHARGE, 1000L + i));
+    }
+    before.close();
+    // NOTE: 두 번째 record 의 id 를 지워 기록 도중 종료된 상황을 만듭니다.
+    try (FileChannel channel = FileChannel.open(directory.resolve("segment-000000.dat"),
+        StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.allocate(Long.BYTES), MappedPointHistoryRepository.RECORD_SIZE);
+    }
+
+    // when
+    final MappedPointHistoryRepository target = new MappedPointHistoryRepository(directory,
+        SEGMENT_SIZE);
+
+    // then
+    assertThat(target.size()).isEqualTo(1);
+    assertThat(target.findAllByUserId(1L)).extracting(PointHistory::amount)
+        .containsExactly(100L);
+    assertThat(target.insert(PointHistory.from(1L, 300L, TransactionType.USE, 3000L)).id())
+        .isEqualTo(2L);
+    target.close();
+
+    final MappedPointHistoryRepository reopened = new MappedPointHistoryRepository(directory,
+        SEGMENT_SIZE);
+    assertThat(reopened.findAllByUserId(1L)).extracting(PointHistory::amount)
+        .containsExactly(100L, 300L);
+    reopened.close();
+  }
+}
@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.OptimisticPointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MeteredPointRepositoryTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final OptimisticPointRepository delegate = mock(OptimisticPointRepository.class);
+  private final MeteredOptimisticPointRepository target =
+      new MeteredOptimisticPointRepository(delegate, meterRegistry);
+
+  @Test
+  @DisplayName("호출 결과를 그대로 반환하고 method 별로 소요 시간을 기록")
+  void shouldRecordCallPerMethod() {
+    // given
+    final UserPoint userPoint = UserPoint.from(1L, 100L, 1L);
+    final UserPoint updated = UserPoint.from(1L, 200L, 2L);
+    given(delegate.findById(1L)).willReturn(Optional.of(userPoint));
+    given(delegate.compareAndSet(userPoint, updated)).willReturn(Optional.of(updated));
+
+    // when
+    final Optional<UserPoint> found = target.findById(1L);
+    final Optional<UserPoint> swapped = target.compareAndSet(userPoint, updated);
+
+    // then
+    assertThat(found).contains(userPoint);
+    assertThat(swapped).contains(updated);
+    assertThat(timerCount("findById")).isEqualTo(1);
+    assertThat(timerCount("compareAndSet")).isEqualTo(1);
+    assertThat(timerCount("update")).isZero();
+  }
+
+  @Test
+  @DisplayName("저장소에서 예외가 발생해도 소요 시간을 기록")
+  void shouldRecordCallWhenDelegateThrows() {
+    // given
+    final UserPoint userPoint = UserPoint.from(1L, 100L, 1L);
+    given(delegate.update(userPoint)).willThrow(new IllegalStateException());
+
+    // when
+    assertThrows(IllegalStateException.class, () -> target.update(userPoint));
+
+    // then
+    assertThat(timerCount("update")).isEqualTo(1);
+  }
+
+  private long timerCount(String method) {
+    return meterRegistry.get("point.repository")
+        .tag("repository", "point")
+        .tag("method", method)
+        .timer()
+        .count();
+  }
+}
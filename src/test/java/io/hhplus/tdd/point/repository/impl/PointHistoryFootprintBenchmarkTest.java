@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * 같은 포인트 내역을 PointHistoryTable 과 같은 List&lt;PointHistory&gt; 와 column 저장소에 보관했을 때의 내역당 메모리
+ * 사용량(JOL)과 사용자별 조회 시간을 비교합니다.
+ * <p>
+ * ./gradlew benchmark 로 실행하며, -Dbenchmark.rows, -Dbenchmark.users 로 내역 수와 사용자 수를 조절할 수 있습니다.
+ */
+@Tag("benchmark")
+class PointHistoryFootprintBenchmarkTest {
+
+  private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+  private static final int USERS = Integer.getInteger("benchmark.users", 100_000);
+  private static final int LOOKUPS = 50;
+
+  @Test
+  @DisplayName("포인트 내역 저장 방식별 내역당 메모리 사용량 비교")
+  void compareHistoryFootprints() {
+    final List<PointHistory> records = new ArrayList<>(ROWS);
+    final ColumnarPointHistoryRepository columnar = new ColumnarPointHistoryRepository(ROWS);
+
+    final SplittableRandom random = new SplittableRandom(42);
+    final long now = System.currentTimeMillis();
+    for (int i = 0; i < ROWS; i++) {
+      final PointHistory pointHistory = PointHistory.from(random.nextLong(1, USERS + 1),
+          random.nextLong(1, 100_000),
+          random.nextBoolean() ? TransactionType.CHARGE : TransactionType.USE, now + i);
+      records.add(new PointHistory(i + 1L, pointHistory.userId(), pointHistory.amount(),
+          pointHistory.type(), pointHistory.updateMillis()));
+      columnar.insert(pointHistory);
+    }
+
+    System.out.printf("rows=%d, users=%d%n", ROWS, USERS);
+    System.out.printf("%-10s %14s %14s %18s%n", "store", "total(MB)", "bytes/row",
+        "avg lookup(ms)");
+    report("records", GraphLayout.parseInstance(records).totalSize(),
+        userId -> records.stream().filter(pointHistory -> pointHistory.userId() == userId)
+            .toList());
+    report("columnar", GraphLayout.parseInstance(columnar).totalSize(),
+        columnar::findAllByUserId);
+  }
+
+  private void report(String name, long totalBytes, LongFunction<List<PointHistory>> lookup) {
+    final SplittableRandom random = new SplittableRandom(7);
+    final long start = System.nanoTime();
+    for (int i = 0; i < LOOKUPS; i++) {
+      lookup.apply(random.nextLong(1, USERS + 1));
+    }
+    final double avgLookupMillis = (System.nanoTime() - start) / 1_000_000.0 / LOOKUPS;
+
+    System.out.printf("%-10s %14.1f %14.1f %18.2f%n", name, totalBytes / 1024.0 / 1024.0,
+        (double) totalBytes / ROWS, avgLookupMillis);
+  }
+}
@@ -0,0 +1,86 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 1M 사용자의 10M 포인트 내역이 기록된 상태에서 사용자별 내역 조회 시간을 Table 전체 탐색과 사용자별 index 로 비교합니다.
+ * <p>
+ * ./gradlew benchmark 로 실행하며, -Dbenchmark.rows, -Dbenchmark.users 로 내역 수와 사용자 수를 조절할 수 있습니다.
+ */
+@Tag("benchmark")
+class PointHistoryIndexBenchmarkTest {
+
+  private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000_000);
+  private static final int USERS = Integer.getInteger("benchmark.users", 1_000_000);
+  private static final int SCAN_LOOKUPS = 20;
+  private static final int INDEX_LOOKUPS = 1_000_000;
+
+  @Test
+  @DisplayName("사용자별 포인트 내역 조회 - Table 전체 탐색/사용자별 index 비교")
+  void compareHistoryLookups() {
+    final InMemoryPointHistoryRepository table = new InMemoryPointHistoryRepository(ROWS);
+    final IndexedPointHistoryRepository indexed = new IndexedPointHistoryRepository(table);
+
+    final SplittableRandom random = new SplittableRandom(42);
+    final long now = System.currentTimeMillis();
+    final long loadStart = System.nanoTime();
+    for (int i = 0; i < ROWS; i++) {
+      indexed.insert(PointHistory.from(random.nextLong(1, USERS + 1), 100L,
+          TransactionType.CHARGE, now));
+    }
+    System.out.printf("rows=%d, users=%d, load=%.1fs%n", ROWS, indexed.size(),
+        (System.nanoTime() - loadStart) / 1_000_000_000.0);
+    System.out.printf("%-8s %10s %16s %14s%n", "lookup", "lookups", "avg latency(us)",
+        "rows/lookup");
+
+    run("scan", SCAN_LOOKUPS, table::findAllByUserId);
+    run("index", INDEX_LOOKUPS, indexed::findAllByUserId);
+  }
+
+  private void run(String name, int lookups, LongFunction<List<PointHistory>> lookup) {
+    final SplittableRandom random = new SplittableRandom(7);
+    long rows = 0;
+    final long start = System.nanoTime();
+    for (int i = 0; i < lookups; i++) {
+      rows += lookup.apply(random.nextLong(1, USERS + 1)).size();
+    }
+    final long elapsed = System.nanoTime() - start;
+    System.out.printf("%-8s %10d %16.2f %14.1f%n", name, lookups, elapsed / 1_000.0 / lookups,
+        (double) rows / lookups);
+  }
+
+  /**
+   * PointHistoryTable 과 같은 방식(전체 목록 탐색)으로 조회하되, 기록 시 지연이 없는 repository
+   */
+  private static final class InMemoryPointHistoryRepository implements PointHistoryRepository {
+
+    private final List<PointHistory> table;
+    private long cursor = 1;
+
+    private InMemoryPointHistoryRepository(int capacity) {
+      this.table = new ArrayList<>(capacity);
+    }
+
+    @Override
+    public PointHistory insert(PointHistory pointHistory) {
+      final PointHistory savedPointHistory = new PointHistory(cursor++, pointHistory.userId(),
+          pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+      table.add(savedPointHistory);
+      return savedPointHistory;
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(Long userId) {
+      return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+    }
+  }
+}
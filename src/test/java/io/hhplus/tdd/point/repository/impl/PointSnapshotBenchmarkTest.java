@@ -0,0 +1,179 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointRepository;
+import io.hhplus.tdd.point.repository.impl.WalPointRepository.SyncMode;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 잔액 복구 시간을 log 전체를 다시 읽는 경우와 snapshot 을 읽은 뒤 이후의 log 만 다시 읽는 경우로 비교합니다.
+ * <p>
+ * 50M 사용자의 잔액은 파일을 읽어 primitive 배열에 반영하는 시간을, 저장소 생성까지 포함한 시작 시간은 잔액을 모두
+ * heap 에 보관할 수 있는 5M 사용자가 각각 10번씩 갱신한 log 로 측정합니다. ./gradlew benchmark 로 실행하며,
+ * -Dbenchmark.users, -Dbenchmark.startup-users, -Dbenchmark.updates-per-user, -Dbenchmark.tail-records,
+ * -Dbenchmark.dir 로 조절할 수 있습니다.
+ */
+@Tag("benchmark")
+class PointSnapshotBenchmarkTest {
+
+  private static final int USERS = Integer.getInteger("benchmark.users", 50_000_000);
+  private static final int STARTUP_USERS = Integer.getInteger("benchmark.startup-users",
+      5_000_000);
+  private static final int UPDATES_PER_USER = Integer.getInteger("benchmark.updates-per-user",
+      10);
+  private static final int TAIL_RECORDS = Integer.getInteger("benchmark.tail-records", 1_000_000);
+  private static final long UPDATE_MILLIS = 1_700_000_000_000L;
+
+  @Test
+  @DisplayName("잔액 복구 - log 전체/snapshot + 이후 log 비교")
+  void compareRecovery() throws IOException {
+    final Path directory = Files.createTempDirectory(
+        Path.of(System.getProperty("benchmark.dir", System.getProperty("java.io.tmpdir"))),
+        "point-snapshot");
+    try {
+      parse(directory);
+      startup(directory);
+    } finally {
+      try (Stream<Path> files = Files.list(directory)) {
+        for (Path file : files.toList()) {
+          Files.deleteIfExists(file);
+        }
+      }
+      Files.deleteIfExists(directory);
+    }
+  }
+
+  /**
+   * 사용자마다 잔액을 한 번씩 기록한 log 와 snapshot 을 읽어 배열에 반영하는 시간
+   */
+  private void parse(Path directory) throws IOException {
+    final Path log = directory.resolve("parse.log");
+    final Path snapshot = directory.resolve("parse.snapshot");
+    writeLog(log, 0, USERS);
+    PointSnapshotFile.write(snapshot, 1, userPoints(USERS));
+
+    final long[] points = new long[USERS + 1];
+    final long[] updateMillis = new long[USERS + 1];
+    final PointSnapshotFile.Sink sink = (userId, point, millis) -> {
+      points[(int) userId] = point;
+      updateMillis[(int) userId] = millis;
+    };
+
+    System.out.printf("parse: users=%d, cpus=%d%n", USERS,
+        Runtime.getRuntime().availableProcessors());
+    System.out.printf("%-20s %12s %12s %12s%n", "source", "size(MB)", "elapsed(ms)", "users");
+    long start = System.nanoTime();
+    try (FileChannel channel = FileChannel.open(log, StandardOpenOption.READ)) {
+      WalPointRepository.replay(channel, sink);
+    }
+    print("log", Files.size(log), System.nanoTime() - start, USERS);
+    Files.delete(log);
+
+    start = System.nanoTime();
+    PointSnapshotFile.read(snapshot, sink);
+    print("snapshot(parallel)", Files.size(snapshot), System.nanoTime() - start, USERS);
+    Files.delete(snapshot);
+  }
+
+  /**
+   * 저장소 생성 시간 - log 전체를 읽는 경우와 snapshot 을 읽은 뒤 이후의 log 만 읽는 경우
+   */
+  private void startup(Path directory) throws IOException {
+    final PointRepository noOp = new NoOpPointRepository();
+    System.out.printf("startup: users=%d, updates/user=%d, tail=%d%n", STARTUP_USERS,
+        UPDATES_PER_USER, TAIL_RECORDS);
+    System.out.printf("%-20s %12s %12s %12s%n", "source", "size(MB)", "elapsed(ms)", "users");
+
+    final Path log = directory.resolve("full.log");
+    long position = 0;
+    for (int i = 0; i < UPDATES_PER_USER; i++) {
+      position = writeLog(log, position, STARTUP_USERS);
+    }
+    writeLog(log, position, TAIL_RECORDS);
+    long start = System.nanoTime();
+    final WalPointRepository fromLog = new WalPointRepository(noOp, log, SyncMode.GROUP_COMMIT);
+    print("log", Files.size(log), System.nanoTime() - start, fromLog.size());
+    fromLog.close();
+    Files.delete(log);
+
+    final Path tail = directory.resolve("tail.log");
+    final Path snapshot = directory.resolve("tail.log.snapshot");
+    PointSnapshotFile.write(snapshot, 1, userPoints(STARTUP_USERS));
+    writeLog(tail, 0, TAIL_RECORDS);
+    start = System.nanoTime();
+    final WalPointRepository fromSnapshot = new WalPointRepository(noOp, tail,
+        SyncMode.GROUP_COMMIT);
+    print("snapshot + log tail", Files.size(snapshot) + Files.size(tail),
+        System.nanoTime() - start, fromSnapshot.size());
+    fromSnapshot.close();
+  }
+
+  private static void print(String source, long bytes, long elapsedNanos, long users) {
+    System.out.printf("%-20s %12.1f %12d %12d%n", source, bytes / 1024.0 / 1024.0,
+        elapsedNanos / 1_000_000, users);
+  }
+
+  /**
+   * records 명의 사용자 잔액을 1번부터 순서대로 한 번씩 기록합니다.
+   *
+   * @return 기록을 마친 위치
+   */
+  private static long writeLog(Path path, long position, int records) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE)) {
+      final ByteBuffer buffer = ByteBuffer.allocate(WalPointRepository.RECORD_SIZE * 65536);
+      for (int i = 1; i <= records; i++) {
+        WalPointRepository.write(buffer, UserPoint.from(i, i, UPDATE_MILLIS));
+        if (!buffer.hasRemaining() || i == records) {
+          buffer.flip();
+          while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+          }
+          buffer.clear();
+        }
+      }
+    }
+    return position;
+  }
+
+  private static Iterator<UserPoint> userPoints(int users) {
+    return new Iterator<>() {
+      private int userId;
+
+      @Override
+      public boolean hasNext() {
+        return userId < users;
+      }
+
+      @Override
+      public UserPoint next() {
+        userId++;
+        return UserPoint.from(userId, userId, UPDATE_MILLIS);
+      }
+    };
+  }
+
+  private static final class NoOpPointRepository implements PointRepository {
+
+    @Override
+    public Optional<UserPoint> findById(long id) {
+      return Optional.empty();
+    }
+
+    @Override
+    public UserPoint update(UserPoint userPoint) {
+      return userPoint;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointRepository;
+import io.hhplus.tdd.point.repository.impl.WalPointRepository.SyncMode;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 동시에 잔액을 갱신하는 스레드 수별로 write-ahead log 의 갱신마다 fsync 와 group commit 처리량을 비교합니다.
+ * <p>
+ * Table 반영 시간을 제외하기 위해 지연이 없는 repository 에 반영하며, ./gradlew benchmark 로 실행합니다.
+ * -Dbenchmark.duration-millis 로 측정 시간을, -Dbenchmark.dir 로 log 파일을 기록할 디렉터리를 조절할 수 있습니다.
+ */
+@Tag("benchmark")
+class PointWalBenchmarkTest {
+
+  private static final long DURATION_MILLIS = Long.getLong("benchmark.duration-millis", 3_000);
+  private static final int[] THREADS = {1, 4, 16, 64};
+
+  @Test
+  @DisplayName("잔액 write-ahead log - 갱신마다 fsync/group commit 처리량 비교")
+  void compareSyncModes() throws Exception {
+    final Path directory = Files.createTempDirectory(
+        Path.of(System.getProperty("benchmark.dir", System.getProperty("java.io.tmpdir"))),
+        "point-wal");
+    System.out.printf("%-14s %8s %12s %14s%n", "sync", "threads", "ops/s", "fsync/s");
+    for (SyncMode syncMode : SyncMode.values()) {
+      for (int threads : THREADS) {
+        run(directory.resolve(syncMode + "-" + threads + ".log"), syncMode, threads);
+      }
+    }
+  }
+
+  private void run(Path path, SyncMode syncMode, int threads) throws Exception {
+    final WalPointRepository target = new WalPointRepository(new NoOpPointRepository(), path,
+        syncMode);
+    final long deadline = System.nanoTime() + DURATION_MILLIS * 1_000_000;
+    final long start = System.nanoTime();
+    final List<Future<Long>> results = new ArrayList<>();
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    for (int thread = 0; thread < threads; thread++) {
+      final long userId = thread + 1;
+      results.add(executor.submit(() -> {
+        long operations = 0;
+        while (System.nanoTime() < deadline) {
+          target.update(UserPoint.from(userId, operations, System.currentTimeMillis()));
+          operations++;
+        }
+        return operations;
+      }));
+    }
+
+    long operations = 0;
+    for (Future<Long> result : results) {
+      operations += result.get();
+    }
+    final double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+    executor.shutdown();
+    target.close();
+    System.out.printf("%-14s %8d %12.0f %14.0f%n", syncMode, threads, operations / seconds,
+        target.syncCount() / seconds);
+    deleteQuietly(path);
+  }
+
+  private static void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException ignored) {
+      // NOTE: 측정 결과와 무관하므로 삭제 실패는 무시합니다.
+    }
+  }
+
+  private static final class NoOpPointRepository implements PointRepository {
+
+    @Override
+    public Optional<UserPoint> findById(long id) {
+      return Optional.empty();
+    }
+
+    @Override
+    public UserPoint update(UserPoint userPoint) {
+      return userPoint;
+    }
+  }
+}
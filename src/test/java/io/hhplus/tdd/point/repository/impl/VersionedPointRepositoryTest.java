@@ -0,0 +1,155 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointRepository;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VersionedPointRepositoryTest {
+
+  private VersionedPointRepository target;
+
+  @Mock
+  private PointRepository delegate;
+
+  @BeforeEach
+  void setUp() {
+    target = new VersionedPointRepository(delegate);
+  }
+
+  @Test
+  @DisplayName("조회한 version 이 같으면 잔액을 갱신하고 version 을 1 증가")
+  void shouldCompareAndSetWhenVersionMatches() {
+    // given
+    final long userId = 1L;
+    doReturn(Optional.of(UserPoint.from(userId, 100L, 1000L))).when(delegate).findById(userId);
+    final UserPoint userPoint = target.findById(userId).orElseThrow();
+
+    // when
+    final var result = target.compareAndSet(userPoint, userPoint.addPoint(50L));
+
+    // then
+    assertThat(result).hasValueSatisfying(saved -> {
+      assertThat(saved.point()).isEqualTo(150L);
+      assertThat(saved.version()).isEqualTo(1L);
+    });
+    assertThat(target.findById(userId)).isEqualTo(result);
+    verify(delegate, times(1)).findById(userId);
+    verify(delegate).update(result.orElseThrow());
+  }
+
+  @Test
+  @DisplayName("조회 이후 다른 요청이 먼저 갱신했으면 갱신하지 않음")
+  void shouldNotCompareAndSetWhenVersionChanged() {
+    // given
+    final long userId = 1L;
+    doReturn(Optional.of(UserPoint.from(userId, 100L, 1000L))).when(delegate).findById(userId);
+    final UserPoint stale = target.findById(userId).orElseThrow();
+    target.compareAndSet(stale, stale.addPoint(50L));
+
+    // when
+    final var result = target.compareAndSet(stale, stale.usePoint(100L));
+
+    // then
+    assertThat(result).isEmpty();
+    assertThat(target.findById(userId).orElseThrow().point()).isEqualTo(150L);
+    verify(delegate, times(1)).update(any());
+  }
+
+  @Test
+  @DisplayName("Table 기록에 실패하면 잔액을 교체하지 않음")
+  void shouldRollbackWhenWriteFails() {
+    // given
+    final long userId = 1L;
+    doReturn(Optional.of(UserPoint.from(userId, 100L, 1000L))).when(delegate).findById(userId);
+    doThrow(new IllegalStateException()).when(delegate).update(any());
+    final UserPoint userPoint = target.findById(userId).orElseThrow();
+
+    // when
+    assertThrows(IllegalStateException.class,
+        () -> target.compareAndSet(userPoint, userPoint.addPoint(50L)));
+
+    // then
+    assertThat(target.findById(userId)).contains(userPoint);
+  }
+
+  @Test
+  @DisplayName("Table 에 기록하는 동안에는 이전 잔액을 조회하고, 기록이 끝난 뒤 다른 요청의 version 비교는 실패")
+  void shouldNotPublishBeforeWriteCompletes() {
+    // given
+    final long userId = 1L;
+    doReturn(Optional.of(UserPoint.from(userId, 100L, 1000L))).when(delegate).findById(userId);
+    final UserPoint userPoint = target.findById(userId).orElseThrow();
+    final AtomicReference<UserPoint> readDuringWrite = new AtomicReference<>();
+    final AtomicReference<CompletableFuture<Optional<UserPoint>>> swapDuringWrite =
+        new AtomicReference<>();
+    doAnswer(invocation -> {
+      // NOTE: 기록 중인 스레드가 아닌 다른 요청에서 조회하고 갱신합니다.
+      CompletableFuture.runAsync(() -> readDuringWrite.set(target.findById(userId).orElseThrow()))
+          .join();
+      swapDuringWrite.set(CompletableFuture.supplyAsync(
+          () -> target.compareAndSet(userPoint, userPoint.addPoint(10L))));
+      return invocation.getArgument(0);
+    }).when(delegate).update(any());
+
+    // when
+    final var result = target.compareAndSet(userPoint, userPoint.addPoint(50L));
+
+    // then
+    assertThat(readDuringWrite.get()).isEqualTo(userPoint);
+    assertThat(swapDuringWrite.get().join()).isEmpty();
+    assertThat(target.findById(userId)).isEqualTo(result);
+    verify(delegate, times(1)).update(any());
+  }
+
+  @Test
+  @DisplayName("동시에 재시도하며 갱신해도 모든 갱신이 반영되고 Table 에는 마지막 잔액이 기록")
+  void shouldApplyAllConcurrentUpdates() {
+    // given
+    final long userId = 1L;
+    final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+    doReturn(Optional.of(UserPoint.from(userId, 0L, 1000L))).when(delegate).findById(userId);
+    doAnswer(invocation -> {
+      final UserPoint userPoint = invocation.getArgument(0);
+      table.put(userPoint.id(), userPoint);
+      return userPoint;
+    }).when(delegate).update(any());
+
+    // when
+    final CompletableFuture<?>[] futures = IntStream.range(0, 100)
+        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+          Optional<UserPoint> saved;
+          do {
+            final UserPoint userPoint = target.findById(userId).orElseThrow();
+            saved = target.compareAndSet(userPoint, userPoint.addPoint(10L));
+          } while (saved.isEmpty());
+        }))
+        .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(futures).join();
+
+    // then
+    final UserPoint result = target.findById(userId).orElseThrow();
+    assertThat(result.point()).isEqualTo(1000L);
+    assertThat(result.version()).isEqualTo(100L);
+    assertThat(table.get(userId)).isEqualTo(result);
+  }
+}
@@ -0,0 +1,206 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointRepository;
+import io.hhplus.tdd.point.repository.impl.WalPointRepository.SyncMode;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WalPointRepositoryTest {
+
+  @TempDir
+  private Path directory;
+
+  @Mock
+  private PointRepository delegate;
+
+  private Path path;
+
+  @BeforeEach
+  void setUp() {
+    path = directory.resolve("balance.log");
+  }
+
+  @Test
+  @DisplayName("재시작 시 log 에 기록된 사용자별 마지막 잔액을 복구")
+  void shouldReplayLatestBalancesAfterReopen() throws IOException {
+    // given
+    returnUpdatedUserPoint();
+    final WalPointRepository before = new WalPointRepository(delegate, path,
+        SyncMode.GROUP_COMMIT);
+    before.update(UserPoint.from(1L, 100L, 1000L));
+    before.update(UserPoint.from(2L, 200L, 2000L));
+    before.update(UserPoint.from(1L, 300L, 3000L));
+    before.close();
+
+    // when
+    final WalPointRepository target = new WalPointRepository(delegate, path,
+        SyncMode.GROUP_COMMIT);
+
+    // then
+    assertThat(Files.size(path)).isEqualTo(WalPointRepository.RECORD_SIZE * 3L);
+    assertThat(target.size()).isEqualTo(2);
+    assertThat(target.findById(1L)).contains(UserPoint.from(1L, 300L, 3000L));
+    assertThat(target.findById(2L)).contains(UserPoint.from(2L, 200L, 2000L));
+    verify(delegate, never()).findById(1L);
+    target.close();
+  }
+
+  @Test
+  @DisplayName("checksum 이 맞지 않는 record 부터는 복구하지 않고 잘라낸 뒤 이어서 기록")
+  void shouldTruncateCorruptedTail() throws IOException {
+    // given
+    returnUpdatedUserPoint();
+    final WalPointRepository before = new WalPointRepository(delegate, path,
+        SyncMode.PER_OPERATION);
+    before.update(UserPoint.from(1L, 100L, 1000L));
+    before.update(UserPoint.from(1L, 200L, 2000L));
+    before.close();
+    // NOTE: 두 번째 record 의 잔액을 바꾸고 끊긴 record 를 덧붙여 기록 도중 종료된 상황을 만듭니다.
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, 999L),
+          WalPointRepository.RECORD_SIZE + Long.BYTES);
+      channel.write(ByteBuffer.allocate(10), WalPointRepository.RECORD_SIZE * 2L);
+    }
+
+    // when
+    final WalPointRepository target = new WalPointRepository(delegate, path,
+        SyncMode.PER_OPERATION);
+
+    // then
+    assertThat(Files.size(path)).isEqualTo(WalPointRepository.RECORD_SIZE);
+    assertThat(target.findById(1L)).contains(UserPoint.from(1L, 100L, 1000L));
+    target.update(UserPoint.from(1L, 300L, 3000L));
+    target.close();
+
+    final WalPointRepository reopened = new WalPointRepository(delegate, path,
+        SyncMode.PER_OPERATION);
+    assertThat(reopened.findById(1L)).contains(UserPoint.from(1L, 300L, 3000L));
+    reopened.close();
+  }
+
+  @Test
+  @DisplayName("동시에 갱신한 잔액이 fsync 를 나누어 사용해도 모두 log 에 기록")
+  void shouldPersistAllConcurrentUpdatesWithGroupCommit() throws Exception {
+    // given
+    returnUpdatedUserPoint();
+    final int users = 200;
+    final WalPointRepository before = new WalPointRepository(delegate, path,
+        SyncMode.GROUP_COMMIT);
+    final CountDownLatch latch = new CountDownLatch(users);
+
+    // when
+    final ExecutorService executor = Executors.newFixedThreadPool(16);
+    for (long userId = 1; userId <= users; userId++) {
+      final long id = userId;
+      executor.submit(() -> {
+        try {
+          before.update(UserPoint.from(id, id * 10, 1000L));
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    latch.await();
+    executor.shutdown();
+
+    // then
+    // NOTE: 종료 시 fsync 없이 다시 열어, 반환된 갱신이 이미 모두 기록되었는지 확인합니다.
+    final WalPointRepository target = new WalPointRepository(delegate, path,
+        SyncMode.GROUP_COMMIT);
+    assertThat(target.size()).isEqualTo(users);
+    for (long userId = 1; userId <= users; userId++) {
+      assertThat(target.findById(userId)).contains(UserPoint.from(userId, userId * 10, 1000L));
+    }
+    before.close();
+    target.close();
+  }
+
+  @Test
+  @DisplayName("snapshot 기록 후 재시작 시 snapshot 과 이후의 log 로 잔액을 복구하고 이전 log 는 삭제")
+  void shouldRecoverFromSnapshotAndLogTail() throws IOException {
+    // given
+    returnUpdatedUserPoint();
+    final WalPointRepository before = new WalPointRepository(delegate, path,
+        SyncMode.GROUP_COMMIT);
+    for (long userId = 1; userId <= 100; userId++) {
+      before.update(UserPoint.from(userId, userId, 1000L));
+    }
+    before.checkpoint();
+    before.update(UserPoint.from(1L, 500L, 2000L));
+    before.update(UserPoint.from(101L, 101L, 2000L));
+    before.close();
+
+    // when
+    final WalPointRepository target = new WalPointRepository(delegate, path,
+        SyncMode.GROUP_COMMIT);
+
+    // then
+    assertThat(Files.exists(directory.resolve("balance.log.snapshot"))).isTrue();
+    assertThat(Files.exists(directory.resolve("balance.log.1"))).isFalse();
+    assertThat(Files.size(path)).isEqualTo(WalPointRepository.RECORD_SIZE * 2L);
+    assertThat(target.size()).isEqualTo(101);
+    assertThat(target.findById(1L)).contains(UserPoint.from(1L, 500L, 2000L));
+    assertThat(target.findById(50L)).contains(UserPoint.from(50L, 50L, 1000L));
+    assertThat(target.findById(101L)).contains(UserPoint.from(101L, 101L, 2000L));
+    target.close();
+  }
+
+  @Test
+  @DisplayName("snapshot 을 기록하는 동안 갱신된 잔액도 재시작 시 모두 복구")
+  void shouldRecoverUpdatesDuringCheckpoint() throws Exception {
+    // given
+    returnUpdatedUserPoint();
+    final int users = 1000;
+    final WalPointRepository before = new WalPointRepository(delegate, path,
+        SyncMode.GROUP_COMMIT);
+    for (long userId = 1; userId <= users; userId++) {
+      before.update(UserPoint.from(userId, 1L, 1000L));
+    }
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final var writer = executor.submit(() -> {
+      for (long userId = 1; userId <= users; userId++) {
+        before.update(UserPoint.from(userId, 2L, 2000L));
+      }
+    });
+
+    // when
+    before.checkpoint();
+    writer.get();
+    executor.shutdown();
+    before.close();
+    final WalPointRepository target = new WalPointRepository(delegate, path,
+        SyncMode.GROUP_COMMIT);
+
+    // then
+    for (long userId = 1; userId <= users; userId++) {
+      assertThat(target.findById(userId)).contains(UserPoint.from(userId, 2L, 2000L));
+    }
+    target.close();
+  }
+
+  private void returnUpdatedUserPoint() {
+    doAnswer(invocation -> invocation.getArgument(0)).when(delegate).update(any());
+  }
+}
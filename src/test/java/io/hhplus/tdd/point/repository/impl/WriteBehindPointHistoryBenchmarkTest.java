@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.WriteBehindPointHistoryRepository.Durability;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PointHistoryTable(기록마다 0 ~ 300ms 지연)에 내역을 직접 기록하는 경우와 write-behind 로 기록하는 경우의 기록 요청
+ * 지연 시간과, 모든 내역이 Table 에 기록될 때까지의 처리량을 비교합니다.
+ * <p>
+ * point executor 와 같은 수의 스레드가 임의의 사용자 내역을 동시에 기록합니다. ./gradlew benchmark 로 실행하며,
+ * -Dbenchmark.rows, -Dbenchmark.callers, -Dbenchmark.users, -Dbenchmark.queue-capacity 로 조절할 수 있으며,
+ * queue-capacity 를 rows 보다 작게 하면 queue 가 가득 차 요청 스레드에서 직접 기록하는 경우를 측정합니다.
+ */
+@Tag("benchmark")
+class WriteBehindPointHistoryBenchmarkTest {
+
+  private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000);
+  private static final int CALLERS = Integer.getInteger("benchmark.callers", 64);
+  private static final int USERS = Integer.getInteger("benchmark.users", 1_000);
+  private static final int QUEUE_CAPACITY = Integer.getInteger("benchmark.queue-capacity", 10_000);
+
+  @Test
+  @DisplayName("내역 기록 - Table 직접 기록/write-behind worker 수별 비교")
+  void compareWriteBehind() throws InterruptedException {
+    System.out.printf("rows=%d, callers=%d, users=%d, queue-capacity=%d%n", ROWS, CALLERS, USERS,
+        QUEUE_CAPACITY);
+    System.out.printf("%-22s %10s %10s %10s %12s %10s %8s%n", "repository", "p50(ms)",
+        "p99(ms)", "max(ms)", "elapsed(ms)", "rows/s", "failed");
+
+    run("table", new PointHistoryRepositoryImpl(new PointHistoryTable()));
+    for (int workers : new int[]{1, 16, 64}) {
+      run("write-behind(" + workers + ")", new WriteBehindPointHistoryRepository(
+          new PointHistoryRepositoryImpl(new PointHistoryTable()), workers, QUEUE_CAPACITY,
+          Durability.ACK_ON_ENQUEUE, Duration.ofSeconds(1)));
+    }
+  }
+
+  /**
+   * 모든 기록 요청이 반환된 뒤 write-behind 저장소를 종료하여, 대기 중인 내역이 모두 기록될 때까지의 시간을 측정합니다.
+   */
+  private static void run(String name, PointHistoryRepository repository)
+      throws InterruptedException {
+    final long[] latencies = new long[ROWS];
+    final AtomicInteger next = new AtomicInteger();
+    final AtomicInteger failed = new AtomicInteger();
+    final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+
+    final long start = System.nanoTime();
+    CompletableFuture.allOf(IntStream.range(0, CALLERS)
+        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+          int index;
+          while ((index = next.getAndIncrement()) < ROWS) {
+            final long userId = ThreadLocalRandom.current().nextLong(1, USERS + 1);
+            final long begin = System.nanoTime();
+            try {
+              repository.insert(PointHistory.from(userId, 100L, TransactionType.CHARGE,
+                  System.currentTimeMillis()));
+            } catch (RuntimeException e) {
+              failed.incrementAndGet();
+            }
+            latencies[index] = System.nanoTime() - begin;
+          }
+        }, callers))
+        .toArray(CompletableFuture[]::new)).join();
+    if (repository instanceof WriteBehindPointHistoryRepository writeBehind) {
+      writeBehind.close();
+    }
+    final long elapsed = System.nanoTime() - start;
+    callers.shutdown();
+
+    Arrays.sort(latencies);
+    System.out.printf("%-22s %10.1f %10.1f %10.1f %12d %10.1f %8d%n", name,
+        latencies[ROWS / 2] / 1e6, latencies[(int) (ROWS * 0.99)] / 1e6,
+        latencies[ROWS - 1] / 1e6, elapsed / 1_000_000, ROWS / (elapsed / 1e9), failed.get());
+  }
+}
@@ -0,0 +1,365 @@
+package io.hhplus.tdd.point.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.impl.WriteBehindPointHistoryRepository.Durability;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindPointHistoryRepositoryTest {
+
+  private WriteBehindPointHistoryRepository target;
+
+  @Mock
+  private PointHistoryRepository delegate;
+
+  private final AtomicLong cursor = new AtomicLong(1);
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    target.close();
+  }
+
+  @Test
+  @DisplayName("ack-on-enqueue - Table 기록 전에 반환")
+  void shouldReturnBeforePersistWhenAckOnEnqueue() {
+    // given
+    final CountDownLatch latch = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      latch.await();
+      return persisted(invocation.getArgument(0));
+    }).when(delegate).insert(any());
+    target = new WriteBehindPointHistoryRepository(delegate, 1, 10, Durability.ACK_ON_ENQUEUE,
+        Duration.ofSeconds(1));
+    final PointHistory pointHistory = PointHistory.from(1L, 100L, TransactionType.CHARGE,
+        System.currentTimeMillis());
+
+    // when
+    final var result = target.insert(pointHistory);
+
+    // then
+    assertThat(result).isEqualTo(pointHistory);
+    latch.countDown();
+    verify(delegate, timeout(1000)).insert(pointHistory);
+  }
+
+  @Test
+  @DisplayName("ack-on-persist - Table 기록 후 기록된 내역을 반환")
+  void shouldReturnPersistedHistoryWhenAckOnPersist() {
+    // given
+    doAnswer(invocation -> persisted(invocation.getArgument(0))).when(delegate).insert(any());
+    target = new WriteBehindPointHistoryRepository(delegate, 1, 10, Durability.ACK_ON_PERSIST,
+        Duration.ofSeconds(1));
+    final PointHistory pointHistory = PointHistory.from(1L, 100L, TransactionType.CHARGE,
+        System.currentTimeMillis());
+
+    // when
+    final var result = target.insert(pointHistory);
+
+    // then
+    assertThat(result.id()).isPositive();
+    assertThat(result.amount()).isEqualTo(100L);
+  }
+
+  @Test
+  @DisplayName("조회 시 대기 중인 내역이 기록된 뒤 Table 을 조회")
+  void shouldWaitPendingHistoriesBeforeFind() {
+    // given
+    final List<PointHistory> persistedHistories = new CopyOnWriteArrayList<>();
+    doAnswer(invocation -> {
+      Thread.sleep(50);
+      final PointHistory persisted = persisted(invocation.getArgument(0));
+      persistedHistories.add(persisted);
+      return persisted;
+    }).when(delegate).insert(any());
+    doAnswer(invocation -> List.copyOf(persistedHistories)).when(delegate).findAllByUserId(1L);
+    target = new WriteBehindPointHistoryRepository(delegate, 1, 10, Durability.ACK_ON_ENQUEUE,
+        Duration.ofSeconds(1));
+    target.insert(PointHistory.from(1L, 100L, TransactionType.CHARGE, System.currentTimeMillis()));
+    target.insert(PointHistory.from(1L, 50L, TransactionType.USE, System.currentTimeMillis()));
+
+    // when
+    final var result = target.findAllByUserId(1L);
+
+    // then
+    assertThat(result).hasSize(2);
+    assertThat(result.get(0).type()).isEqualTo(TransactionType.CHARGE);
+    assertThat(result.get(1).type()).isEqualTo(TransactionType.USE);
+  }
+
+  @Test
+  @DisplayName("queue 가 가득 차면 실패시키지 않고 요청 스레드에서 직접 기록")
+  void shouldPersistInlineWhenQueueIsFull() {
+    // given
+    final CountDownLatch latch = new CountDownLatch(1);
+    final PointHistory blocked = PointHistory.from(1L, 100L, TransactionType.CHARGE,
+        System.currentTimeMillis());
+    doAnswer(invocation -> {
+      if (invocation.getArgument(0) == blocked) {
+        latch.await();
+      }
+      return persisted(invocation.getArgument(0));
+    }).when(delegate).insert(any());
+    target = new WriteBehindPointHistoryRepository(delegate, 1, 1, Durability.ACK_ON_ENQUEUE,
+        Duration.ofMillis(10));
+    // NOTE: 첫 번째 내역은 worker 가 꺼내어 기록 중이고, 두 번째 내역이 queue 를 채웁니다.
+    target.insert(blocked);
+    verify(delegate, timeout(1000)).insert(blocked);
+    target.insert(PointHistory.from(1L, 200L, TransactionType.CHARGE,
+        System.currentTimeMillis()));
+    final PointHistory otherUser = PointHistory.from(2L, 300L, TransactionType.CHARGE,
+        System.currentTimeMillis());
+
+    // when
+    final PointHistory result = target.insert(otherUser);
+
+    // then
+    assertThat(result.id()).isPositive();
+    assertThat(result.amount()).isEqualTo(300L);
+    verify(delegate).insert(otherUser);
+    latch.countDown();
+  }
+
+  @Test
+  @DisplayName("queue 가 가득 차면 적재를 기다리지 않고 바로 직접 기록")
+  void shouldPersistInlineWithoutWaitingWhenQueueIsFull() {
+    // given
+    final CountDownLatch latch = new CountDownLatch(1);
+    final PointHistory blocked = PointHistory.from(1L, 100L, TransactionType.CHARGE,
+        System.currentTimeMillis());
+    doAnswer(invocation -> {
+      if (invocation.getArgument(0) == blocked) {
+        latch.await();
+      }
+      return persisted(invocation.getArgument(0));
+    }).when(delegate).insert(any());
+    target = new WriteBehindPointHistoryRepository(delegate, 1, 1, Durability.ACK_ON_ENQUEUE,
+        Duration.ofSeconds(10));
+    target.insert(blocked);
+    verify(delegate, timeout(1000)).insert(blocked);
+    target.insert(PointHistory.from(1L, 200L, TransactionType.CHARGE,
+        System.currentTimeMillis()));
+    final PointHistory otherUser = PointHistory.from(2L, 300L, TransactionType.CHARGE,
+        System.currentTimeMillis());
+
+    // when
+    final PointHistory result = assertTimeoutPreemptively(Duration.ofMillis(500),
+        () -> target.insert(otherUser));
+
+    // then
+    assertThat(result.amount()).isEqualTo(300L);
+    latch.countDown();
+  }
+
+  @Test
+  @DisplayName("서로 다른 worker 의 사용자 내역은 다른 사용자의 기록을 기다리지 않고 기록")
+  void shouldPersistOtherUsersConcurrently() {
+    // given
+    final CountDownLatch latch = new CountDownLatch(1);
+    final PointHistory blocked = PointHistory.from(1L, 100L, TransactionType.CHARGE,
+        System.currentTimeMillis());
+    doAnswer(invocation -> {
+      if (invocation.getArgument(0) == blocked) {
+        latch.await();
+      }
+      return persisted(invocation.getArgument(0));
+    }).when(delegate).insert(any());
+    target = new WriteBehindPointHistoryRepository(delegate, 2, 10, Durability.ACK_ON_ENQUEUE,
+        Duration.ofSeconds(1));
+    target.insert(blocked);
+    verify(delegate, timeout(1000)).insert(blocked);
+    final PointHistory otherUser = PointHistory.from(2L, 300L, TransactionType.CHARGE,
+        System.currentTimeMillis());
+
+    // when
+    target.insert(otherUser);
+
+    // then
+    verify(delegate, timeout(1000)).insert(otherUser);
+    latch.countDown();
+  }
+
+  @Test
+  @DisplayName("조회 시 readTimeout 안에 대기 중인 내역이 기록되지 않으면 POINT_HISTORY_WRITE_PENDING")
+  void shouldFailFindWhenPendingHistoriesAreNotPersistedInTime() {
+    // given
+    final CountDownLatch latch = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      latch.await();
+      return persisted(invocation.getArgument(0));
+    }).when(delegate).insert(any());
+    target = new WriteBehindPointHistoryRepository(delegate, 1, 10, Durability.ACK_ON_ENQUEUE,
+        Duration.ofMillis(50));
+    target.insert(PointHistory.from(1L, 100L, TransactionType.CHARGE, System.currentTimeMillis()));
+
+    // when
+    final var result = assertThrows(BusinessException.class, () -> target.findAllByUserId(1L));
+
+    // then
+    assertThat(result.getErrorCode()).isEqualTo(PointErrorCode.POINT_HISTORY_WRITE_PENDING);
+    latch.countDown();
+  }
+
+  @Test
+  @DisplayName("queue 가 가득 차 직접 기록하는 경우에도 같은 사용자의 내역은 적재된 순서대로 기록")
+  void shouldKeepUserOrderWhenPersistingInline() throws Exception {
+    // given
+    final CountDownLatch latch = new CountDownLatch(1);
+    final PointHistory first = PointHistory.from(1L, 100L, TransactionType.CHARGE, 1L);
+    final PointHistory second = PointHistory.from(1L, 200L, TransactionType.CHARGE, 2L);
+    final PointHistory third = PointHistory.from(1L, 300L, TransactionType.USE, 3L);
+    doAnswer(invocation -> {
+      if (invocation.getArgument(0) == first) {
+        latch.await();
+      }
+      return persisted(invocation.getArgument(0));
+    }).when(delegate).insert(any());
+    target = new WriteBehindPointHistoryRepository(delegate, 1, 1, Durability.ACK_ON_ENQUEUE,
+        Duration.ofMillis(10));
+    target.insert(first);
+    verify(delegate, timeout(1000)).insert(first);
+    target.insert(second);
+
+    // when
+    final CompletableFuture<PointHistory> inline =
+        CompletableFuture.supplyAsync(() -> target.insert(third));
+    Thread.sleep(50);
+    final boolean doneBeforeRelease = inline.isDone();
+    latch.countDown();
+    inline.join();
+
+    // then
+    assertThat(doneBeforeRelease).isFalse();
+    final InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).insert(first);
+    inOrder.verify(delegate).insert(second);
+    inOrder.verify(delegate).insert(third);
+  }
+
+  @Test
+  @DisplayName("종료 후 적재하면 POINT_HISTORY_WRITER_CLOSED")
+  void shouldRejectAfterClose() throws InterruptedException {
+    // given
+    target = new WriteBehindPointHistoryRepository(delegate, 1, 1, Durability.ACK_ON_ENQUEUE,
+        Duration.ofMillis(10));
+    target.close();
+
+    // when
+    final var result = assertThrows(BusinessException.class, () -> target.insert(
+        PointHistory.from(1L, 100L, TransactionType.CHARGE, System.currentTimeMillis())));
+
+    // then
+    assertThat(result.getErrorCode()).isEqualTo(PointErrorCode.POINT_HISTORY_WRITER_CLOSED);
+  }
+
+  @Test
+  @DisplayName("종료 시 대기 중인 내역을 모두 기록")
+  void shouldFlushPendingHistoriesOnClose() throws InterruptedException {
+    // given
+    doAnswer(invocation -> {
+      Thread.sleep(10);
+      return persisted(invocation.getArgument(0));
+    }).when(delegate).insert(any());
+    target = new WriteBehindPointHistoryRepository(delegate, 1, 100, Durability.ACK_ON_ENQUEUE,
+        Duration.ofSeconds(1));
+    for (int i = 0; i < 10; i++) {
+      target.insert(PointHistory.from(1L, 100L, TransactionType.CHARGE,
+          System.currentTimeMillis()));
+    }
+
+    // when
+    target.close();
+
+    // then
+    verify(delegate, times(10)).insert(any());
+    assertThat(target.pendingSize()).isZero();
+  }
+
+  @Test
+  @DisplayName("종료와 동시에 적재한 내역은 기록되거나 POINT_HISTORY_WRITER_CLOSED 로 거절되며, 이후 조회가 멈추지 않음")
+  void shouldNotStrandHistoriesEnqueuedWhileClosing() throws Exception {
+    // given
+    final List<PointHistory> persistedHistories = new CopyOnWriteArrayList<>();
+    doAnswer(invocation -> {
+      final PointHistory persisted = persisted(invocation.getArgument(0));
+      persistedHistories.add(persisted);
+      return persisted;
+    }).when(delegate).insert(any());
+    target = new WriteBehindPointHistoryRepository(delegate, 1, 100, Durability.ACK_ON_PERSIST,
+        Duration.ofMillis(10));
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    final CountDownLatch start = new CountDownLatch(1);
+    final CompletableFuture<?>[] inserts = IntStream.rangeClosed(1, 8)
+        .mapToObj(userId -> CompletableFuture.runAsync(() -> {
+          await(start);
+          for (int i = 0; i < 1_000; i++) {
+            try {
+              target.insert(PointHistory.from(userId, 100L, TransactionType.CHARGE, i + 1));
+            } catch (BusinessException e) {
+              assertThat(e.getErrorCode()).isEqualTo(PointErrorCode.POINT_HISTORY_WRITER_CLOSED);
+              return;
+            }
+          }
+        }, executor))
+        .toArray(CompletableFuture[]::new);
+
+    // when
+    start.countDown();
+    Thread.sleep(5);
+    target.close();
+
+    // then
+    // NOTE: ack-on-persist 이므로 종료 후 queue 에 남은 내역이 있다면 적재한 요청이 끝나지 않습니다.
+    CompletableFuture.allOf(inserts).get(5, TimeUnit.SECONDS);
+    executor.shutdown();
+    doAnswer(invocation -> List.copyOf(persistedHistories)).when(delegate).findAllByUserId(any());
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+      for (long userId = 1; userId <= 8; userId++) {
+        target.findAllByUserId(userId);
+      }
+    });
+    assertThat(target.pendingSize()).isZero();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private PointHistory persisted(PointHistory pointHistory) {
+    return new PointHistory(cursor.getAndIncrement(), pointHistory.userId(),
+        pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+  }
+}
@@ -0,0 +1,79 @@
+package io.hhplus.tdd.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointRepository;
+import io.hhplus.tdd.point.service.impl.ShardedPointServiceImpl;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "point.service.mode=sharded")
+class ShardedPointServiceTest {
+
+  @Autowired
+  private PointService target;
+
+  @Autowired
+  private PointRepository pointRepository;
+
+  @Autowired
+  private PointHistoryRepository pointHistoryRepository;
+
+  @Test
+  @DisplayName("sharded 모드 - 포인트 충전/사용 동시성 검증")
+  void shouldSuccessfullyChargeAndUsePointConcurrently() {
+    // given
+    assertThat(target).isInstanceOf(ShardedPointServiceImpl.class);
+    final Long userId = 1L;
+    final Long point = 100000L;
+    final UserPoint userPoint = UserPoint.from(userId, point, System.currentTimeMillis());
+    // NOTE: insert가 없어 update로 초기값 설정
+    pointRepository.update(userPoint);
+    final int numOperations = 30;
+    final List<Long> amounts = IntStream.range(0, numOperations)
+        .mapToObj(i -> 50L * (i + 1))
+        .toList();
+
+    // NOTE: 금액은 모두 50 의 배수이므로 금액이 아닌 순번으로 충전/사용을 나누어 두 요청이 모두 섞이도록 합니다.
+    final List<Long> charged = IntStream.range(0, numOperations).filter(i -> i % 2 == 0)
+        .mapToObj(amounts::get)
+        .toList();
+    final List<Long> used = IntStream.range(0, numOperations).filter(i -> i % 2 != 0)
+        .mapToObj(amounts::get)
+        .toList();
+
+    List<CompletableFuture<Void>> futures = IntStream.range(0, numOperations)
+        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+          if (i % 2 == 0) {
+            target.charge(UserPointCommand.Charge.from(userId, amounts.get(i)));
+          } else {
+            target.use(UserPointCommand.Use.from(userId, amounts.get(i)));
+          }
+        }))
+        .toList();
+
+    // when
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    // then
+    // NOTE: Table 에는 비동기로 반영되므로 shard 가 보관한 잔액을 조회합니다.
+    final var result = target.getUserPoint(UserPointCommand.GetUserPoint.from(userId));
+    assertThat(result.point()).isEqualTo(
+        point + charged.stream().reduce(0L, Long::sum) - used.stream().reduce(0L, Long::sum));
+    final var pointHistories = pointHistoryRepository.findAllByUserId(userId);
+    assertThat(pointHistories).hasSize(numOperations);
+    assertThat(pointHistories).filteredOn(it -> it.type() == TransactionType.USE)
+        .extracting(PointHistory::amount)
+        .containsExactlyInAnyOrderElementsOf(used);
+  }
+}
@@ -0,0 +1,142 @@
+package io.hhplus.tdd.point.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointRepository;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MailboxPointServiceImplTest {
+
+  private MailboxPointServiceImpl target;
+
+  @Mock
+  private PointRepository pointRepository;
+
+  @Mock
+  private PointHistoryRepository pointHistoryRepository;
+
+  // NOTE: drainer 실행 시점을 테스트에서 제어하기 위해 작업을 쌓아두기만 하는 executor 를 사용합니다.
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+  @BeforeEach
+  void setUp() {
+    target = new MailboxPointServiceImpl(pointRepository, pointHistoryRepository, tasks::add, 256);
+  }
+
+  @Test
+  @DisplayName("mailbox 에 쌓인 충전/사용 명령을 한 번의 잔액 갱신으로 반영")
+  void shouldCommitQueuedCommandsWithSingleUpdate() {
+    // given
+    final Long userId = 1L;
+    final Long point = 100L;
+    final UserPoint userPoint = UserPoint.from(userId, point, System.currentTimeMillis());
+    final UserPoint savedUserPoint = UserPoint.from(userId, 170L, System.currentTimeMillis());
+    doReturn(Optional.of(userPoint)).when(pointRepository).findById(userId);
+    doReturn(savedUserPoint).when(pointRepository).update(argThat(up -> up.point() == 170L));
+
+    final var charge = target.chargeAsync(UserPointCommand.Charge.from(userId, 100L));
+    final var use = target.useAsync(UserPointCommand.Use.from(userId, 30L));
+
+    // when
+    runTasks();
+
+    // then
+    assertThat(charge.join().point()).isEqualTo(200L);
+    assertThat(use.join()).isEqualTo(savedUserPoint);
+    verify(pointRepository, times(1)).findById(userId);
+    verify(pointRepository, times(1)).update(any());
+    verify(pointHistoryRepository, times(2)).insert(any());
+  }
+
+  @Test
+  @DisplayName("잔액을 초과하는 사용 명령만 실패하고 나머지 명령은 반영")
+  void shouldRejectOnlyOverdrawingCommand() {
+    // given
+    final Long userId = 1L;
+    final Long point = 100L;
+    final UserPoint userPoint = UserPoint.from(userId, point, System.currentTimeMillis());
+    doReturn(Optional.of(userPoint)).when(pointRepository).findById(userId);
+    doReturn(UserPoint.from(userId, 40L, System.currentTimeMillis())).when(pointRepository)
+        .update(argThat(up -> up.point() == 40L));
+
+    final var use1 = target.useAsync(UserPointCommand.Use.from(userId, 60L));
+    final var use2 = target.useAsync(UserPointCommand.Use.from(userId, 50L));
+
+    // when
+    runTasks();
+
+    // then
+    assertThat(use1.join().point()).isEqualTo(40L);
+    final var result = assertThrows(CompletionException.class, use2::join);
+    assertThat(result.getCause()).isInstanceOf(BusinessException.class);
+    assertThat(result.getCause().getMessage())
+        .isEqualTo(PointErrorCode.POINT_NOT_ENOUGH.getMessage());
+    verify(pointHistoryRepository, times(1)).insert(any());
+  }
+
+  @Test
+  @DisplayName("모든 명령이 실패하면 잔액을 갱신하지 않음")
+  void shouldNotUpdateWhenAllCommandsRejected() {
+    // given
+    final Long userId = 1L;
+    final UserPoint userPoint = UserPoint.from(userId, 10L, System.currentTimeMillis());
+    doReturn(Optional.of(userPoint)).when(pointRepository).findById(userId);
+
+    final var use = target.useAsync(UserPointCommand.Use.from(userId, 50L));
+
+    // when
+    runTasks();
+
+    // then
+    assertThat(use).isCompletedExceptionally();
+    verify(pointRepository, never()).update(any());
+    verify(pointHistoryRepository, never()).insert(any());
+  }
+
+  @Test
+  @DisplayName("포인트 충전 실패 - userPoint가 null인 경우")
+  void shouldFailToChargePointWhenUserPointIsNull() {
+    // given
+    final Long userId = 1L;
+    doReturn(Optional.empty()).when(pointRepository).findById(userId);
+
+    final var charge = target.chargeAsync(UserPointCommand.Charge.from(userId, 100L));
+
+    // when
+    runTasks();
+
+    // then
+    final var result = assertThrows(CompletionException.class, charge::join);
+    assertThat(result.getCause().getMessage())
+        .isEqualTo(PointErrorCode.USER_POINT_NOT_FOUND.getMessage());
+  }
+
+  private void runTasks() {
+    Runnable task;
+    while ((task = tasks.poll()) != null) {
+      task.run();
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package io.hhplus.tdd.point.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.lock.LockRegistry;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.OptimisticPointRepository;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticPointServiceImplTest {
+
+  private OptimisticPointServiceImpl target;
+
+  @Mock
+  private OptimisticPointRepository pointRepository;
+
+  @Mock
+  private PointHistoryRepository pointHistoryRepository;
+
+  @Mock
+  private LockRegistry lockRegistry;
+
+  @BeforeEach
+  void setUp() {
+    target = new OptimisticPointServiceImpl(pointRepository, pointHistoryRepository, lockRegistry,
+        Runnable::run, 2, Duration.ofNanos(1), Duration.ofNanos(10));
+  }
+
+  @Test
+  @DisplayName("version 비교에 실패하면 다시 조회하여 lock 없이 갱신")
+  void shouldRetryWithoutLockWhenConflict() {
+    // given
+    final long userId = 1L;
+    final UserPoint stale = new UserPoint(userId, 100L, 1000L, 1L);
+    final UserPoint current = new UserPoint(userId, 200L, 2000L, 2L);
+    final UserPoint saved = new UserPoint(userId, 250L, 3000L, 3L);
+    doReturn(Optional.of(stale), Optional.of(current)).when(pointRepository).findById(userId);
+    doReturn(Optional.empty()).when(pointRepository)
+        .compareAndSet(argThat(up -> up.version() == 1L), any());
+    doReturn(Optional.of(saved)).when(pointRepository)
+        .compareAndSet(argThat(up -> up.version() == 2L), argThat(up -> up.point() == 250L));
+
+    // when
+    final var result = target.charge(UserPointCommand.Charge.from(userId, 50L));
+
+    // then
+    assertThat(result).isEqualTo(saved);
+    assertThat(target.conflictCount()).isEqualTo(1);
+    assertThat(target.fallbackCount()).isZero();
+    verify(lockRegistry, never()).executeWithLock(anyLong(), any());
+    verify(pointHistoryRepository, times(1)).insert(any());
+  }
+
+  @Test
+  @DisplayName("재시도 횟수를 초과하면 사용자별 lock 을 획득한 뒤 갱신")
+  void shouldFallbackToLockWhenRetriesExceeded() {
+    // given
+    final long userId = 1L;
+    final UserPoint userPoint = new UserPoint(userId, 100L, 1000L, 1L);
+    final UserPoint saved = new UserPoint(userId, 150L, 2000L, 2L);
+    doReturn(Optional.of(userPoint)).when(pointRepository).findById(userId);
+    doReturn(Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(saved))
+        .when(pointRepository).compareAndSet(any(), any());
+    doAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get())
+        .when(lockRegistry).executeWithLock(anyLong(), any());
+
+    // when
+    final var result = target.charge(UserPointCommand.Charge.from(userId, 50L));
+
+    // then
+    assertThat(result).isEqualTo(saved);
+    assertThat(target.conflictCount()).isEqualTo(3);
+    assertThat(target.fallbackCount()).isEqualTo(1);
+    verify(lockRegistry).executeWithLock(anyLong(), any());
+    verify(pointHistoryRepository, times(1)).insert(any());
+  }
+
+  @Test
+  @DisplayName("lock 을 획득하여 갱신 중인 사용자의 다른 요청은 lock 없이 갱신하지 않고 lock 을 획득한 뒤 갱신")
+  void shouldRouteThroughLockWhileFallbackIsActive() {
+    // given
+    final long userId = 1L;
+    final UserPoint userPoint = new UserPoint(userId, 100L, 1000L, 1L);
+    final UserPoint saved = new UserPoint(userId, 150L, 2000L, 2L);
+    doReturn(Optional.of(userPoint)).when(pointRepository).findById(userId);
+    doReturn(Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(saved))
+        .when(pointRepository).compareAndSet(any(), any());
+    final AtomicBoolean nested = new AtomicBoolean();
+    doAnswer(invocation -> {
+      // NOTE: lock 으로 갱신하는 동안 같은 사용자의 다른 요청이 시작된 경우를 재현합니다.
+      if (nested.compareAndSet(false, true)) {
+        target.charge(UserPointCommand.Charge.from(userId, 10L));
+      }
+      return invocation.<Supplier<?>>getArgument(1).get();
+    }).when(lockRegistry).executeWithLock(anyLong(), any());
+
+    // when
+    target.charge(UserPointCommand.Charge.from(userId, 50L));
+
+    // then
+    assertThat(target.fallbackCount()).isEqualTo(1);
+    verify(lockRegistry, times(2)).executeWithLock(anyLong(), any());
+    verify(pointRepository, times(5)).compareAndSet(any(), any());
+  }
+
+  @Test
+  @DisplayName("lock 을 획득한 뒤에도 재시도 횟수를 초과하여 충돌하면 POINT_LOCK_TIMEOUT 으로 실패")
+  void shouldFailWhenConflictsPersistInsideLock() {
+    // given
+    final long userId = 1L;
+    doReturn(Optional.of(new UserPoint(userId, 100L, 1000L, 1L))).when(pointRepository)
+        .findById(userId);
+    doReturn(Optional.empty()).when(pointRepository).compareAndSet(any(), any());
+    doAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get())
+        .when(lockRegistry).executeWithLock(anyLong(), any());
+
+    // when & then
+    assertThatThrownBy(() -> target.charge(UserPointCommand.Charge.from(userId, 50L)))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode").isEqualTo(PointErrorCode.POINT_LOCK_TIMEOUT);
+    verify(pointRepository, times(6)).compareAndSet(any(), any());
+    verify(pointHistoryRepository, never()).insert(any());
+  }
+
+  @Test
+  @DisplayName("잔액이 부족하면 재시도하지 않고 실패")
+  void shouldFailWithoutRetryWhenPointNotEnough() {
+    // given
+    final long userId = 1L;
+    doReturn(Optional.of(new UserPoint(userId, 100L, 1000L, 1L))).when(pointRepository)
+        .findById(userId);
+
+    // when & then
+    assertThatThrownBy(() -> target.use(UserPointCommand.Use.from(userId, 200L)))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode").isEqualTo(PointErrorCode.POINT_NOT_ENOUGH);
+    verify(pointRepository, never()).compareAndSet(any(), any());
+    verify(pointHistoryRepository, never()).insert(any());
+  }
+}
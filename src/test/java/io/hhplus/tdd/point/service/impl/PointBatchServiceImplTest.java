@@ -0,0 +1,170 @@
+package io.hhplus.tdd.point.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.dto.UserPointCommand.BatchOperation;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.type.TransactionType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PointBatchServiceImplTest {
+
+  private static final int MAX_SIZE = 100;
+
+  private PointBatchServiceImpl target;
+
+  @Mock
+  private PointService pointService;
+
+  @BeforeEach
+  void setUp() {
+    target = new PointBatchServiceImpl(pointService, 4, MAX_SIZE);
+  }
+
+  @Test
+  @DisplayName("일괄 처리 요청 생성 실패 - 요청 항목이 비어있음")
+  void shouldFailToCreateBatchWhenOperationsIsEmpty() {
+    // given
+    final List<BatchOperation> operations = List.of();
+
+    // when
+    final var result = assertThrows(BusinessException.class,
+        () -> UserPointCommand.Batch.from(operations));
+
+    // then
+    assertThat(result.getMessage()).isEqualTo(PointErrorCode.INVALID_BATCH_SIZE.getMessage());
+  }
+
+  @Test
+  @DisplayName("일괄 처리 요청 생성 실패 - 비어있는 항목이 있음")
+  void shouldFailToCreateBatchWhenOperationIsNull() {
+    // given
+    final List<BatchOperation> operations = new ArrayList<>();
+    operations.add(BatchOperation.from(1L, TransactionType.CHARGE, 100L));
+    operations.add(null);
+
+    // when
+    final var result = assertThrows(BusinessException.class,
+        () -> UserPointCommand.Batch.from(operations));
+
+    // then
+    assertThat(result.getErrorCode()).isEqualTo(PointErrorCode.INVALID_BATCH_OPERATION);
+  }
+
+  @Test
+  @DisplayName("일괄 처리 실패 - 요청 항목이 최대 개수를 초과하면 처리하지 않음")
+  void shouldRejectBatchExceedingMaxSize() {
+    // given
+    final List<BatchOperation> operations = new ArrayList<>();
+    for (int i = 0; i <= MAX_SIZE; i++) {
+      operations.add(BatchOperation.from(1L, TransactionType.CHARGE, 100L));
+    }
+    final UserPointCommand.Batch command = UserPointCommand.Batch.from(operations);
+
+    // when
+    final var result = assertThrows(BusinessException.class,
+        () -> target.executeAsync(command));
+
+    // then
+    assertThat(result.getErrorCode()).isEqualTo(PointErrorCode.INVALID_BATCH_SIZE);
+    verify(pointService, never()).chargeAsync(any());
+  }
+
+  @Test
+  @DisplayName("일괄 처리 성공 - 항목별 결과를 요청 순서대로 반환")
+  void shouldReturnResultsInRequestOrder() {
+    // given
+    final UserPoint userPoint1 = UserPoint.from(1L, 100L, System.currentTimeMillis());
+    final UserPoint userPoint2 = UserPoint.from(2L, 50L, System.currentTimeMillis());
+    doReturn(CompletableFuture.completedFuture(userPoint1)).when(pointService)
+        .chargeAsync(UserPointCommand.Charge.from(1L, 100L));
+    doReturn(CompletableFuture.completedFuture(userPoint2)).when(pointService)
+        .chargeAsync(UserPointCommand.Charge.from(2L, 50L));
+    doReturn(CompletableFuture.failedFuture(
+        new BusinessException(PointErrorCode.POINT_NOT_ENOUGH))).when(pointService)
+        .useAsync(UserPointCommand.Use.from(1L, 500L));
+    final List<BatchOperation> operations = List.of(
+        BatchOperation.from(1L, TransactionType.CHARGE, 100L),
+        BatchOperation.from(2L, TransactionType.CHARGE, 50L),
+        BatchOperation.from(1L, TransactionType.USE, 500L));
+
+    // when
+    final var result = target.execute(UserPointCommand.Batch.from(operations));
+
+    // then
+    assertThat(result).hasSize(3);
+    assertThat(result.get(0).success()).isTrue();
+    assertThat(result.get(0).userPoint()).isEqualTo(userPoint1);
+    assertThat(result.get(1).success()).isTrue();
+    assertThat(result.get(1).userPoint()).isEqualTo(userPoint2);
+    assertThat(result.get(2).success()).isFalse();
+    assertThat(result.get(2).error().code()).isEqualTo(PointErrorCode.POINT_NOT_ENOUGH.getCode());
+  }
+
+  @Test
+  @DisplayName("일괄 처리 - 유효하지 않은 항목만 실패")
+  void shouldFailOnlyInvalidOperations() {
+    // given
+    final UserPoint userPoint = UserPoint.from(1L, 100L, System.currentTimeMillis());
+    doReturn(CompletableFuture.completedFuture(userPoint)).when(pointService)
+        .chargeAsync(UserPointCommand.Charge.from(1L, 100L));
+    final List<BatchOperation> operations = List.of(
+        BatchOperation.from(1L, TransactionType.CHARGE, 100L),
+        BatchOperation.from(1L, TransactionType.CHARGE, -1L),
+        BatchOperation.from(2L, null, 100L));
+
+    // when
+    final var result = target.execute(UserPointCommand.Batch.from(operations));
+
+    // then
+    assertThat(result.get(0).success()).isTrue();
+    assertThat(result.get(1).error().code()).isEqualTo(PointErrorCode.INVALID_AMOUNT.getCode());
+    assertThat(result.get(2).error().code())
+        .isEqualTo(PointErrorCode.INVALID_TRANSACTION_TYPE.getCode());
+    verify(pointService, never()).useAsync(any());
+  }
+
+  @Test
+  @DisplayName("일괄 처리 - 같은 유저의 요청은 이전 요청이 끝난 뒤 처리")
+  void shouldExecuteSameUserOperationsInOrder() {
+    // given
+    final CompletableFuture<UserPoint> first = new CompletableFuture<>();
+    final List<Long> submitted = new ArrayList<>();
+    doAnswer(invocation -> {
+      submitted.add(invocation.<UserPointCommand.Charge>getArgument(0).amount());
+      return submitted.size() == 1 ? first
+          : CompletableFuture.completedFuture(UserPoint.empty(1L));
+    }).when(pointService).chargeAsync(any());
+    final List<BatchOperation> operations = List.of(
+        BatchOperation.from(1L, TransactionType.CHARGE, 100L),
+        BatchOperation.from(1L, TransactionType.CHARGE, 200L));
+
+    // when
+    final var result = target.executeAsync(UserPointCommand.Batch.from(operations));
+
+    // then
+    assertThat(submitted).containsExactly(100L);
+    first.complete(UserPoint.empty(1L));
+    assertThat(result.join()).allMatch(r -> r.success());
+    assertThat(submitted).containsExactly(100L, 200L);
+  }
+}
@@ -0,0 +1,170 @@
+package io.hhplus.tdd.point.service.impl;
+
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.lock.impl.RefCountedLockRegistry;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointRepository;
+import io.hhplus.tdd.point.repository.impl.VersionedPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 사용자를 Zipfian 분포로 선택하여 충전할 때, 분포의 치우침(theta)에 따른 lock/optimistic 모드의 처리량을 비교합니다.
+ * <p>
+ * theta 가 0 이면 모든 사용자가 같은 확률로 선택되고, 클수록 소수의 사용자에게 요청이 몰려 충돌이 잦아집니다. 저장소는
+ * 조회/갱신마다 지정된 시간만큼 지연되는 메모리 저장소를 사용하며, optimistic 모드는 최신 잔액을 메모리에서 조회하므로
+ * 같은 저장소를 사용하는 lock 모드(lock+versioned)도 함께 측정합니다. ./gradlew benchmark 로 실행하며, -Dbenchmark.users,
+ * -Dbenchmark.threads, -Dbenchmark.io-micros, -Dbenchmark.duration-millis 로 조절할 수 있습니다.
+ */
+@Tag("benchmark")
+class PointConcurrencyModeBenchmarkTest {
+
+  private static final int USERS = Integer.getInteger("benchmark.users", 10_000);
+  private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+  private static final long IO_MICROS = Long.getLong("benchmark.io-micros", 200);
+  private static final long DURATION_MILLIS = Long.getLong("benchmark.duration-millis", 2_000);
+  private static final double[] THETAS = {0.0, 0.5, 0.9, 0.99, 1.2, 1.5};
+
+  @Test
+  @DisplayName("포인트 충전 처리량 - Zipfian 분포의 치우침별 lock/optimistic 비교")
+  void compareConcurrencyModes() throws Exception {
+    System.out.printf("users=%d, threads=%d, io=%dus, duration=%dms%n", USERS, THREADS,
+        IO_MICROS, DURATION_MILLIS);
+    System.out.printf("%-6s %9s %11s %13s %11s %14s %11s%n", "theta", "top user",
+        "lock ops/s", "lock+ver ops/s", "optim ops/s", "conflicts/op", "fallback %");
+
+    for (double theta : THETAS) {
+      final Zipfian zipfian = new Zipfian(USERS, theta);
+
+      final PointServiceImpl lock = new PointServiceImpl(new DelayedPointRepository(),
+          new NoOpPointHistoryRepository(), new RefCountedLockRegistry(), Runnable::run);
+      final double lockOps = run(lock, zipfian);
+
+      final PointServiceImpl versionedLock = new PointServiceImpl(
+          new VersionedPointRepository(new DelayedPointRepository()),
+          new NoOpPointHistoryRepository(), new RefCountedLockRegistry(), Runnable::run);
+      final double versionedLockOps = run(versionedLock, zipfian);
+
+      final OptimisticPointServiceImpl optimistic = new OptimisticPointServiceImpl(
+          new VersionedPointRepository(new DelayedPointRepository()),
+          new NoOpPointHistoryRepository(), new RefCountedLockRegistry(), Runnable::run, 3,
+          Duration.ofMillis(1), Duration.ofMillis(20));
+      final double optimisticOps = run(optimistic, zipfian);
+      final double operations = optimisticOps * DURATION_MILLIS / 1_000;
+
+      System.out.printf("%-6.2f %8.2f%% %11.0f %14.0f %11.0f %14.3f %10.2f%%%n", theta,
+          zipfian.probability(0) * 100, lockOps, versionedLockOps, optimisticOps,
+          optimistic.conflictCount() / operations,
+          optimistic.fallbackCount() * 100 / operations);
+    }
+  }
+
+  private double run(PointService service, Zipfian zipfian) throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+    final List<Future<Long>> results = new ArrayList<>();
+    for (int thread = 0; thread < THREADS; thread++) {
+      results.add(executor.submit(() -> {
+        long operations = 0;
+        while (System.nanoTime() < deadline) {
+          final long userId = zipfian.next(ThreadLocalRandom.current()) + 1;
+          service.charge(UserPointCommand.Charge.from(userId, 1L));
+          operations++;
+        }
+        return operations;
+      }));
+    }
+
+    long operations = 0;
+    for (Future<Long> result : results) {
+      operations += result.get();
+    }
+    executor.shutdown();
+    return operations * 1_000.0 / DURATION_MILLIS;
+  }
+
+  private static void delay() {
+    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(IO_MICROS));
+  }
+
+  /**
+   * 순위 k(0부터) 가 선택될 확률이 1 / (k + 1)^theta 에 비례하는 분포 - 누적 확률을 미리 계산하여 이진 탐색으로 선택합니다.
+   */
+  private static final class Zipfian {
+
+    private final double[] cumulative;
+
+    private Zipfian(int size, double theta) {
+      cumulative = new double[size];
+      double sum = 0;
+      for (int rank = 0; rank < size; rank++) {
+        sum += 1 / Math.pow(rank + 1, theta);
+        cumulative[rank] = sum;
+      }
+      for (int rank = 0; rank < size; rank++) {
+        cumulative[rank] /= sum;
+      }
+    }
+
+    private int next(ThreadLocalRandom random) {
+      final int index = Arrays.binarySearch(cumulative, random.nextDouble());
+      return Math.min(index < 0 ? -index - 1 : index, cumulative.length - 1);
+    }
+
+    private double probability(int rank) {
+      return rank == 0 ? cumulative[0] : cumulative[rank] - cumulative[rank - 1];
+    }
+  }
+
+  /**
+   * 조회/갱신마다 Table I/O 만큼 지연되는 메모리 저장소
+   */
+  private static final class DelayedPointRepository implements PointRepository {
+
+    private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<UserPoint> findById(long id) {
+      delay();
+      return Optional.of(table.getOrDefault(id, UserPoint.empty(id)));
+    }
+
+    @Override
+    public UserPoint update(UserPoint userPoint) {
+      delay();
+      final UserPoint savedUserPoint = UserPoint.from(userPoint.id(), userPoint.point(),
+          System.currentTimeMillis());
+      table.put(userPoint.id(), savedUserPoint);
+      return savedUserPoint;
+    }
+  }
+
+  private static final class NoOpPointHistoryRepository implements PointHistoryRepository {
+
+    @Override
+    public PointHistory insert(PointHistory pointHistory) {
+      return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(Long userId) {
+      return List.of();
+    }
+  }
+}
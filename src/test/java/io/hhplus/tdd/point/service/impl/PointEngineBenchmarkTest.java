@@ -0,0 +1,155 @@
+package io.hhplus.tdd.point.service.impl;
+
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.ledger.impl.AtomicPointLedger;
+import io.hhplus.tdd.point.lock.impl.RefCountedLockRegistry;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointRepository;
+import io.hhplus.tdd.point.repository.impl.VersionedPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 저장소 지연이 없는 메모리 저장소에서 lock/optimistic/ledger 모드의 충전/사용 처리량과 요청당 할당량을 비교합니다.
+ * <p>
+ * 한 사용자에게 모든 요청이 몰리는 경우(hot)와 여러 사용자에게 고르게 나뉘는 경우(many)를 측정하며, 할당량은 측정 중
+ * 살아있는 모든 스레드(저장소 기록 스레드 포함)의 할당 바이트 합계입니다. ./gradlew benchmark 로 실행하며,
+ * -Dbenchmark.users, -Dbenchmark.threads, -Dbenchmark.duration-millis 로 조절할 수 있습니다.
+ */
+@Tag("benchmark")
+class PointEngineBenchmarkTest {
+
+  private static final int USERS = Integer.getInteger("benchmark.users", 100_000);
+  private static final int THREADS = Integer.getInteger("benchmark.threads", 8);
+  private static final long DURATION_MILLIS = Long.getLong("benchmark.duration-millis", 2_000);
+
+  private static final com.sun.management.ThreadMXBean THREADS_BEAN =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  @Test
+  @DisplayName("포인트 충전/사용 처리량/할당량 - lock/optimistic/ledger 비교")
+  void compareEngines() throws Exception {
+    System.out.printf("users=%d, threads=%d, duration=%dms, cpus=%d%n", USERS, THREADS,
+        DURATION_MILLIS, Runtime.getRuntime().availableProcessors());
+    System.out.printf("%-6s %-12s %12s %12s%n", "users", "engine", "ops/s", "bytes/op");
+
+    for (int users : new int[]{1, USERS}) {
+      // NOTE: JIT 컴파일 전의 측정을 피하기 위해 사용자 분포마다 한 번씩 먼저 실행합니다.
+      for (boolean warmup : new boolean[]{true, false}) {
+        measure("lock", users, warmup, pushExecutor -> new PointServiceImpl(
+            new MemoryPointRepository(), new NoOpPointHistoryRepository(),
+            new RefCountedLockRegistry(), Runnable::run));
+        measure("optimistic", users, warmup, pushExecutor -> new OptimisticPointServiceImpl(
+            new VersionedPointRepository(new MemoryPointRepository()),
+            new NoOpPointHistoryRepository(), new RefCountedLockRegistry(), Runnable::run, 3,
+            Duration.ofMillis(1), Duration.ofMillis(20)));
+        measure("ledger", users, warmup, pushExecutor -> new LedgerPointServiceImpl(
+            new AtomicPointLedger(new MemoryPointRepository(), pushExecutor),
+            new NoOpPointHistoryRepository(), Runnable::run));
+      }
+    }
+  }
+
+  private void measure(String engine, int users, boolean warmup,
+      Function<ExecutorService, PointService> factory) throws Exception {
+    final ExecutorService pushExecutor = Executors.newSingleThreadExecutor();
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    final PointService service = factory.apply(pushExecutor);
+    // NOTE: 스레드를 미리 생성하여 할당량 측정 대상에 포함합니다.
+    pushExecutor.submit(() -> null).get();
+    for (int thread = 0; thread < THREADS; thread++) {
+      executor.submit(() -> null).get();
+    }
+
+    final long[] threadIds = THREADS_BEAN.getAllThreadIds();
+    final long[] allocatedBefore = THREADS_BEAN.getThreadAllocatedBytes(threadIds);
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+    final List<Future<Long>> results = new ArrayList<>();
+    for (int thread = 0; thread < THREADS; thread++) {
+      results.add(executor.submit(() -> {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        long operations = 0;
+        while (System.nanoTime() < deadline) {
+          final long userId = random.nextInt(users) + 1;
+          service.charge(UserPointCommand.Charge.from(userId, 2L));
+          service.use(UserPointCommand.Use.from(userId, 1L));
+          operations += 2;
+        }
+        return operations;
+      }));
+    }
+
+    long operations = 0;
+    for (Future<Long> result : results) {
+      operations += result.get();
+    }
+    final long allocated = allocatedSince(threadIds, allocatedBefore);
+    executor.shutdown();
+    pushExecutor.shutdown();
+    pushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+
+    if (!warmup) {
+      System.out.printf("%-6d %-12s %12.0f %12.1f%n", users, engine,
+          operations * 1_000.0 / DURATION_MILLIS, (double) allocated / operations);
+    }
+  }
+
+  /**
+   * 측정 시작 시 살아있던 스레드들이 이후 할당한 바이트 합계 - 종료된 스레드(-1)는 제외합니다.
+   */
+  private static long allocatedSince(long[] threadIds, long[] before) {
+    final long[] after = THREADS_BEAN.getThreadAllocatedBytes(threadIds);
+    long allocated = 0;
+    for (int i = 0; i < threadIds.length; i++) {
+      if (before[i] >= 0 && after[i] >= 0) {
+        allocated += after[i] - before[i];
+      }
+    }
+    return allocated;
+  }
+
+  private static final class MemoryPointRepository implements PointRepository {
+
+    private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<UserPoint> findById(long id) {
+      return Optional.of(table.getOrDefault(id, UserPoint.empty(id)));
+    }
+
+    @Override
+    public UserPoint update(UserPoint userPoint) {
+      table.put(userPoint.id(), userPoint);
+      return userPoint;
+    }
+  }
+
+  private static final class NoOpPointHistoryRepository implements PointHistoryRepository {
+
+    @Override
+    public PointHistory insert(PointHistory pointHistory) {
+      return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(Long userId) {
+      return List.of();
+    }
+  }
+}
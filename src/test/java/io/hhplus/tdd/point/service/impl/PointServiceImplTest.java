@@ -2,6 +2,7 @@ package io.hhplus.tdd.point.service.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doReturn;
 
@@ -10,17 +11,23 @@ import io.hhplus.tdd.point.dto.UserPointCommand;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.UserPoint;
 import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.lock.LockRegistry;
+import io.hhplus.tdd.point.lock.impl.RefCountedLockRegistry;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.PointRepository;
 import io.hhplus.tdd.point.type.TransactionType;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
 
 @ExtendWith(MockitoExtension.class)
 class PointServiceImplTest {
@@ -34,6 +41,12 @@ class PointServiceImplTest {
   @Mock
   private PointHistoryRepository pointHistoryRepository;
 
+  @Spy
+  private LockRegistry lockRegistry = new RefCountedLockRegistry();
+
+  @Spy
+  private Executor pointTaskExecutor = new SyncTaskExecutor();
+
   @Test
   @DisplayName("포인트 충전 실패 - userPoint가 null인 경우")
   void shouldFailToChargePointWhenUserPointIsNull() {
@@ -212,4 +225,96 @@ class PointServiceImplTest {
     assertThat(result.get(1)).isEqualTo(pointHistory2);
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("비동기 포인트 충전 성공")
+  void shouldSuccessfullyChargePointAsync() {
+    // given
+    final Long userId = 1L;
+    final Long point = 50L;
+    final Long amount = 100L;
+    final UserPoint userPoint = UserPoint.from(userId, point, System.currentTimeMillis());
+    final UserPoint updatedUserPoint = UserPoint.from(userId, point + amount,
+        System.currentTimeMillis());
+    final UserPointCommand.Charge command = UserPointCommand.Charge.from(userId, amount);
+    doReturn(Optional.of(userPoint)).when(pointRepository).findById(userId);
+    doReturn(updatedUserPoint).when(pointRepository)
+        .update(argThat(up -> up.id() == userId && up.point() == (point + amount)
+        ));
+
+    // when
+    final var result = target.chargeAsync(command).join();
+
+    // then
+    assertThat(result).isNotNull();
+    assertThat(result.id()).isEqualTo(userId);
+    assertThat(result.point()).isEqualTo(point + amount);
+  }
+
+  @Test
+  @DisplayName("비동기 포인트 사용 실패 - 포인트 부족")
+  void shouldFailToUsePointAsyncWhenPointIsNotEnough() {
+    // given
+    final Long userId = 1L;
+    final Long point = 50L;
+    final Long amount = 100L;
+    final UserPoint userPoint = UserPoint.from(userId, point, System.currentTimeMillis());
+    final UserPointCommand.Use command = UserPointCommand.Use.from(userId, amount);
+    doReturn(Optional.of(userPoint)).when(pointRepository).findById(userId);
+
+    // when
+    final var result = assertThrows(CompletionException.class,
+        () -> target.useAsync(command).join());
+
+    // then
+    assertThat(result.getCause()).isInstanceOf(BusinessException.class);
+    assertThat(result.getCause().getMessage())
+        .isEqualTo(PointErrorCode.POINT_NOT_ENOUGH.getMessage());
+  }
+
+  @Test
+  @DisplayName("포인트 충전/사용 내역 페이지 조회 성공 - 다음 페이지 있음")
+  void shouldSuccessfullyGetUserPointHistoryPageWithNextPage() {
+    // given
+    final Long userId = 1L;
+    final int limit = 2;
+    final UserPointCommand.GetUserPointHistoryPage command =
+        UserPointCommand.GetUserPointHistoryPage.from(userId, 10L, null, null, null, limit);
+    final List<PointHistory> pointHistories = List.of(
+        new PointHistory(11L, userId, 100L, TransactionType.CHARGE, System.currentTimeMillis()),
+        new PointHistory(12L, userId, 50L, TransactionType.USE, System.currentTimeMillis()),
+        new PointHistory(13L, userId, 30L, TransactionType.USE, System.currentTimeMillis()));
+    doReturn(pointHistories).when(pointHistoryRepository).findAllByQuery(
+        argThat(query -> query.userId() == userId && query.after() == 10L
+            && query.limit() == limit + 1));
+
+    // when
+    final var result = target.getUserPointHistoryPage(command);
+
+    // then
+    assertThat(result.histories()).hasSize(limit);
+    assertThat(result.histories()).extracting(PointHistory::id).containsExactly(11L, 12L);
+    assertThat(result.hasNext()).isTrue();
+    assertThat(result.nextCursor()).isEqualTo(12L);
+  }
+
+  @Test
+  @DisplayName("포인트 충전/사용 내역 페이지 조회 성공 - 마지막 페이지")
+  void shouldSuccessfullyGetUserPointHistoryPageWhenLastPage() {
+    // given
+    final Long userId = 1L;
+    final UserPointCommand.GetUserPointHistoryPage command =
+        UserPointCommand.GetUserPointHistoryPage.from(userId, null, null, null, null, 20);
+    final PointHistory pointHistory = new PointHistory(1L, userId, 100L, TransactionType.CHARGE,
+        System.currentTimeMillis());
+    doReturn(List.of(pointHistory)).when(pointHistoryRepository).findAllByQuery(any());
+
+    // when
+    final var result = target.getUserPointHistoryPage(command);
+
+    // then
+    assertThat(result.histories()).containsExactly(pointHistory);
+    assertThat(result.hasNext()).isFalse();
+    assertThat(result.nextCursor()).isEqualTo(1L);
+  }
+
+}
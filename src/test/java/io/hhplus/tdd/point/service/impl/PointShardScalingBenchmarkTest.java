@@ -0,0 +1,118 @@
+package io.hhplus.tdd.point.service.impl;
+
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.lock.impl.RefCountedLockRegistry;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * shard 수를 1 부터 두 배씩 늘리며 sharded 모드의 충전 처리량을 측정하고, 같은 요청 스레드 수의 lock 모드와 비교합니다.
+ * <p>
+ * 저장소 지연이 없는 메모리 저장소를 사용하고 I/O 를 event loop 에서 바로 수행하여, shard 의 처리 능력만 측정합니다. shard
+ * 수가 코어 수를 넘으면 처리량이 늘지 않으므로 -Dbenchmark.max-shards 를 코어 수에 맞춰 실행합니다. ./gradlew benchmark 로
+ * 실행하며, -Dbenchmark.users, -Dbenchmark.threads, -Dbenchmark.duration-millis 로 조절할 수 있습니다.
+ */
+@Tag("benchmark")
+class PointShardScalingBenchmarkTest {
+
+  private static final int USERS = Integer.getInteger("benchmark.users", 100_000);
+  private static final int THREADS = Integer.getInteger("benchmark.threads", 64);
+  private static final int MAX_SHARDS = Integer.getInteger("benchmark.max-shards",
+      Math.max(Runtime.getRuntime().availableProcessors(), 4));
+  private static final long DURATION_MILLIS = Long.getLong("benchmark.duration-millis", 2_000);
+
+  @Test
+  @DisplayName("포인트 충전 처리량 - shard 수별 sharded 모드와 lock 모드 비교")
+  void compareShardCounts() throws Exception {
+    System.out.printf("users=%d, threads=%d, duration=%dms, cpus=%d%n", USERS, THREADS,
+        DURATION_MILLIS, Runtime.getRuntime().availableProcessors());
+    System.out.printf("%-10s %12s%n", "engine", "ops/s");
+
+    // NOTE: JIT 컴파일 전의 측정을 피하기 위해 한 번 먼저 실행합니다.
+    run(new PointServiceImpl(new MemoryPointRepository(), new NoOpPointHistoryRepository(),
+        new RefCountedLockRegistry(), Runnable::run));
+    System.out.printf("%-10s %12.0f%n", "lock", run(new PointServiceImpl(
+        new MemoryPointRepository(), new NoOpPointHistoryRepository(),
+        new RefCountedLockRegistry(), Runnable::run)));
+
+    for (int shards = 1; shards <= MAX_SHARDS; shards <<= 1) {
+      final ShardedPointServiceImpl service = new ShardedPointServiceImpl(
+          new MemoryPointRepository(), new NoOpPointHistoryRepository(), Runnable::run, shards,
+          Integer.MAX_VALUE, Duration.ofSeconds(1));
+      if (shards == 1) {
+        run(service);
+      }
+      System.out.printf("%-10s %12.0f%n", "shards=" + shards, run(service));
+      service.close();
+    }
+  }
+
+  private double run(PointService service) throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+    final List<Future<Long>> results = new ArrayList<>();
+    for (int thread = 0; thread < THREADS; thread++) {
+      results.add(executor.submit(() -> {
+        long operations = 0;
+        while (System.nanoTime() < deadline) {
+          final long userId = ThreadLocalRandom.current().nextInt(USERS) + 1;
+          service.charge(UserPointCommand.Charge.from(userId, 1L));
+          operations++;
+        }
+        return operations;
+      }));
+    }
+
+    long operations = 0;
+    for (Future<Long> result : results) {
+      operations += result.get();
+    }
+    executor.shutdown();
+    return operations * 1_000.0 / DURATION_MILLIS;
+  }
+
+  private static final class MemoryPointRepository implements PointRepository {
+
+    private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<UserPoint> findById(long id) {
+      return Optional.of(table.getOrDefault(id, UserPoint.empty(id)));
+    }
+
+    @Override
+    public UserPoint update(UserPoint userPoint) {
+      table.put(userPoint.id(), userPoint);
+      return userPoint;
+    }
+  }
+
+  private static final class NoOpPointHistoryRepository implements PointHistoryRepository {
+
+    @Override
+    public PointHistory insert(PointHistory pointHistory) {
+      return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(Long userId) {
+      return List.of();
+    }
+  }
+}
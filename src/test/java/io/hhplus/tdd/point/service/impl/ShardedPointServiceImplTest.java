@@ -0,0 +1,228 @@
+package io.hhplus.tdd.point.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.hhplus.tdd.error.BusinessException;
+import io.hhplus.tdd.error.RetryLaterException;
+import io.hhplus.tdd.point.dto.UserPointCommand;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedPointServiceImplTest {
+
+  private static final Duration RETRY_AFTER = Duration.ofSeconds(2);
+
+  private ShardedPointServiceImpl target;
+
+  private final AtomicBoolean rejecting = new AtomicBoolean();
+
+  @Mock
+  private PointRepository pointRepository;
+
+  @Mock
+  private PointHistoryRepository pointHistoryRepository;
+
+  @BeforeEach
+  void setUp() {
+    // NOTE: I/O 를 event loop 에서 바로 수행하여 point executor 없이 검증합니다.
+    target = new ShardedPointServiceImpl(pointRepository, pointHistoryRepository, task -> {
+      if (rejecting.get()) {
+        throw new RejectedExecutionException();
+      }
+      task.run();
+    }, 4, 10_000, RETRY_AFTER);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    target.close();
+  }
+
+  @Test
+  @DisplayName("여러 사용자의 동시 충전/사용이 사용자별로 한 번 조회한 잔액에 모두 반영")
+  void shouldApplyConcurrentCommandsPerUser() {
+    // given
+    doReturn(Optional.empty()).when(pointRepository).findById(anyLong());
+    final int users = 100;
+    final int operations = 50;
+
+    // when
+    final CompletableFuture<?>[] futures = IntStream.range(0, users * operations)
+        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+          final long userId = i % users + 1;
+          target.charge(UserPointCommand.Charge.from(userId, 10L));
+          target.use(UserPointCommand.Use.from(userId, 3L));
+        }))
+        .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(futures).join();
+
+    // then
+    for (long userId = 1; userId <= users; userId++) {
+      assertThat(target.getUserPoint(UserPointCommand.GetUserPoint.from(userId)).point())
+          .isEqualTo(7L * operations);
+      verify(pointRepository, times(1)).findById(userId);
+    }
+    verify(pointHistoryRepository, times(users * operations * 2)).insert(any());
+  }
+
+  @Test
+  @DisplayName("잔액을 초과하는 사용은 실패하고 잔액 유지")
+  void shouldRejectOverdrawingUse() {
+    // given
+    final long userId = 1L;
+    doReturn(Optional.of(UserPoint.from(userId, 100L, 0L))).when(pointRepository)
+        .findById(userId);
+
+    // when
+    final BusinessException exception = assertThrows(BusinessException.class,
+        () -> target.use(UserPointCommand.Use.from(userId, 101L)));
+
+    // then
+    assertThat(exception.getMessage()).isEqualTo(PointErrorCode.POINT_NOT_ENOUGH.getMessage());
+    assertThat(target.getUserPoint(UserPointCommand.GetUserPoint.from(userId)).point())
+        .isEqualTo(100L);
+  }
+
+  @Test
+  @DisplayName("shard 의 대기열이 가득 차면 Retry-After 와 함께 POINT_SHARD_BUSY 로 거절")
+  void shouldRejectWithRetryLaterWhenShardQueueIsFull() throws Exception {
+    // given
+    final ShardedPointServiceImpl full = new ShardedPointServiceImpl(pointRepository,
+        pointHistoryRepository, Runnable::run, 1, 0, RETRY_AFTER);
+
+    // when
+    final RetryLaterException exception = assertThrows(RetryLaterException.class,
+        () -> full.charge(UserPointCommand.Charge.from(1L, 100L)));
+    full.close();
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(PointErrorCode.POINT_SHARD_BUSY);
+    assertThat(exception.getRetryAfter()).isEqualTo(RETRY_AFTER);
+    verify(pointRepository, never()).findById(anyLong());
+  }
+
+  @Test
+  @DisplayName("point executor 가 I/O 를 거절하면 event loop 에서 직접 수행하지 않고 잔액을 변경하기 전에 거절")
+  void shouldRejectBeforeUpdateWhenExecutorRejects() {
+    // given
+    final long userId = 1L;
+    doReturn(Optional.of(UserPoint.from(userId, 100L, 0L))).when(pointRepository)
+        .findById(userId);
+    target.charge(UserPointCommand.Charge.from(userId, 10L));
+
+    // when
+    rejecting.set(true);
+    final RetryLaterException charge = assertThrows(RetryLaterException.class,
+        () -> target.charge(UserPointCommand.Charge.from(userId, 10L)));
+    final RetryLaterException load = assertThrows(RetryLaterException.class,
+        () -> target.charge(UserPointCommand.Charge.from(2L, 10L)));
+    rejecting.set(false);
+
+    // then
+    assertThat(charge.getErrorCode()).isEqualTo(PointErrorCode.POINT_SHARD_BUSY);
+    assertThat(load.getErrorCode()).isEqualTo(PointErrorCode.POINT_SHARD_BUSY);
+    assertThat(target.getUserPoint(UserPointCommand.GetUserPoint.from(userId)).point())
+        .isEqualTo(110L);
+    verify(pointRepository, never()).findById(2L);
+    verify(pointHistoryRepository, times(1)).insert(any());
+  }
+
+  @Test
+  @DisplayName("내역 기록이 여러 스레드에서 수행되어도 한 사용자의 내역은 잔액에 반영된 순서대로 기록")
+  void shouldRecordHistoriesInOrderPerUser() throws Exception {
+    // given
+    final long userId = 1L;
+    doReturn(Optional.empty()).when(pointRepository).findById(userId);
+    final List<Long> recorded = Collections.synchronizedList(new ArrayList<>());
+    doAnswer(invocation -> {
+      final PointHistory pointHistory = invocation.getArgument(0);
+      LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(100_000));
+      recorded.add(pointHistory.amount());
+      return pointHistory;
+    }).when(pointHistoryRepository).insert(any());
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    final ShardedPointServiceImpl sharded = new ShardedPointServiceImpl(pointRepository,
+        pointHistoryRepository, executor, 1, 10_000, RETRY_AFTER);
+
+    // when
+    final CompletableFuture<?>[] futures = LongStream.rangeClosed(1, 200)
+        .mapToObj(amount -> sharded.chargeAsync(UserPointCommand.Charge.from(userId, amount)))
+        .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(futures).join();
+    sharded.close();
+    executor.shutdown();
+
+    // then
+    assertThat(recorded).containsExactlyElementsOf(
+        LongStream.rangeClosed(1, 200).boxed().toList());
+  }
+
+  @Test
+  @DisplayName("종료 후 요청은 POINT_SERVICE_CLOSED 로 거절")
+  void shouldRejectAfterClose() throws Exception {
+    // given
+    target.close();
+
+    // when
+    final BusinessException exception = assertThrows(BusinessException.class,
+        () -> target.charge(UserPointCommand.Charge.from(1L, 100L)));
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(PointErrorCode.POINT_SERVICE_CLOSED);
+  }
+
+  @Test
+  @DisplayName("종료 시 최신 잔액이 Table 에 기록")
+  void shouldWriteLatestPointOnClose() throws Exception {
+    // given
+    final long userId = 1L;
+    doReturn(Optional.empty()).when(pointRepository).findById(userId);
+    final CompletableFuture<?>[] futures = IntStream.range(0, 100)
+        .mapToObj(i -> target.chargeAsync(UserPointCommand.Charge.from(userId, 1L)))
+        .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(futures).join();
+
+    // when
+    target.close();
+
+    // then
+    final ArgumentCaptor<UserPoint> captor = ArgumentCaptor.forClass(UserPoint.class);
+    verify(pointRepository, atLeastOnce()).update(captor.capture());
+    assertThat(captor.getValue().point()).isEqualTo(100L);
+  }
+}